@@ -0,0 +1,101 @@
+package ma.enset.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Point d'entrée : {@code BenchmarkRunner [regex] [result.json]}.
+ * Les paramètres de mesure sont figés ici pour que deux exécutions soient comparables.
+ * À côté du résultat JMH, {@code <result>.env.json} décrit la JVM et la machine de mesure :
+ * deux fichiers ne se comparent que si leurs environnements sont identiques.
+ */
+public class BenchmarkRunner {
+
+    private static final int FORKS = 1;
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int MEASUREMENT_ITERATIONS = 5;
+    private static final List<String> JVM_ARGS = List.of("-Xms1g", "-Xmx1g");
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : ".*";
+        String result = args.length > 1 ? args[1] : "results/baseline.json";
+
+        Options options = new OptionsBuilder()
+                .include("ma\\.enset\\.benchmarks\\." + include)
+                .forks(FORKS)
+                .warmupIterations(WARMUP_ITERATIONS)
+                .measurementIterations(MEASUREMENT_ITERATIONS)
+                .jvmArgsAppend(JVM_ARGS.toArray(String[]::new))
+                .resultFormat(ResultFormatType.JSON)
+                .result(result)
+                .build();
+        new Runner(options).run();
+        writeEnvironment(Path.of(result.replaceFirst("\\.json$", "") + ".env.json"), include);
+    }
+
+    // Les JVM forkées par JMH sont lancées avec le même java que ce processus
+    private static void writeEnvironment(Path file, String include) {
+        Map<String, Object> environment = new LinkedHashMap<>();
+        environment.put("date", Instant.now().toString());
+        environment.put("include", include);
+        environment.put("javaVersion", System.getProperty("java.version"));
+        environment.put("vmName", System.getProperty("java.vm.name"));
+        environment.put("vmVersion", System.getProperty("java.vm.version"));
+        environment.put("vmVendor", System.getProperty("java.vm.vendor"));
+        environment.put("jvmArgs", String.join(" ", JVM_ARGS));
+        environment.put("forks", FORKS);
+        environment.put("warmupIterations", WARMUP_ITERATIONS);
+        environment.put("measurementIterations", MEASUREMENT_ITERATIONS);
+        environment.put("osName", System.getProperty("os.name"));
+        environment.put("osVersion", System.getProperty("os.version"));
+        environment.put("osArch", System.getProperty("os.arch"));
+        environment.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        environment.put("cpuModel", cpuModel());
+        if (ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean os) {
+            environment.put("physicalMemoryBytes", os.getTotalMemorySize());
+        }
+        try {
+            Files.writeString(file, toJson(environment), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Linux uniquement ; "unknown" ailleurs
+    private static String cpuModel() {
+        Path cpuinfo = Path.of("/proc/cpuinfo");
+        if (!Files.isReadable(cpuinfo)) return "unknown";
+        try (Stream<String> lines = Files.lines(cpuinfo)) {
+            return lines.filter(line -> line.startsWith("model name"))
+                    .map(line -> line.substring(line.indexOf(':') + 1).trim())
+                    .findFirst()
+                    .orElse("unknown");
+        } catch (IOException e) {
+            return "unknown";
+        }
+    }
+
+    private static String toJson(Map<String, Object> values) {
+        return values.entrySet().stream()
+                .map(entry -> "  \"" + entry.getKey() + "\": " + (entry.getValue() instanceof Number
+                        ? entry.getValue().toString()
+                        : "\"" + entry.getValue().toString().replace("\\", "\\\\").replace("\"", "\\\"") + "\""))
+                .collect(Collectors.joining(",\n", "{\n", "\n}\n"));
+    }
+}
@@ -0,0 +1,70 @@
+package ma.enset.benchmarks;
+
+import ma.enset.conferenceservice.dto.ConferenceResponseDTO;
+import ma.enset.conferenceservice.dto.KeynoteDTO;
+import ma.enset.conferenceservice.entities.Conference;
+import ma.enset.conferenceservice.entities.Review;
+import ma.enset.conferenceservice.enums.ConferenceType;
+import ma.enset.conferenceservice.mappers.ConferenceMapper;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Jeux de données déterministes (aucun aléa) partagés par les benchmarks.
+ */
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    static Conference conference(long id, int reviewCount) {
+        Conference conference = Conference.builder()
+                .id(id)
+                .titre("Spring Boot Microservices " + id)
+                .type(id % 2 == 0 ? ConferenceType.ACADEMIQUE : ConferenceType.COMMERCIALE)
+                .date(LocalDate.of(2026, 1, 1).plusDays(id % 365))
+                .duree(90)
+                .nombreInscrits((int) (id % 500))
+                .keynoteId(id % 50)
+                .build();
+        List<Review> reviews = new ArrayList<>(reviewCount);
+        for (int i = 0; i < reviewCount; i++) {
+            Review review = Review.builder()
+                    .id(id * 1000 + i)
+                    .date(LocalDate.of(2026, 2, 1).plusDays(i % 28))
+                    .texte("Très bonne présentation, contenu clair et exemples concrets. Review numéro " + i)
+                    .note(1 + i % 5)
+                    .conference(conference)
+                    .build();
+            reviews.add(review);
+            conference.applyNoteDelta(review.getNote(), 1);
+        }
+        conference.setReviews(reviews);
+        return conference;
+    }
+
+    static List<Conference> conferences(int count, int reviewsPerConference) {
+        List<Conference> conferences = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            conferences.add(conference(i, reviewsPerConference));
+        }
+        return conferences;
+    }
+
+    static KeynoteDTO keynote(long id) {
+        return KeynoteDTO.builder()
+                .id(id)
+                .nom("Alaoui")
+                .prenom("Yasmine")
+                .email("yasmine.alaoui" + id + "@enset.ma")
+                .fonction("Principal Engineer")
+                .build();
+    }
+
+    static ConferenceResponseDTO fullDto(int reviewCount) {
+        Conference conference = conference(1, reviewCount);
+        return new ConferenceMapper().toResponseDTO(conference, keynote(conference.getKeynoteId()));
+    }
+}
@@ -0,0 +1,60 @@
+package ma.enset.benchmarks;
+
+import ma.enset.conferenceservice.dto.ConferencePageDTO;
+import ma.enset.conferenceservice.dto.ConferenceResponseDTO;
+import ma.enset.conferenceservice.mappers.ConferenceMapper;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encodage / décodage Jackson de ConferenceResponseDTO (reviews + keynote imbriqués)
+ * et d'une page de liste, avec la même configuration par défaut que le service.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JsonBenchmark {
+
+    @Param({"0", "10", "100", "1000"})
+    private int reviewsPerConference;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private ConferenceResponseDTO detail;
+    private byte[] detailJson;
+    private ConferencePageDTO page;
+    private byte[] pageJson;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        detail = Fixtures.fullDto(reviewsPerConference);
+        detailJson = jsonMapper.writeValueAsBytes(detail);
+        page = ConferencePageDTO.builder()
+                .items(new ConferenceMapper().toResponseDTOList(Fixtures.conferences(20, reviewsPerConference)))
+                .size(20)
+                .nextCursor("REFURXwyMDI2LTAxLTIxfDIw")
+                .build();
+        pageJson = jsonMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] encodeDetail() {
+        return jsonMapper.writeValueAsBytes(detail);
+    }
+
+    @Benchmark
+    public ConferenceResponseDTO decodeDetail() {
+        return jsonMapper.readValue(detailJson, ConferenceResponseDTO.class);
+    }
+
+    @Benchmark
+    public byte[] encodePage() {
+        return jsonMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public ConferencePageDTO decodePage() {
+        return jsonMapper.readValue(pageJson, ConferencePageDTO.class);
+    }
+}
@@ -0,0 +1,92 @@
+package ma.enset.benchmarks;
+
+import ma.enset.keynoteservice.dto.KeynoteResponseDTO;
+import ma.enset.keynoteservice.search.KeynoteSearchIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Autocomplétion de keynotes sur l'index de préfixes en mémoire (objectif : moins d'une
+ * milliseconde à 500k keynotes), du préfixe le plus large (une lettre) au plus sélectif.
+ * L'index est alimenté directement, sans base : hors transaction, les mises à jour sont
+ * appliquées immédiatement.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class KeynoteAutocompleteBenchmark {
+
+    private static final String[] PRENOMS = {"Élodie", "Yasmine", "Omar", "Zoé", "Hélène", "Karim", "Inès",
+            "Jérôme", "Salma", "Noël", "Aïcha", "Mehdi", "Chloé", "Youssef", "Renée", "Adam"};
+    private static final String[] SYLLABES = {"al", "be", "ch", "da", "el", "fa", "gu", "ha", "id", "jo",
+            "ka", "lé", "mo", "na", "ou", "pa", "ra", "sé", "ta", "za"};
+    private static final int LIMIT = 10;
+
+    @Param({"500000"})
+    private int keynotes;
+
+    private KeynoteSearchIndex index;
+    private long nextVersion;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        index = new KeynoteSearchIndex(null, null);
+        for (long id = 1; id <= keynotes; id++) {
+            index.update(keynote(id, 0));
+        }
+        nextVersion = 1;
+    }
+
+    @Benchmark
+    public List<KeynoteResponseDTO> oneLetter() {
+        return index.suggest("e", LIMIT);
+    }
+
+    @Benchmark
+    public List<KeynoteResponseDTO> accentedName() {
+        return index.suggest("ÉLOD", LIMIT);
+    }
+
+    @Benchmark
+    public List<KeynoteResponseDTO> fullName() {
+        return index.suggest("helene almo", LIMIT);
+    }
+
+    @Benchmark
+    public List<KeynoteResponseDTO> email() {
+        return index.suggest("zoe.chle", LIMIT);
+    }
+
+    @Benchmark
+    public List<KeynoteResponseDTO> noMatch() {
+        return index.suggest("xyz", LIMIT);
+    }
+
+    // Réindexation d'un keynote modifié (5 termes retirés, 5 ajoutés)
+    @Benchmark
+    public void update() {
+        long version = nextVersion++;
+        index.update(keynote(1 + version % keynotes, version));
+    }
+
+    private static KeynoteResponseDTO keynote(long id, long version) {
+        String prenom = PRENOMS[(int) (id % PRENOMS.length)];
+        String nom = capitalize(SYLLABES[(int) (id % 20)] + SYLLABES[(int) (id / 20 % 20)] + SYLLABES[(int) (id / 400 % 20)]);
+        return KeynoteResponseDTO.builder()
+                .id(id)
+                .nom(nom)
+                .prenom(prenom)
+                .email(KeynoteSearchIndex.normalize(prenom + "." + nom).replace(' ', '-') + id + "@enset.ma")
+                .fonction("Speaker")
+                .version(version)
+                .build();
+    }
+
+    private static String capitalize(String text) {
+        return Character.toUpperCase(text.charAt(0)) + text.substring(1);
+    }
+}
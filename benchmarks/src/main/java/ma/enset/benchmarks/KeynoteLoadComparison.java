@@ -0,0 +1,184 @@
+package ma.enset.benchmarks;
+
+import ma.enset.keynoteservice.KeynoteServiceApplication;
+import ma.enset.keynoteservice.dto.KeynoteRequestDTO;
+import ma.enset.keynoteservice.services.KeynoteBulkService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Charge à forte concurrence sur keynote-service, mode MVC (Tomcat + JPA) puis mode réactif
+ * (Netty + R2DBC), dans la même JVM et avec le même client : latences p50/p99, débit, pic de
+ * threads (JVM et threads serveur) et pic de heap pendant la charge.
+ *
+ * {@code KeynoteLoadComparison [clients] [requêtes par client]}, par défaut 2000 x 50.
+ * Chaque client enchaîne des GET /api/keynotes/{id} et, une fois sur cinq, un
+ * GET /api/keynotes?ids=... de 20 ids (le fan-out de conference-service).
+ */
+public final class KeynoteLoadComparison {
+
+    private static final int KEYNOTES = 1000;
+
+    private record Result(String mode, long requests, long errors, double seconds, long[] latencies,
+                          int peakThreads, int peakServerThreads, long peakHeapBytes) {
+    }
+
+    private KeynoteLoadComparison() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int requestsPerClient = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+
+        List<Result> results = new ArrayList<>();
+        results.add(run("mvc", clients, requestsPerClient,
+                "spring.main.web-application-type=servlet",
+                "spring.datasource.url=jdbc:h2:mem:load-mvc"));
+        results.add(run("reactive", clients, requestsPerClient,
+                "spring.main.web-application-type=reactive",
+                "spring.datasource.url=jdbc:h2:mem:load-reactive",
+                "spring.r2dbc.url=r2dbc:h2:mem:///load-reactive",
+                "spring.r2dbc.username=sa"));
+
+        System.out.printf("%n%d clients x %d requests%n", clients, requestsPerClient);
+        System.out.printf("%-9s %10s %8s %9s %9s %9s %12s %14s %10s%n",
+                "mode", "req/s", "errors", "p50 ms", "p99 ms", "max ms", "peak threads", "server threads", "peak MB");
+        for (Result r : results) {
+            System.out.printf("%-9s %10.0f %8d %9.2f %9.2f %9.2f %12d %14d %10d%n",
+                    r.mode(), r.requests() / r.seconds(), r.errors(),
+                    percentile(r.latencies(), 50), percentile(r.latencies(), 99), percentile(r.latencies(), 100),
+                    r.peakThreads(), r.peakServerThreads(), r.peakHeapBytes() / (1024 * 1024));
+        }
+    }
+
+    private static Result run(String mode, int clients, int requestsPerClient, String... properties) throws Exception {
+        List<String> all = new ArrayList<>(List.of(
+                "server.port=0",
+                "spring.jpa.show-sql=false",
+                "eureka.client.enabled=false",
+                "spring.cloud.discovery.enabled=false",
+                "spring.cloud.config.enabled=false",
+                "logging.level.root=WARN"));
+        all.addAll(Arrays.asList(properties));
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(KeynoteServiceApplication.class)
+                .properties(all.toArray(String[]::new))
+                .run()) {
+            List<KeynoteRequestDTO> keynotes = new ArrayList<>(KEYNOTES);
+            for (int i = 0; i < KEYNOTES; i++) {
+                keynotes.add(KeynoteRequestDTO.builder()
+                        .nom("Nom" + i).prenom("Prénom" + i).email("load." + i + "@enset.ma").fonction("Speaker")
+                        .build());
+            }
+            List<Long> ids = context.getBean(KeynoteBulkService.class).upsertAll(keynotes).getResults().stream()
+                    .map(result -> result.getId())
+                    .toList();
+            String base = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/keynotes";
+
+            HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+            load(client, base, ids, 200, 20); // chauffe (JIT, pools de connexions)
+
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+            System.gc();
+            threads.resetPeakThreadCount();
+            AtomicLong peakHeap = new AtomicLong();
+            AtomicInteger peakServerThreads = new AtomicInteger();
+            Thread sampler = Thread.ofPlatform().daemon().start(() -> {
+                while (!Thread.currentThread().isInterrupted()) {
+                    peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+                    peakServerThreads.accumulateAndGet(serverThreads(), Math::max);
+                    try {
+                        Thread.sleep(50);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            });
+
+            long start = System.nanoTime();
+            long[][] latencies = load(client, base, ids, clients, requestsPerClient);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            sampler.interrupt();
+
+            long[] merged = Arrays.stream(latencies).flatMapToLong(Arrays::stream).filter(l -> l >= 0).sorted().toArray();
+            long errors = Arrays.stream(latencies).flatMapToLong(Arrays::stream).filter(l -> l < 0).count();
+            return new Result(mode, (long) clients * requestsPerClient, errors, seconds, merged,
+                    threads.getPeakThreadCount(), peakServerThreads.get(), peakHeap.get());
+        }
+    }
+
+    // Un client par thread virtuel ; latence en ns, -1 pour une erreur
+    private static long[][] load(HttpClient client, String base, List<Long> ids, int clients, int requestsPerClient)
+            throws Exception {
+        long[][] latencies = new long[clients][requestsPerClient];
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(clients);
+            for (int c = 0; c < clients; c++) {
+                int clientIndex = c;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < requestsPerClient; i++) {
+                        int seed = clientIndex * 31 + i * 17;
+                        URI uri = i % 5 == 4
+                                ? URI.create(base + "?ids=" + idList(ids, seed, 20))
+                                : URI.create(base + "/" + ids.get(seed % ids.size()));
+                        long begin = System.nanoTime();
+                        try {
+                            HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(uri).GET().build(),
+                                    HttpResponse.BodyHandlers.ofByteArray());
+                            latencies[clientIndex][i] = response.statusCode() == 200 ? System.nanoTime() - begin : -1;
+                        } catch (Exception e) {
+                            latencies[clientIndex][i] = -1;
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        return latencies;
+    }
+
+    private static String idList(List<Long> ids, int seed, int count) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) builder.append(',');
+            builder.append(ids.get((seed + i * 7) % ids.size()));
+        }
+        return builder.toString();
+    }
+
+    // Threads de traitement des requêtes : workers Tomcat (MVC) ou boucles d'événements Netty (réactif)
+    private static int serverThreads() {
+        int count = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            String name = thread.getName();
+            if (name.startsWith("http-nio-") || name.startsWith("reactor-http-")) count++;
+        }
+        return count;
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+}
@@ -0,0 +1,90 @@
+package ma.enset.benchmarks;
+
+import ma.enset.keynoteservice.KeynoteServiceApplication;
+import ma.enset.keynoteservice.dto.KeynoteRequestDTO;
+import ma.enset.keynoteservice.dto.KeynoteUpsertReportDTO;
+import ma.enset.keynoteservice.services.KeynoteBulkService;
+import ma.enset.keynoteservice.services.KeynoteService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Synchronisation de 10 000 keynotes : chemin unitaire actuel (existsByEmail + save par ligne)
+ * contre l'upsert massif (emails résolus par lot, INSERT/UPDATE en batch JDBC).
+ * Chaque invocation utilise des emails neufs pour les créations ; "bulkUpdate" renvoie les
+ * mêmes emails avec une fonction modifiée. Débit = rows / temps moyen.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class KeynoteUpsertBenchmark {
+
+    @Param({"10000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private KeynoteService keynoteService;
+    private KeynoteBulkService keynoteBulkService;
+    private int run;
+    private List<KeynoteRequestDTO> existing;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(KeynoteServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:keynote-upsert-benchmark-db",
+                        "spring.jpa.show-sql=false",
+                        "eureka.client.enabled=false",
+                        "spring.cloud.discovery.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+        keynoteService = context.getBean(KeynoteService.class);
+        keynoteBulkService = context.getBean(KeynoteBulkService.class);
+        existing = keynotes("existing", "Speaker");
+        keynoteBulkService.upsertAll(existing);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int perRowCreate() {
+        List<KeynoteRequestDTO> batch = keynotes("row-" + run++, "Speaker");
+        batch.forEach(keynoteService::save);
+        return batch.size();
+    }
+
+    @Benchmark
+    public KeynoteUpsertReportDTO bulkCreate() {
+        return keynoteBulkService.upsertAll(keynotes("bulk-" + run++, "Speaker"));
+    }
+
+    @Benchmark
+    public KeynoteUpsertReportDTO bulkUpdate() {
+        return keynoteBulkService.upsertAll(keynotes("existing", "Fonction " + run++));
+    }
+
+    private List<KeynoteRequestDTO> keynotes(String emailPrefix, String fonction) {
+        List<KeynoteRequestDTO> batch = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            batch.add(KeynoteRequestDTO.builder()
+                    .nom("Nom" + i)
+                    .prenom("Prénom" + i)
+                    .email(emailPrefix + "." + i + "@enset.ma")
+                    .fonction(fonction)
+                    .build());
+        }
+        return batch;
+    }
+}
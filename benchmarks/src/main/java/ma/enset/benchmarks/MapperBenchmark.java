@@ -0,0 +1,66 @@
+package ma.enset.benchmarks;
+
+import ma.enset.conferenceservice.dto.ConferenceResponseDTO;
+import ma.enset.conferenceservice.entities.Conference;
+import ma.enset.conferenceservice.mappers.ConferenceMapper;
+import ma.enset.keynoteservice.dto.KeynoteResponseDTO;
+import ma.enset.keynoteservice.entities.Keynote;
+import ma.enset.keynoteservice.mappers.KeynoteMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coût du mapping entité -> DTO, unitaire et sur une page de conférences.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    @Param({"0", "10", "100"})
+    private int reviewsPerConference;
+
+    @Param({"100"})
+    private int pageSize;
+
+    private final ConferenceMapper conferenceMapper = new ConferenceMapper();
+    private final KeynoteMapper keynoteMapper = new KeynoteMapper();
+    private Conference conference;
+    private List<Conference> page;
+    private Keynote keynote;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        conference = Fixtures.conference(1, reviewsPerConference);
+        page = Fixtures.conferences(pageSize, reviewsPerConference);
+        keynote = Keynote.builder()
+                .id(1L)
+                .nom("Alaoui")
+                .prenom("Yasmine")
+                .email("yasmine.alaoui@enset.ma")
+                .fonction("Principal Engineer")
+                .build();
+    }
+
+    @Benchmark
+    public ConferenceResponseDTO conferenceToDto() {
+        return conferenceMapper.toResponseDTO(conference);
+    }
+
+    @Benchmark
+    public ConferenceResponseDTO conferenceToDtoWithoutReviews() {
+        return conferenceMapper.toResponseDTO(conference, false);
+    }
+
+    @Benchmark
+    public List<ConferenceResponseDTO> conferencePageToDtoList() {
+        return conferenceMapper.toResponseDTOList(page);
+    }
+
+    @Benchmark
+    public KeynoteResponseDTO keynoteToDto() {
+        return keynoteMapper.toDTO(keynote);
+    }
+}
@@ -0,0 +1,118 @@
+package ma.enset.benchmarks;
+
+import ma.enset.conferenceservice.ConferenceServiceApplication;
+import ma.enset.conferenceservice.dto.ConferencePageDTO;
+import ma.enset.conferenceservice.entities.Conference;
+import ma.enset.conferenceservice.enums.ImportFormat;
+import ma.enset.conferenceservice.repositories.ConferenceRepository;
+import ma.enset.conferenceservice.services.BulkImportService;
+import ma.enset.conferenceservice.services.ConferenceService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recherche par titre : index inversé (/search) contre le LIKE '%terme%' de
+ * ConferenceRepository.findByTitreContainingIgnoreCase, sur 1M conférences.
+ * Chaque mot du vocabulaire apparaît dans environ 0,3 % des titres.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class SearchBenchmark {
+
+    private static final int VOCABULARY = 1000;
+
+    @Param({"1000000"})
+    private int conferences;
+
+    private ConfigurableApplicationContext context;
+    private ConferenceService conferenceService;
+    private ConferenceRepository conferenceRepository;
+    private String word;
+    private String prefix;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ConferenceServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:search-benchmark-db",
+                        "spring.jpa.show-sql=false",
+                        "eureka.client.enabled=false",
+                        "spring.cloud.discovery.enabled=false",
+                        "conference.import.batch-size=1000",
+                        "logging.level.root=WARN")
+                .run();
+        conferenceService = context.getBean(ConferenceService.class);
+        conferenceRepository = context.getBean(ConferenceRepository.class);
+        context.getBean(BulkImportService.class).importConferences(new TitleGenerator(conferences), ImportFormat.NDJSON);
+        word = word(42);
+        prefix = word.substring(0, 3);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ConferencePageDTO indexWord() {
+        return conferenceService.searchConferences(word, null, 20);
+    }
+
+    @Benchmark
+    public ConferencePageDTO indexPrefix() {
+        return conferenceService.searchConferences(prefix, null, 20);
+    }
+
+    @Benchmark
+    public List<Conference> likeWord() {
+        return conferenceRepository.findByTitreContainingIgnoreCase(word);
+    }
+
+    // Mot pseudo-aléatoire mais déterministe : trois syllabes tirées de l'index
+    static String word(int index) {
+        String[] syllables = {"ka", "lo", "mi", "ra", "tu", "ven", "sor", "dia", "pel", "cho"};
+        return syllables[index % 10] + syllables[(index / 10) % 10] + syllables[(index / 100) % 10] + "x";
+    }
+
+    /**
+     * Flux NDJSON généré à la volée : une conférence de trois mots par ligne.
+     */
+    private static final class TitleGenerator extends InputStream {
+        private final int rows;
+        private int row;
+        private byte[] line = new byte[0];
+        private int position;
+
+        TitleGenerator(int rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public int read() {
+            if (position == line.length) {
+                if (row == rows) return -1;
+                line = nextLine().getBytes(StandardCharsets.UTF_8);
+                position = 0;
+            }
+            return line[position++];
+        }
+
+        private String nextLine() {
+            int i = row++;
+            String titre = word(i % VOCABULARY) + " " + word((i * 7 + 3) % VOCABULARY) + " " + word((i * 13 + 5) % VOCABULARY);
+            return "{\"titre\":\"" + titre + "\",\"type\":\"" + (i % 2 == 0 ? "ACADEMIQUE" : "COMMERCIALE")
+                    + "\",\"date\":\"2026-0" + (1 + i % 9) + "-1" + (i % 10) + "\",\"duree\":60,\"nombreInscrits\":" + (i % 300) + "}\n";
+        }
+    }
+}
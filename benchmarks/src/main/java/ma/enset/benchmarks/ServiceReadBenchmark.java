@@ -0,0 +1,89 @@
+package ma.enset.benchmarks;
+
+import ma.enset.conferenceservice.ConferenceServiceApplication;
+import ma.enset.conferenceservice.dto.ConferencePageDTO;
+import ma.enset.conferenceservice.dto.ConferenceResponseDTO;
+import ma.enset.conferenceservice.entities.Conference;
+import ma.enset.conferenceservice.enums.ConferenceSort;
+import ma.enset.conferenceservice.enums.ReviewFetchMode;
+import ma.enset.conferenceservice.repositories.ConferenceRepository;
+import ma.enset.conferenceservice.services.ConferenceService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chemins de lecture de ConferenceServiceImpl sur un contexte Spring réel et une base H2 en mémoire.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ServiceReadBenchmark {
+
+    @Param({"10000"})
+    private int conferences;
+
+    @Param({"5"})
+    private int reviewsPerConference;
+
+    private ConfigurableApplicationContext context;
+    private ConferenceService conferenceService;
+    private Long detailId;
+    private String middleCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ConferenceServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark-db",
+                        "spring.jpa.show-sql=false",
+                        "eureka.client.enabled=false",
+                        "spring.cloud.discovery.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+        conferenceService = context.getBean(ConferenceService.class);
+
+        ConferenceRepository repository = context.getBean(ConferenceRepository.class);
+        List<Conference> saved = repository.saveAll(Fixtures.conferences(conferences, reviewsPerConference).stream()
+                .peek(conference -> conference.setId(null))
+                .peek(conference -> conference.getReviews().forEach(review -> review.setId(null)))
+                .toList());
+        detailId = saved.get(saved.size() / 2).getId();
+
+        ConferencePageDTO page = conferenceService.getAllConferences(ConferenceSort.DATE, null, 100, ReviewFetchMode.NONE);
+        for (int i = 0; i < conferences / 200 && page.getNextCursor() != null; i++) {
+            page = conferenceService.getAllConferences(ConferenceSort.DATE, page.getNextCursor(), 100, ReviewFetchMode.NONE);
+        }
+        middleCursor = page.getNextCursor();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ConferenceResponseDTO getConferenceById() {
+        return conferenceService.getConferenceById(detailId);
+    }
+
+    @Benchmark
+    public ConferencePageDTO firstPageWithReviews() {
+        return conferenceService.getAllConferences(ConferenceSort.DATE, null, 20, ReviewFetchMode.BATCH);
+    }
+
+    @Benchmark
+    public ConferencePageDTO firstPageWithoutReviews() {
+        return conferenceService.getAllConferences(ConferenceSort.DATE, null, 20, ReviewFetchMode.NONE);
+    }
+
+    @Benchmark
+    public ConferencePageDTO middlePageByDate() {
+        return conferenceService.getAllConferences(ConferenceSort.DATE, middleCursor, 20, ReviewFetchMode.NONE);
+    }
+}
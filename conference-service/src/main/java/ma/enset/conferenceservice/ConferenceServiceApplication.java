@@ -3,19 +3,27 @@ package ma.enset.conferenceservice;
 import ma.enset.conferenceservice.entities.Conference;
 import ma.enset.conferenceservice.entities.Review;
 import ma.enset.conferenceservice.enums.ConferenceType;
+import ma.enset.conferenceservice.jobs.ConferenceStatisticsJob;
+import ma.enset.conferenceservice.jobs.ReviewAggregatesJob;
 import ma.enset.conferenceservice.repositories.ConferenceRepository;
 import ma.enset.conferenceservice.repositories.ReviewRepository;
+import ma.enset.conferenceservice.search.ConferenceSearchIndex;
+import ma.enset.loadbalancer.LatencyAwareLoadBalancerConfiguration;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import java.time.LocalDate;
 import java.util.List;
 
 @SpringBootApplication
 @EnableFeignClients
+@LoadBalancerClients(defaultConfiguration = LatencyAwareLoadBalancerConfiguration.class)
+@EnableScheduling
 public class ConferenceServiceApplication {
 
     public static void main(String[] args) {
@@ -23,7 +31,9 @@ public class ConferenceServiceApplication {
     }
 
     @Bean
-    CommandLineRunner start(ConferenceRepository conferenceRepository, ReviewRepository reviewRepository) {
+    CommandLineRunner start(ConferenceRepository conferenceRepository, ReviewRepository reviewRepository,
+                            ReviewAggregatesJob reviewAggregatesJob, ConferenceSearchIndex conferenceSearchIndex,
+                            ConferenceStatisticsJob conferenceStatisticsJob) {
         return args -> {
             // Create sample conferences
             Conference conf1 = Conference.builder()
@@ -82,6 +92,11 @@ public class ConferenceServiceApplication {
 
             reviewRepository.saveAll(List.of(review1, review2, review3));
 
+            // Reviews inserted directly: compute the conference aggregates once
+            reviewAggregatesJob.run(true);
+            conferenceSearchIndex.rebuild();
+            conferenceStatisticsJob.run(true);
+
             System.out.println("=== Sample data loaded ===");
             conferenceRepository.findAll().forEach(c -> {
                 System.out.println("Conference: " + c.getTitre() + " - Type: " + c.getType());
@@ -0,0 +1,91 @@
+package ma.enset.conferenceservice.clients;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import ma.enset.conferenceservice.dto.KeynoteDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Cache local borné (taille + TTL) devant {@link KeynoteRestClient}.
+ * Passé le délai de rafraîchissement, l'ancienne valeur est servie pendant qu'un rechargement
+ * asynchrone est lancé (stale-while-revalidate) ; si ce rechargement échoue, elle reste en place.
+ * Les statistiques sont publiées sous le nom de cache "keynotes" (cache.gets, cache.evictions...).
+ *
+ * Chaque valeur chargée est aussi copiée dans {@code lastKnown}, borné en taille seulement :
+ * l'expiration du cache principal ne prive donc pas les fallbacks de la dernière valeur connue
+ * quand keynote-service est indisponible plus longtemps que expire-after.
+ */
+@Component
+public class KeynoteCache {
+
+    private final LoadingCache<Long, KeynoteDTO> cache;
+    private final Cache<Long, KeynoteDTO> lastKnown;
+
+    public KeynoteCache(KeynoteRestClient keynoteRestClient,
+                        MeterRegistry meterRegistry,
+                        @Value("${keynote.cache.maximum-size:10000}") long maximumSize,
+                        @Value("${keynote.cache.refresh-after:60s}") Duration refreshAfter,
+                        @Value("${keynote.cache.expire-after:1h}") Duration expireAfter) {
+        this.lastKnown = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .refreshAfterWrite(refreshAfter)
+                .expireAfterWrite(expireAfter)
+                .recordStats()
+                .build(new CacheLoader<>() {
+                    @Override
+                    public KeynoteDTO load(Long id) {
+                        KeynoteDTO keynote = keynoteRestClient.getKeynoteById(id);
+                        if (keynote != null) lastKnown.put(id, keynote);
+                        return keynote;
+                    }
+
+                    @Override
+                    public Map<Long, KeynoteDTO> loadAll(Set<? extends Long> ids) {
+                        Map<Long, KeynoteDTO> keynotes = keynoteRestClient.getKeynotesByIds(Set.copyOf(ids)).stream()
+                                .collect(Collectors.toMap(KeynoteDTO::getId, Function.identity()));
+                        lastKnown.putAll(keynotes);
+                        return keynotes;
+                    }
+                });
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "keynotes");
+    }
+
+    public KeynoteDTO getKeynoteById(Long id) {
+        return cache.get(id);
+    }
+
+    // Les ids absents du cache sont chargés en un seul appel groupé
+    public Map<Long, KeynoteDTO> getKeynotesByIds(Collection<Long> ids) {
+        return cache.getAll(ids);
+    }
+
+    // Valeur en cache non expirée, sans appel distant ni rechargement
+    public Optional<KeynoteDTO> getCached(Long id) {
+        return Optional.ofNullable(cache.getIfPresent(id));
+    }
+
+    // Dernière valeur connue, même expirée, sans appel distant (utilisée par les fallbacks)
+    public Optional<KeynoteDTO> getLastKnown(Long id) {
+        return Optional.ofNullable(lastKnown.getIfPresent(id));
+    }
+
+    public Map<Long, KeynoteDTO> getAllLastKnown(Collection<Long> ids) {
+        return lastKnown.getAllPresent(ids);
+    }
+}
@@ -1,13 +1,17 @@
 package ma.enset.conferenceservice.clients;
 
 import ma.enset.conferenceservice.dto.KeynoteDTO;
+import ma.enset.conferenceservice.dto.KeynoteOutboxPageDTO;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.Collection;
 import java.util.List;
 
-@FeignClient(name = "keynote-service", url = "${keynote-service.url}")
+// Instances résolues par la découverte (Eureka), choisies par LatencyAwareLoadBalancer
+@FeignClient(name = "keynote-service")
 public interface KeynoteRestClient {
 
     @GetMapping("/api/keynotes/{id}")
@@ -15,5 +19,12 @@ public interface KeynoteRestClient {
 
     @GetMapping("/api/keynotes")
     List<KeynoteDTO> getAllKeynotes();
+
+    @GetMapping("/api/keynotes")
+    List<KeynoteDTO> getKeynotesByIds(@RequestParam("ids") Collection<Long> ids);
+
+    // Outbox des changements : événements de numéro > after, dans l'ordre
+    @GetMapping("/api/keynotes/outbox")
+    KeynoteOutboxPageDTO getOutbox(@RequestParam("after") long after, @RequestParam("limit") int limit);
 }
 
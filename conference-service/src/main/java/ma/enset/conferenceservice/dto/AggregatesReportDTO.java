@@ -0,0 +1,17 @@
+package ma.enset.conferenceservice.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AggregatesReportDTO {
+    private long checkedConferences;
+    private long driftedConferences;
+    private boolean repaired;
+    private List<Long> driftedConferenceIds;
+}
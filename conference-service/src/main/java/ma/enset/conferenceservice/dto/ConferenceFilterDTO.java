@@ -0,0 +1,24 @@
+package ma.enset.conferenceservice.dto;
+
+import lombok.*;
+import ma.enset.conferenceservice.enums.ConferenceType;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+// Critères optionnels, combinés en ET
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ConferenceFilterDTO {
+    private ConferenceType type;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+    private Long keynoteId;
+    private Double minScore;
+    private Integer minInscrits;
+}
@@ -0,0 +1,17 @@
+package ma.enset.conferenceservice.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ConferencePageDTO {
+    private List<ConferenceResponseDTO> items;
+    private int size;
+    // Jeton opaque à renvoyer dans ?cursor= pour la page suivante (null en fin de liste)
+    private String nextCursor;
+}
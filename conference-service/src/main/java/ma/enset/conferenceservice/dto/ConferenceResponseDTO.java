@@ -19,7 +19,9 @@ public class ConferenceResponseDTO {
     private Integer duree;
     private Integer nombreInscrits;
     private Double score;
+    private Long reviewCount;
     private Long keynoteId;
+    private Long version;
     private KeynoteDTO keynote;
     private List<ReviewResponseDTO> reviews;
 }
@@ -0,0 +1,18 @@
+package ma.enset.conferenceservice.dto;
+
+import lombok.*;
+import ma.enset.conferenceservice.enums.StatisticsDimension;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ConferenceStatisticsDTO {
+    private StatisticsDimension dimension;
+    private String key;
+    private long conferenceCount;
+    private Double averageScore;
+    private long totalInscrits;
+    private long reviewCount;
+}
@@ -0,0 +1,13 @@
+package ma.enset.conferenceservice.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportErrorDTO {
+    private long line;
+    private String message;
+}
@@ -0,0 +1,21 @@
+package ma.enset.conferenceservice.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportReportDTO {
+    private long totalRows;
+    private long imported;
+    private long failed;
+    private long durationMillis;
+    private double rowsPerSecond;
+    private List<ImportErrorDTO> errors;
+    // true si des erreurs ont été omises au-delà de conference.import.max-reported-errors
+    private boolean errorsTruncated;
+}
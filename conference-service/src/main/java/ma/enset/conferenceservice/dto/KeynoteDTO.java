@@ -13,5 +13,6 @@ public class KeynoteDTO {
     private String prenom;
     private String email;
     private String fonction;
+    private Long version;
 }
 
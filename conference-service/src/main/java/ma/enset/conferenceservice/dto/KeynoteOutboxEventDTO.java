@@ -0,0 +1,23 @@
+package ma.enset.conferenceservice.dto;
+
+import lombok.*;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KeynoteOutboxEventDTO {
+    private Long sequence;
+    // UPSERTED ou DELETED
+    private String type;
+    private Long keynoteId;
+    private String nom;
+    private String prenom;
+    private String email;
+    private String fonction;
+    private Long keynoteVersion;
+    private Instant createdAt;
+}
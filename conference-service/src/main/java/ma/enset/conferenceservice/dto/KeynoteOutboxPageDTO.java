@@ -0,0 +1,16 @@
+package ma.enset.conferenceservice.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KeynoteOutboxPageDTO {
+    private List<KeynoteOutboxEventDTO> events;
+    private long headSequence;
+    private String epoch;
+}
@@ -0,0 +1,19 @@
+package ma.enset.conferenceservice.dto;
+
+import lombok.*;
+import ma.enset.conferenceservice.enums.ConferenceType;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LeaderboardEntryDTO {
+    private int rank;
+    private Long conferenceId;
+    private String titre;
+    private ConferenceType type;
+    private Double score;
+    private Integer nombreInscrits;
+    private Long reviewCount;
+}
@@ -0,0 +1,18 @@
+package ma.enset.conferenceservice.dto;
+
+import lombok.*;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResourceVersionDTO {
+    private Long version;
+    private Instant lastModified;
+    // Vue /full uniquement : keynote référencé et sa version (null si keynote-service indisponible)
+    private Long keynoteId;
+    private Long keynoteVersion;
+}
@@ -15,5 +15,6 @@ public class ReviewResponseDTO {
     private String texte;
     private Integer note;
     private Long conferenceId;
+    private Long version;
 }
 
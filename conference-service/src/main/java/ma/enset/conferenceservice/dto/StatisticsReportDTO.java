@@ -0,0 +1,18 @@
+package ma.enset.conferenceservice.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StatisticsReportDTO {
+    private long checkedBuckets;
+    private long driftedBuckets;
+    private boolean repaired;
+    // "TYPE:ACADEMIQUE", "KEYNOTE:12", ...
+    private List<String> driftedBucketKeys;
+}
@@ -3,11 +3,16 @@ package ma.enset.conferenceservice.entities;
 import jakarta.persistence.*;
 import lombok.*;
 import ma.enset.conferenceservice.enums.ConferenceType;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.DynamicUpdate;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 
+// UPDATE limité aux colonnes modifiées : une édition ne réécrit pas les agrégats des reviews
 @Entity
+@DynamicUpdate
 @Table(name = "conferences")
 @Getter
 @Setter
@@ -15,8 +20,10 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 public class Conference {
+    // Séquence allouée par blocs de 50 : permet le batching JDBC des INSERT (impossible avec IDENTITY)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "conference_seq")
+    @SequenceGenerator(name = "conference_seq", sequenceName = "conferences_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -33,12 +40,95 @@ public class Conference {
 
     private Integer nombreInscrits;
 
-    private Double score;
+    @Column(nullable = false)
+    @Builder.Default
+    private Double score = 0.0;
 
     // ID du keynote (référence vers keynote-service)
     private Long keynoteId;
 
+    // Agrégats des reviews, maintenus par delta à chaque ajout / modification / suppression
+    @Column(nullable = false)
+    @Builder.Default
+    private Long reviewCount = 0L;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long noteSum = 0L;
+
+    // Histogramme des notes : nombre de reviews par note (1 à 5)
+    @Column(name = "note1_count", nullable = false)
+    @Builder.Default
+    private Long note1Count = 0L;
+
+    @Column(name = "note2_count", nullable = false)
+    @Builder.Default
+    private Long note2Count = 0L;
+
+    @Column(name = "note3_count", nullable = false)
+    @Builder.Default
+    private Long note3Count = 0L;
+
+    @Column(name = "note4_count", nullable = false)
+    @Builder.Default
+    private Long note4Count = 0L;
+
+    @Column(name = "note5_count", nullable = false)
+    @Builder.Default
+    private Long note5Count = 0L;
+
+    // Verrou optimiste et ETag : incrémentée à chaque modification de la conférence ou de ses reviews
+    @Version
+    private Long version;
+
+    private Instant lastModified;
+
+    // Initialisées par lots de 100 conférences lors du parcours d'une liste
     @OneToMany(mappedBy = "conference", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
     private List<Review> reviews;
+
+    @PrePersist
+    @PreUpdate
+    void onWrite() {
+        lastModified = Instant.now();
+    }
+
+    public long getNoteCount(int note) {
+        return switch (note) {
+            case 1 -> note1Count;
+            case 2 -> note2Count;
+            case 3 -> note3Count;
+            case 4 -> note4Count;
+            case 5 -> note5Count;
+            default -> throw new IllegalArgumentException("Note must be between 1 and 5");
+        };
+    }
+
+    /**
+     * Applique une variation (+1 / -1) d'une note aux agrégats et recalcule le score en O(1).
+     */
+    public void applyNoteDelta(int note, int delta) {
+        switch (note) {
+            case 1 -> note1Count += delta;
+            case 2 -> note2Count += delta;
+            case 3 -> note3Count += delta;
+            case 4 -> note4Count += delta;
+            case 5 -> note5Count += delta;
+            default -> throw new IllegalArgumentException("Note must be between 1 and 5");
+        }
+        reviewCount += delta;
+        noteSum += (long) note * delta;
+        refreshScore();
+    }
+
+    private void refreshScore() {
+        score = scoreOf(noteSum, reviewCount, score);
+    }
+
+    // Moyenne arrondie à une décimale ; sans review, le score saisi manuellement est conservé
+    public static double scoreOf(long noteSum, long reviewCount, double currentScore) {
+        return reviewCount > 0 ? Math.round(noteSum * 10.0 / reviewCount) / 10.0 : currentScore;
+    }
 }
 
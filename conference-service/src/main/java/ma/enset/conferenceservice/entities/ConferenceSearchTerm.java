@@ -0,0 +1,32 @@
+package ma.enset.conferenceservice.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Entrée de l'index inversé des titres : un terme (mot ou préfixe de mot normalisé)
+ * et la conférence qui le contient, avec un poids de pertinence.
+ */
+@Entity
+@Table(name = "conference_search_terms")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ConferenceSearchTerm {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "search_term_seq")
+    @SequenceGenerator(name = "search_term_seq", sequenceName = "conference_search_terms_seq", allocationSize = 100)
+    private Long id;
+
+    @Column(nullable = false, length = 40)
+    private String term;
+
+    @Column(nullable = false)
+    private Long conferenceId;
+
+    // 3 pour un mot entier, 1 pour un préfixe
+    @Column(nullable = false)
+    private Integer weight;
+}
@@ -0,0 +1,44 @@
+package ma.enset.conferenceservice.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import ma.enset.conferenceservice.enums.StatisticsDimension;
+
+/**
+ * Totaux maintenus par delta pour un type de conférence ou un keynote : une lecture
+ * de statistiques ne parcourt jamais la table des conférences.
+ */
+@Entity
+@Table(name = "conference_statistics",
+        uniqueConstraints = @UniqueConstraint(name = "uk_statistics_bucket", columnNames = {"dimension", "dimension_key"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ConferenceStatistics {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "statistics_seq")
+    @SequenceGenerator(name = "statistics_seq", sequenceName = "conference_statistics_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private StatisticsDimension dimension;
+
+    // Nom du type ou id du keynote
+    @Column(name = "dimension_key", nullable = false, length = 64)
+    private String dimensionKey;
+
+    @Column(nullable = false)
+    private long conferenceCount;
+
+    @Column(nullable = false)
+    private double scoreSum;
+
+    @Column(nullable = false)
+    private long inscritsSum;
+
+    @Column(nullable = false)
+    private long reviewCount;
+}
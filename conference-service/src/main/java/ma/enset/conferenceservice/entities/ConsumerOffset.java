@@ -0,0 +1,28 @@
+package ma.enset.conferenceservice.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "consumer_offset")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ConsumerOffset {
+    @Id
+    @Column(length = 64)
+    private String consumer;
+
+    @Column(nullable = false)
+    private Long lastSequence;
+
+    @Column(length = 64)
+    private String epoch;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+}
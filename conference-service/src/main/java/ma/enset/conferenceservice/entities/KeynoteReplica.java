@@ -0,0 +1,37 @@
+package ma.enset.conferenceservice.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Keynote tel que connu de keynote-service au dernier événement d'outbox appliqué
+ * (id et version d'origine, pas de génération locale).
+ */
+@Entity
+@Table(name = "keynote_replica")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KeynoteReplica {
+    @Id
+    private Long id;
+
+    private String nom;
+    private String prenom;
+    private String email;
+    private String fonction;
+
+    // @Version du keynote dans keynote-service (ETag de /full), pas un verrou local
+    private Long version;
+
+    // Numéro de l'événement qui a produit cet état
+    @Column(nullable = false)
+    private Long sourceSequence;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+}
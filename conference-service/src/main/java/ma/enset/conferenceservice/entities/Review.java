@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.Instant;
 import java.time.LocalDate;
 
 @Entity
@@ -14,8 +15,10 @@ import java.time.LocalDate;
 @AllArgsConstructor
 @Builder
 public class Review {
+    // Séquence allouée par blocs de 50 : permet le batching JDBC des INSERT (impossible avec IDENTITY)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "review_seq")
+    @SequenceGenerator(name = "review_seq", sequenceName = "reviews_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -27,9 +30,20 @@ public class Review {
     @Column(nullable = false)
     private Integer note; // Note de 1 à 5
 
+    @Version
+    private Long version;
+
+    private Instant lastModified;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "conference_id", nullable = false)
     @JsonIgnore
     private Conference conference;
+
+    @PrePersist
+    @PreUpdate
+    void onWrite() {
+        lastModified = Instant.now();
+    }
 }
 
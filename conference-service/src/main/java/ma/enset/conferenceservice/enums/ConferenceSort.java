@@ -0,0 +1,6 @@
+package ma.enset.conferenceservice.enums;
+
+public enum ConferenceSort {
+    DATE,   // (date, id) croissant
+    SCORE   // (score, id) décroissant
+}
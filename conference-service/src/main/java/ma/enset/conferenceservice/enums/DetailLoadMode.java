@@ -0,0 +1,6 @@
+package ma.enset.conferenceservice.enums;
+
+public enum DetailLoadMode {
+    SEQUENTIAL, // conférence + reviews, puis appel keynote-service
+    CONCURRENT  // conférence, puis reviews et keynote en parallèle sur threads virtuels
+}
@@ -0,0 +1,11 @@
+package ma.enset.conferenceservice.enums;
+
+public enum ImportFormat {
+    NDJSON,
+    CSV;
+
+    public static ImportFormat fromContentType(String contentType) {
+        if (contentType != null && contentType.toLowerCase().startsWith("text/csv")) return CSV;
+        return NDJSON;
+    }
+}
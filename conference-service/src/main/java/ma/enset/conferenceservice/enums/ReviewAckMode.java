@@ -0,0 +1,8 @@
+package ma.enset.conferenceservice.enums;
+
+public enum ReviewAckMode {
+    // Réponse 201 après le commit du micro-lot : une review acquittée est durable
+    COMMITTED,
+    // Réponse 202 dès la mise en file : perdue si le processus s'arrête brutalement avant le lot
+    ACCEPTED
+}
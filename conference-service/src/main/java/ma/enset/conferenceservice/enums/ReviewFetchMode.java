@@ -0,0 +1,6 @@
+package ma.enset.conferenceservice.enums;
+
+public enum ReviewFetchMode {
+    NONE,   // conférences seules, sans charger les reviews
+    BATCH   // reviews chargées par lots (@BatchSize) pour toute la page
+}
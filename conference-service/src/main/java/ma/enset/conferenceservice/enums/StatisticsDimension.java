@@ -0,0 +1,5 @@
+package ma.enset.conferenceservice.enums;
+
+public enum StatisticsDimension {
+    TYPE, KEYNOTE
+}
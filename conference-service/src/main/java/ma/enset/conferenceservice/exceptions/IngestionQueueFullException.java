@@ -0,0 +1,7 @@
+package ma.enset.conferenceservice.exceptions;
+
+public class IngestionQueueFullException extends RuntimeException {
+    public IngestionQueueFullException(String message) {
+        super(message);
+    }
+}
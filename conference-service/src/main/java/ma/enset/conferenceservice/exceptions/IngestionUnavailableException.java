@@ -0,0 +1,8 @@
+package ma.enset.conferenceservice.exceptions;
+
+// Ingestion arrêtée, ou commit non confirmé dans le délai : issue de la review incertaine
+public class IngestionUnavailableException extends RuntimeException {
+    public IngestionUnavailableException(String message) {
+        super(message);
+    }
+}
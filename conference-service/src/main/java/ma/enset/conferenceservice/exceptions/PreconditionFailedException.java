@@ -0,0 +1,7 @@
+package ma.enset.conferenceservice.exceptions;
+
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,71 @@
+package ma.enset.conferenceservice.imports;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ligne CSV (séparateur virgule, champs éventuellement entre guillemets, "" pour un guillemet)
+ * lue par nom de colonne d'après la ligne d'en-tête.
+ */
+public final class CsvRow {
+
+    private final Map<String, Integer> header;
+    private final List<String> values;
+
+    private CsvRow(Map<String, Integer> header, List<String> values) {
+        this.header = header;
+        this.values = values;
+    }
+
+    public static Map<String, Integer> parseHeader(String line) {
+        Map<String, Integer> header = new HashMap<>();
+        List<String> names = split(line);
+        for (int i = 0; i < names.size(); i++) {
+            header.put(names.get(i).trim(), i);
+        }
+        return header;
+    }
+
+    public static CsvRow parse(Map<String, Integer> header, String line) {
+        return new CsvRow(header, split(line));
+    }
+
+    // Valeur de la colonne, null si absente ou vide
+    public String get(String column) {
+        Integer index = header.get(column);
+        if (index == null || index >= values.size()) return null;
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) throw new IllegalArgumentException("Unterminated quoted field");
+        fields.add(current.toString());
+        return fields;
+    }
+}
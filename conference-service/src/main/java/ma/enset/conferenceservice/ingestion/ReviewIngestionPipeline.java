@@ -0,0 +1,260 @@
+package ma.enset.conferenceservice.ingestion;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import ma.enset.conferenceservice.dto.ReviewRequestDTO;
+import ma.enset.conferenceservice.dto.ReviewResponseDTO;
+import ma.enset.conferenceservice.enums.ReviewAckMode;
+import ma.enset.conferenceservice.exceptions.ConferenceNotFoundException;
+import ma.enset.conferenceservice.exceptions.IngestionQueueFullException;
+import ma.enset.conferenceservice.exceptions.IngestionUnavailableException;
+import ma.enset.conferenceservice.services.ConferenceService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Ingestion asynchrone des reviews (conference.reviews.ingestion.enabled=true) : les requêtes
+ * sont déposées dans une file bornée, un unique writer les écrit par micro-lots (au plus
+ * batch-size reviews, ou ce qui est arrivé pendant linger) et ne met à jour le score qu'une
+ * fois par conférence et par lot.
+ *
+ * Garanties :
+ * - file pleine : refus immédiat (429), rien n'est accepté au-delà de queue-capacity ;
+ * - ack COMMITTED : la réponse part après le commit du lot qui contient la review (durable) ;
+ *   au-delà de commit-timeout, 503 sans attendre davantage (la review peut encore être écrite) ;
+ * - ack ACCEPTED : la review est acquittée dès la mise en file ; à l'arrêt normal la file est
+ *   vidée avant la fermeture de la base, mais un arrêt brutal perd les reviews encore en file.
+ *
+ * Si un lot échoue, ses reviews sont rejouées une à une par le chemin synchrone, afin qu'une
+ * ligne invalide n'entraîne pas les autres.
+ */
+@Component
+@Slf4j
+public class ReviewIngestionPipeline implements SmartLifecycle {
+
+    private record PendingReview(Long conferenceId, ReviewRequestDTO request, CompletableFuture<ReviewResponseDTO> result) {
+    }
+
+    private final ConferenceService conferenceService;
+    private final boolean enabled;
+    private final ReviewAckMode ackMode;
+    private final int batchSize;
+    private final Duration linger;
+    private final Duration commitTimeout;
+    private final BlockingQueue<PendingReview> queue;
+
+    private final Timer batchLatency;
+    private final DistributionSummary batchSizes;
+    private final Counter rejected;
+    private final Counter failed;
+
+    private volatile boolean running;
+    private Thread writer;
+    // Lot retiré de la file et en cours d'écriture, pour le refuser si l'arrêt n'attend pas sa fin
+    private volatile List<PendingReview> inFlight = List.of();
+
+    public ReviewIngestionPipeline(ConferenceService conferenceService,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${conference.reviews.ingestion.enabled:false}") boolean enabled,
+                                   @Value("${conference.reviews.ingestion.ack:COMMITTED}") ReviewAckMode ackMode,
+                                   @Value("${conference.reviews.ingestion.queue-capacity:10000}") int queueCapacity,
+                                   @Value("${conference.reviews.ingestion.batch-size:200}") int batchSize,
+                                   @Value("${conference.reviews.ingestion.linger:20ms}") Duration linger,
+                                   @Value("${conference.reviews.ingestion.commit-timeout:10s}") Duration commitTimeout) {
+        this.conferenceService = conferenceService;
+        this.enabled = enabled;
+        this.ackMode = ackMode;
+        this.batchSize = batchSize;
+        this.linger = linger;
+        this.commitTimeout = commitTimeout;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("reviews.ingestion.queue.depth", queue, BlockingQueue::size)
+                .description("Reviews waiting in the ingestion queue")
+                .register(meterRegistry);
+        Gauge.builder("reviews.ingestion.queue.capacity", queue, q -> q.size() + q.remainingCapacity())
+                .register(meterRegistry);
+        this.batchLatency = Timer.builder("reviews.ingestion.batch.latency")
+                .description("Time to persist one micro-batch")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("reviews.ingestion.batch.size").register(meterRegistry);
+        this.rejected = Counter.builder("reviews.ingestion.rejected")
+                .description("Reviews refused because the queue was full")
+                .register(meterRegistry);
+        this.failed = Counter.builder("reviews.ingestion.failed").register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Dépose une review dans la file. En mode COMMITTED, attend le commit de son lot et renvoie la
+     * review créée ; en mode ACCEPTED, renvoie null aussitôt la review en file.
+     */
+    public ReviewResponseDTO submit(Long conferenceId, ReviewRequestDTO request) {
+        if (request.getNote() == null || request.getNote() < 1 || request.getNote() > 5) {
+            throw new IllegalArgumentException("Note must be between 1 and 5");
+        }
+        PendingReview pending = new PendingReview(conferenceId, request, new CompletableFuture<>());
+        if (!running) {
+            // Arrêté ou pas encore démarré : rien ne viderait la file, ce n'est pas une file pleine
+            throw new IngestionUnavailableException("Review ingestion is stopped");
+        }
+        if (!queue.offer(pending)) {
+            rejected.increment();
+            throw new IngestionQueueFullException("Review ingestion queue is full, retry later");
+        }
+        if (ackMode == ReviewAckMode.ACCEPTED) {
+            return null;
+        }
+        try {
+            return pending.result().orTimeout(commitTimeout.toMillis(), TimeUnit.MILLISECONDS).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                throw new IngestionUnavailableException("Review not committed within " + commitTimeout.toMillis()
+                        + " ms, it may still be stored");
+            }
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    // ==================== Writer ====================
+
+    private void drainLoop() {
+        List<PendingReview> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingReview first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                // Laisse le lot se remplir pendant linger, sans dépasser batch-size
+                long deadline = System.nanoTime() + linger.toNanos();
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) break;
+                    PendingReview next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+                inFlight = List.copyOf(batch);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("Review ingestion batch failed unexpectedly", e);
+            } finally {
+                inFlight = List.of();
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<PendingReview> batch) {
+        batchSizes.record(batch.size());
+        Map<Long, List<PendingReview>> byConference = new LinkedHashMap<>();
+        batch.forEach(p -> byConference.computeIfAbsent(p.conferenceId(), id -> new ArrayList<>()).add(p));
+        Map<Long, List<ReviewRequestDTO>> requests = new HashMap<>();
+        byConference.forEach((id, pending) -> requests.put(id, pending.stream().map(PendingReview::request).toList()));
+
+        Map<Long, List<ReviewResponseDTO>> saved;
+        try {
+            saved = batchLatency.recordCallable(() -> conferenceService.addReviewsBatch(requests));
+        } catch (Exception e) {
+            log.warn("Review batch of {} failed ({}), replaying reviews one by one", batch.size(), e.getMessage());
+            batch.forEach(this::writeOne);
+            return;
+        }
+
+        // Le lot est commité : les attentes sont libérées dans l'ordre de dépôt
+        byConference.forEach((conferenceId, pending) -> {
+            List<ReviewResponseDTO> created = saved.get(conferenceId);
+            for (int i = 0; i < pending.size(); i++) {
+                if (created != null) {
+                    pending.get(i).result().complete(created.get(i));
+                } else {
+                    failed.increment();
+                    pending.get(i).result().completeExceptionally(
+                            new ConferenceNotFoundException("Conference not found with id: " + conferenceId));
+                }
+            }
+        });
+    }
+
+    private void writeOne(PendingReview pending) {
+        try {
+            pending.result().complete(conferenceService.addReview(pending.conferenceId(), pending.request()));
+        } catch (Exception e) {
+            failed.increment();
+            if (ackMode == ReviewAckMode.ACCEPTED) {
+                log.warn("Accepted review for conference {} could not be stored: {}", pending.conferenceId(), e.getMessage());
+            }
+            pending.result().completeExceptionally(e);
+        }
+    }
+
+    // ==================== Lifecycle ====================
+
+    @Override
+    public void start() {
+        if (!enabled) return;
+        running = true;
+        writer = Thread.ofPlatform().name("review-ingestion").start(this::drainLoop);
+        log.info("Review ingestion pipeline started (ack={}, batch-size={}, linger={})", ackMode, batchSize, linger);
+    }
+
+    // Plus de nouvelles reviews ; le writer termine ce qui est déjà en file
+    @Override
+    public void stop() {
+        running = false;
+        if (writer == null) return;
+        try {
+            writer.join(Duration.ofSeconds(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Writer pas terminé à temps : son lot et le reste de la file ne seront pas écrits
+        List<PendingReview> abandoned = new ArrayList<>(inFlight);
+        queue.drainTo(abandoned);
+        if (abandoned.isEmpty()) return;
+        log.warn("Review ingestion stopped with {} review(s) not written", abandoned.size());
+        for (PendingReview pending : abandoned) {
+            if (pending.result().completeExceptionally(new IngestionUnavailableException("Review ingestion stopped"))) {
+                failed.increment();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Arrêté après le serveur web (phase plus basse) : les dernières reviews acceptées sont écrites
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
@@ -0,0 +1,112 @@
+package ma.enset.conferenceservice.jobs;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import ma.enset.conferenceservice.dto.StatisticsReportDTO;
+import ma.enset.conferenceservice.entities.ConferenceStatistics;
+import ma.enset.conferenceservice.enums.StatisticsDimension;
+import ma.enset.conferenceservice.repositories.ConferenceRepository;
+import ma.enset.conferenceservice.repositories.ConferenceStatisticsRepository;
+import ma.enset.conferenceservice.statistics.ConferenceStatisticsTracker;
+import ma.enset.conferenceservice.statistics.StatisticsDelta;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Recalcule par GROUP BY les totaux par type et par keynote et les compare aux lignes
+ * maintenues par delta, une fois les écarts en attente écrits. La correction est appliquée
+ * elle aussi sous forme de delta, pour ne pas écraser un incrément commité entre la lecture et
+ * l'écriture ; un écart résiduel dû à une écriture concurrente est repris au passage suivant.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ConferenceStatisticsJob {
+
+    private static final double SCORE_TOLERANCE = 1e-6;
+
+    private final ConferenceRepository conferenceRepository;
+    private final ConferenceStatisticsRepository statisticsRepository;
+    private final ConferenceStatisticsTracker statisticsTracker;
+
+    @Scheduled(cron = "${conference.statistics.verify-cron:0 30 3 * * *}")
+    public void scheduledVerify() {
+        StatisticsReportDTO report = run(true);
+        if (report.getDriftedBuckets() > 0) {
+            log.warn("Conference statistics drift repaired on {} bucket(s): {}",
+                    report.getDriftedBuckets(), report.getDriftedBucketKeys());
+        }
+    }
+
+    public StatisticsReportDTO run(boolean repair) {
+        statisticsTracker.flushPending();
+        Map<StatisticsDelta.Bucket, double[]> expected = new HashMap<>();
+        for (Object[] row : conferenceRepository.statisticsByType()) {
+            expected.put(new StatisticsDelta.Bucket(StatisticsDimension.TYPE, row[0].toString()), totalsOf(row));
+        }
+        for (Object[] row : conferenceRepository.statisticsByKeynote()) {
+            expected.put(new StatisticsDelta.Bucket(StatisticsDimension.KEYNOTE, row[0].toString()), totalsOf(row));
+        }
+
+        Map<StatisticsDelta.Bucket, double[]> stored = new HashMap<>();
+        for (ConferenceStatistics statistics : statisticsRepository.findAll()) {
+            stored.put(new StatisticsDelta.Bucket(statistics.getDimension(), statistics.getDimensionKey()), new double[]{
+                    statistics.getConferenceCount(), statistics.getScoreSum(),
+                    statistics.getInscritsSum(), statistics.getReviewCount()});
+        }
+
+        List<String> drifted = new ArrayList<>();
+        Map<StatisticsDelta.Bucket, double[]> corrections = new HashMap<>();
+        for (StatisticsDelta.Bucket bucket : union(expected, stored)) {
+            double[] want = expected.getOrDefault(bucket, new double[4]);
+            double[] have = stored.getOrDefault(bucket, new double[4]);
+            if (!matches(want, have)) {
+                drifted.add(bucket.dimension() + ":" + bucket.key());
+                corrections.put(bucket, new double[]{
+                        want[0] - have[0], want[1] - have[1], want[2] - have[2], want[3] - have[3]});
+            }
+        }
+
+        if (repair && !corrections.isEmpty()) {
+            corrections.forEach((bucket, diff) -> statisticsTracker.add(bucket,
+                    (long) diff[0], diff[1], (long) diff[2], (long) diff[3]));
+            statisticsTracker.flushPending();
+        }
+
+        log.info("Conference statistics checked on {} bucket(s), {} drifted", expected.size(), drifted.size());
+        return StatisticsReportDTO.builder()
+                .checkedBuckets(expected.size())
+                .driftedBuckets(drifted.size())
+                .repaired(repair)
+                .driftedBucketKeys(drifted)
+                .build();
+    }
+
+    private static double[] totalsOf(Object[] row) {
+        return new double[]{
+                ((Number) row[1]).doubleValue(),
+                row[2] != null ? ((Number) row[2]).doubleValue() : 0,
+                row[3] != null ? ((Number) row[3]).doubleValue() : 0,
+                row[4] != null ? ((Number) row[4]).doubleValue() : 0};
+    }
+
+    private static List<StatisticsDelta.Bucket> union(Map<StatisticsDelta.Bucket, double[]> a,
+                                                      Map<StatisticsDelta.Bucket, double[]> b) {
+        List<StatisticsDelta.Bucket> buckets = new ArrayList<>(a.keySet());
+        b.keySet().stream().filter(bucket -> !a.containsKey(bucket)).forEach(buckets::add);
+        return buckets;
+    }
+
+    // Comptes exacts ; somme des scores à la tolérance près (cumul de doubles)
+    private static boolean matches(double[] want, double[] have) {
+        return want[0] == have[0]
+                && Math.abs(want[1] - have[1]) <= SCORE_TOLERANCE * Math.max(1, Math.abs(want[1]))
+                && want[2] == have[2]
+                && want[3] == have[3];
+    }
+}
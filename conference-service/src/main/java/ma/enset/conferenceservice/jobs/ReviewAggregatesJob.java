@@ -0,0 +1,137 @@
+package ma.enset.conferenceservice.jobs;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import ma.enset.conferenceservice.dto.AggregatesReportDTO;
+import ma.enset.conferenceservice.entities.Conference;
+import ma.enset.conferenceservice.leaderboard.ConferenceLeaderboard;
+import ma.enset.conferenceservice.leaderboard.LeaderboardEntry;
+import ma.enset.conferenceservice.repositories.ConferenceRepository;
+import ma.enset.conferenceservice.repositories.ReviewRepository;
+import ma.enset.conferenceservice.statistics.ConferenceContribution;
+import ma.enset.conferenceservice.statistics.ConferenceStatisticsTracker;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Recalcule depuis la table reviews les agrégats (nombre, somme, histogramme) stockés sur
+ * chaque conférence, et signale / corrige les écarts avec les valeurs maintenues par delta.
+ * La correction tourne pendant que les reviews continuent d'arriver : elle recalcule en SQL sous
+ * le verrou de ligne de la conférence, jamais à partir d'une entité lue plus tôt, sans quoi un
+ * delta commité entre la lecture et l'écriture serait perdu.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReviewAggregatesJob {
+
+    private static final int PAGE_SIZE = 500;
+    private static final long[] EMPTY_HISTOGRAM = new long[6];
+
+    private final ConferenceRepository conferenceRepository;
+    private final ReviewRepository reviewRepository;
+    private final ConferenceStatisticsTracker statisticsTracker;
+    private final ConferenceLeaderboard conferenceLeaderboard;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(cron = "${conference.aggregates.verify-cron:0 0 3 * * *}")
+    public void scheduledVerify() {
+        AggregatesReportDTO report = run(true);
+        if (report.getDriftedConferences() > 0) {
+            log.warn("Review aggregates drift repaired on {} conference(s): {}",
+                    report.getDriftedConferences(), report.getDriftedConferenceIds());
+        }
+    }
+
+    /**
+     * Vérification en lecture seule, puis réparation conférence par conférence (voir rebuild) :
+     * aucune transaction ne couvre tout le parcours.
+     */
+    public AggregatesReportDTO run(boolean repair) {
+        Map<Long, long[]> histograms = new HashMap<>();
+        for (Object[] row : reviewRepository.countByConferenceAndNote()) {
+            long[] histogram = histograms.computeIfAbsent((Long) row[0], id -> new long[6]);
+            histogram[(Integer) row[1]] = (Long) row[2];
+        }
+
+        long checked = 0;
+        List<Long> drifted = new ArrayList<>();
+        Page<Conference> page;
+        int pageNumber = 0;
+        do {
+            page = conferenceRepository.findAll(PageRequest.of(pageNumber++, PAGE_SIZE, Sort.by("id")));
+            for (Conference conference : page) {
+                checked++;
+                if (!matches(conference, histograms.getOrDefault(conference.getId(), EMPTY_HISTOGRAM))) {
+                    drifted.add(conference.getId());
+                }
+            }
+        } while (page.hasNext());
+        if (repair) {
+            rebuild(drifted);
+        }
+
+        log.info("Review aggregates checked on {} conference(s), {} drifted", checked, drifted.size());
+        return AggregatesReportDTO.builder()
+                .checkedConferences(checked)
+                .driftedConferences(drifted.size())
+                .repaired(repair)
+                .driftedConferenceIds(drifted)
+                .build();
+    }
+
+    /**
+     * Recalcule les agrégats des seules conférences indiquées (ex. après un import massif de reviews),
+     * chacune dans sa propre transaction : le verrou de ligne n'est tenu que le temps d'une
+     * conférence, et les reviews ajoutées entre-temps par delta ne sont jamais écrasées.
+     */
+    public void rebuild(Collection<Long> conferenceIds) {
+        // Ordre des ids, comme les lots d'ingestion : pas d'interblocage entre verrous de ligne
+        for (Long id : new TreeSet<>(conferenceIds)) {
+            transactionTemplate.executeWithoutResult(status -> rebuildOne(id));
+        }
+    }
+
+    // Le score et le nombre de reviews changent : statistiques et classement suivent
+    private void rebuildOne(Long id) {
+        // Delta nul : verrou de ligne (et nouvelle version) avant de lire l'état d'origine
+        if (conferenceRepository.applyReviewDelta(id, 0, 0, 0, 0, 0, Instant.now()) == 0) return;
+        ConferenceRepository.ConferenceAggregatesView before = conferenceRepository.findAggregatesById(id).orElseThrow();
+        conferenceRepository.recomputeReviewAggregates(id);
+        ConferenceRepository.ConferenceAggregatesView after = conferenceRepository.findAggregatesById(id).orElseThrow();
+
+        double score = Conference.scoreOf(after.getNoteSum(), after.getReviewCount(), before.getScore());
+        if (score != before.getScore()) {
+            conferenceRepository.updateScore(id, score);
+        }
+        int inscrits = after.getNombreInscrits() != null ? after.getNombreInscrits() : 0;
+        statisticsTracker.record(
+                new ConferenceContribution(before.getType(), before.getKeynoteId(), before.getScore(), inscrits, before.getReviewCount()),
+                new ConferenceContribution(after.getType(), after.getKeynoteId(), score, inscrits, after.getReviewCount()));
+        conferenceLeaderboard.update(new LeaderboardEntry(id, after.getTitre(), after.getType(), score, inscrits,
+                after.getReviewCount(), after.getVersion()));
+    }
+
+    private boolean matches(Conference conference, long[] histogram) {
+        long count = 0;
+        long sum = 0;
+        for (int note = 1; note <= 5; note++) {
+            if (conference.getNoteCount(note) != histogram[note]) return false;
+            count += histogram[note];
+            sum += note * histogram[note];
+        }
+        return conference.getReviewCount() == count && conference.getNoteSum() == sum;
+    }
+}
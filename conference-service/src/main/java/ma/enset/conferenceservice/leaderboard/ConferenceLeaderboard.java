@@ -0,0 +1,173 @@
+package ma.enset.conferenceservice.leaderboard;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import ma.enset.conferenceservice.entities.Conference;
+import ma.enset.conferenceservice.enums.ConferenceType;
+import ma.enset.conferenceservice.repositories.ConferenceRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Stream;
+
+/**
+ * Classement des conférences par score tenu en mémoire : un ensemble trié global et un par type.
+ * Un top-K parcourt les K premières entrées, sans requête SQL.
+ *
+ * Les mises à jour sont appliquées après le commit de la transaction qui les produit, jamais
+ * pour une transaction annulée. Le classement est reconstruit depuis la base au démarrage, en
+ * arrière-plan : tant qu'il n'est pas prêt, {@link #isReady()} est faux et les lectures passent
+ * par la base.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ConferenceLeaderboard {
+
+    private final ConferenceRepository conferenceRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService virtualThreadExecutor;
+
+    // Entrée courante par conférence ; null = supprimée (tombstone gardée pendant la reconstruction)
+    private final Map<Long, Slot> entries = new ConcurrentHashMap<>();
+    private final NavigableSet<LeaderboardEntry> overall = new ConcurrentSkipListSet<>(LeaderboardEntry.ORDER);
+    private final Map<ConferenceType, NavigableSet<LeaderboardEntry>> byType = new EnumMap<>(ConferenceType.class);
+
+    private volatile boolean ready;
+
+    private record Slot(LeaderboardEntry entry) {
+    }
+
+    {
+        for (ConferenceType type : ConferenceType.values()) {
+            byType.put(type, new ConcurrentSkipListSet<>(LeaderboardEntry.ORDER));
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<LeaderboardEntry> top(ConferenceType type, int limit) {
+        NavigableSet<LeaderboardEntry> set = type == null ? overall : byType.get(type);
+        List<LeaderboardEntry> result = new ArrayList<>(Math.min(limit, 128));
+        Iterator<LeaderboardEntry> it = set.iterator();
+        while (it.hasNext() && result.size() < limit) {
+            result.add(it.next());
+        }
+        return result;
+    }
+
+    // Instantané pris tout de suite, appliqué après commit
+    public void update(Conference conference) {
+        update(LeaderboardEntry.of(conference));
+    }
+
+    public void update(LeaderboardEntry entry) {
+        afterCommit(() -> put(entry.id(), entry));
+    }
+
+    public void remove(Long conferenceId) {
+        afterCommit(() -> put(conferenceId, null));
+    }
+
+    // ==================== Reconstruction ====================
+
+    // ApplicationReadyEvent est publié avant le passage à ACCEPTING_TRAFFIC : ne pas le bloquer
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        virtualThreadExecutor.execute(() -> {
+            try {
+                rebuild();
+            } catch (Exception e) {
+                log.error("Leaderboard rebuild failed, reads stay on the database", e);
+            }
+        });
+    }
+
+    /**
+     * Charge toutes les conférences sans écraser les entrées déjà mises à jour (ou supprimées)
+     * par des commits survenus pendant la lecture.
+     */
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        ready = false;
+        entries.clear();
+        overall.clear();
+        byType.values().forEach(NavigableSet::clear);
+        long[] loaded = {0};
+        transactionTemplate.execute(status -> {
+            try (Stream<Object[]> rows = conferenceRepository.streamLeaderboardRows()) {
+                rows.forEach(row -> {
+                    LeaderboardEntry entry = new LeaderboardEntry(
+                            (Long) row[0], (String) row[1], (ConferenceType) row[2],
+                            row[3] != null ? (Double) row[3] : 0.0,
+                            row[4] != null ? (Integer) row[4] : 0,
+                            row[5] != null ? (Long) row[5] : 0,
+                            row[6] != null ? (Long) row[6] : 0);
+                    entries.computeIfAbsent(entry.id(), id -> {
+                        index(entry);
+                        return new Slot(entry);
+                    });
+                    loaded[0]++;
+                });
+            }
+            return null;
+        });
+        entries.values().removeIf(slot -> slot.entry() == null);
+        ready = true;
+        log.info("Leaderboard rebuilt with {} conference(s) in {} ms", loaded[0], System.currentTimeMillis() - start);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void put(Long id, LeaderboardEntry entry) {
+        entries.compute(id, (key, previous) -> {
+            // Les callbacks après commit de deux transactions peuvent s'exécuter dans le désordre
+            if (entry != null && previous != null && previous.entry() != null
+                    && previous.entry().version() > entry.version()) {
+                return previous;
+            }
+            if (previous != null && previous.entry() != null) unindex(previous.entry());
+            if (entry != null) index(entry);
+            // Hors reconstruction, une suppression libère la clé
+            return entry == null && ready ? null : new Slot(entry);
+        });
+    }
+
+    private void index(LeaderboardEntry entry) {
+        overall.add(entry);
+        byType.get(entry.type()).add(entry);
+    }
+
+    private void unindex(LeaderboardEntry entry) {
+        overall.remove(entry);
+        byType.get(entry.type()).remove(entry);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
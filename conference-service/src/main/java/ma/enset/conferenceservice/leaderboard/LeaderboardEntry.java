@@ -0,0 +1,32 @@
+package ma.enset.conferenceservice.leaderboard;
+
+import ma.enset.conferenceservice.entities.Conference;
+import ma.enset.conferenceservice.enums.ConferenceType;
+
+import java.util.Comparator;
+
+/**
+ * Instantané immuable d'une conférence dans le classement. L'ordre est total
+ * (score décroissant, inscrits décroissants, id croissant) : deux entrées distinctes
+ * ne sont jamais égales pour le comparateur. La version de la conférence permet d'écarter
+ * un instantané plus ancien que celui déjà en place.
+ */
+public record LeaderboardEntry(long id, String titre, ConferenceType type, double score, int nombreInscrits,
+                               long reviewCount, long version) {
+
+    public static final Comparator<LeaderboardEntry> ORDER = Comparator
+            .comparingDouble(LeaderboardEntry::score).reversed()
+            .thenComparing(Comparator.comparingInt(LeaderboardEntry::nombreInscrits).reversed())
+            .thenComparingLong(LeaderboardEntry::id);
+
+    public static LeaderboardEntry of(Conference conference) {
+        return new LeaderboardEntry(
+                conference.getId(),
+                conference.getTitre(),
+                conference.getType(),
+                conference.getScore() != null ? conference.getScore() : 0.0,
+                conference.getNombreInscrits() != null ? conference.getNombreInscrits() : 0,
+                conference.getReviewCount() != null ? conference.getReviewCount() : 0,
+                conference.getVersion() != null ? conference.getVersion() : 0);
+    }
+}
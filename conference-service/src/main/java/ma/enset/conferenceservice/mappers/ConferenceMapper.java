@@ -19,12 +19,16 @@ public class ConferenceMapper {
                 .date(dto.getDate())
                 .duree(dto.getDuree())
                 .nombreInscrits(dto.getNombreInscrits())
-                .score(dto.getScore())
+                .score(dto.getScore() != null ? dto.getScore() : 0.0)
                 .keynoteId(dto.getKeynoteId())
                 .build();
     }
 
     public ConferenceResponseDTO toResponseDTO(Conference entity) {
+        return toResponseDTO(entity, true);
+    }
+
+    public ConferenceResponseDTO toResponseDTO(Conference entity, boolean withReviews) {
         if (entity == null) return null;
         return ConferenceResponseDTO.builder()
                 .id(entity.getId())
@@ -34,8 +38,10 @@ public class ConferenceMapper {
                 .duree(entity.getDuree())
                 .nombreInscrits(entity.getNombreInscrits())
                 .score(entity.getScore())
+                .reviewCount(entity.getReviewCount())
                 .keynoteId(entity.getKeynoteId())
-                .reviews(entity.getReviews() != null ?
+                .version(entity.getVersion())
+                .reviews(withReviews && entity.getReviews() != null ?
                         entity.getReviews().stream()
                                 .map(this::toReviewResponseDTO)
                                 .collect(Collectors.toList()) : null)
@@ -51,8 +57,12 @@ public class ConferenceMapper {
     }
 
     public List<ConferenceResponseDTO> toResponseDTOList(List<Conference> entities) {
+        return toResponseDTOList(entities, true);
+    }
+
+    public List<ConferenceResponseDTO> toResponseDTOList(List<Conference> entities, boolean withReviews) {
         return entities.stream()
-                .map(this::toResponseDTO)
+                .map(entity -> toResponseDTO(entity, withReviews))
                 .collect(Collectors.toList());
     }
 
@@ -85,6 +95,7 @@ public class ConferenceMapper {
                 .texte(entity.getTexte())
                 .note(entity.getNote())
                 .conferenceId(entity.getConference() != null ? entity.getConference().getId() : null)
+                .version(entity.getVersion())
                 .build();
     }
 
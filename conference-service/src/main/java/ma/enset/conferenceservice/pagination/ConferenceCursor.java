@@ -0,0 +1,43 @@
+package ma.enset.conferenceservice.pagination;
+
+import ma.enset.conferenceservice.entities.Conference;
+import ma.enset.conferenceservice.enums.ConferenceSort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position de reprise d'une pagination par clé : tri, valeur de la clé de tri et id
+ * de la dernière conférence renvoyée. Encodé en Base64 URL pour rester opaque au client.
+ */
+public record ConferenceCursor(ConferenceSort sort, LocalDate date, Double score, Long id) {
+
+    public static ConferenceCursor after(ConferenceSort sort, Conference last) {
+        return new ConferenceCursor(sort, last.getDate(), last.getScore(), last.getId());
+    }
+
+    public String encode() {
+        String key = sort == ConferenceSort.DATE ? date.toString() : score.toString();
+        String raw = sort.name() + "|" + key + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ConferenceCursor decode(String token, ConferenceSort expectedSort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            ConferenceSort sort = ConferenceSort.valueOf(parts[0]);
+            if (parts.length != 3 || sort != expectedSort) {
+                throw new IllegalArgumentException("Cursor does not match sort " + expectedSort);
+            }
+            Long id = Long.valueOf(parts[2]);
+            return sort == ConferenceSort.DATE
+                    ? new ConferenceCursor(sort, LocalDate.parse(parts[1]), null, id)
+                    : new ConferenceCursor(sort, null, Double.valueOf(parts[1]), id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package ma.enset.conferenceservice.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position de reprise d'une recherche : pertinence et id du dernier résultat renvoyé
+ * (ordre pertinence décroissante, id croissant). Encodé en Base64 URL pour rester opaque au client.
+ */
+public record SearchCursor(Long relevance, Long id) {
+
+    private static final String PREFIX = "SEARCH";
+
+    // Ligne [conferenceId, pertinence] renvoyée par le classement
+    public static SearchCursor after(Object[] last) {
+        return new SearchCursor(((Number) last[1]).longValue(), (Long) last[0]);
+    }
+
+    public String encode() {
+        String raw = PREFIX + "|" + relevance + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SearchCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3 || !PREFIX.equals(parts[0])) {
+                throw new IllegalArgumentException("Not a search cursor");
+            }
+            return new SearchCursor(Long.valueOf(parts[1]), Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+}
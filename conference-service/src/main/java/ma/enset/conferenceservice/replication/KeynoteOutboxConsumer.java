@@ -0,0 +1,181 @@
+package ma.enset.conferenceservice.replication;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import ma.enset.conferenceservice.clients.KeynoteRestClient;
+import ma.enset.conferenceservice.dto.KeynoteOutboxEventDTO;
+import ma.enset.conferenceservice.dto.KeynoteOutboxPageDTO;
+import ma.enset.conferenceservice.entities.ConsumerOffset;
+import ma.enset.conferenceservice.entities.KeynoteReplica;
+import ma.enset.conferenceservice.repositories.ConsumerOffsetRepository;
+import ma.enset.conferenceservice.repositories.KeynoteReplicaRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Suit l'outbox de keynote-service (GET /api/keynotes/outbox?after=n) et maintient la table
+ * keynote_replica. Chaque page d'événements est appliquée dans une transaction qui avance aussi
+ * l'offset du consommateur : après un redémarrage, la lecture reprend exactement après le
+ * dernier événement appliqué, sans trou ni double application.
+ *
+ * Si keynote-service repart de zéro (base en mémoire), l'époque de son flux change : la copie est
+ * vidée puis reconstruite depuis le début du flux. Le seul recul du dernier numéro ne suffirait
+ * pas : des écritures rapides après le redémarrage peuvent le ramener au-delà de l'offset.
+ *
+ * Métriques : keynote.replica.lag (événements publiés non encore appliqués) et
+ * keynote.replica.staleness (secondes depuis la dernière fois que la copie était à jour).
+ */
+@Component
+@Slf4j
+public class KeynoteOutboxConsumer {
+
+    static final String CONSUMER = "keynote-outbox";
+
+    private final KeynoteRestClient keynoteRestClient;
+    private final KeynoteReplicaRepository replicaRepository;
+    private final ConsumerOffsetRepository offsetRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // -1 : offset pas encore lu en base
+    private volatile long appliedSequence = -1;
+    private volatile String appliedEpoch;
+    private volatile long headSequence;
+    private volatile Instant caughtUpAt;
+
+    public KeynoteOutboxConsumer(KeynoteRestClient keynoteRestClient,
+                                 KeynoteReplicaRepository replicaRepository,
+                                 ConsumerOffsetRepository offsetRepository,
+                                 TransactionTemplate transactionTemplate,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${conference.keynote-replica.enabled:true}") boolean enabled,
+                                 @Value("${conference.keynote-replica.batch-size:500}") int batchSize) {
+        this.keynoteRestClient = keynoteRestClient;
+        this.replicaRepository = replicaRepository;
+        this.offsetRepository = offsetRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+
+        Gauge.builder("keynote.replica.lag", this, consumer -> Math.max(0, consumer.headSequence - consumer.appliedSequence))
+                .description("Keynote outbox events published but not yet applied locally")
+                .register(meterRegistry);
+        Gauge.builder("keynote.replica.staleness", this, consumer -> consumer.caughtUpAt == null ? Double.NaN
+                        : Duration.between(consumer.caughtUpAt, Instant.now()).toMillis() / 1000.0)
+                .description("Seconds since the keynote replica was last known to be up to date")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    // Copie utilisable : rattrapée au moins une fois depuis le démarrage
+    public boolean isSynchronized() {
+        return enabled && caughtUpAt != null;
+    }
+
+    @Scheduled(fixedDelayString = "${conference.keynote-replica.poll-interval:1000}")
+    public void poll() {
+        if (!enabled) return;
+        try {
+            if (appliedSequence < 0) {
+                ConsumerOffset offset = offsetRepository.findById(CONSUMER).orElse(null);
+                appliedEpoch = offset == null ? null : offset.getEpoch();
+                appliedSequence = offset == null ? 0L : offset.getLastSequence();
+            }
+            while (true) {
+                KeynoteOutboxPageDTO page = keynoteRestClient.getOutbox(appliedSequence, batchSize);
+                headSequence = page.getHeadSequence();
+                // Autre époque (ou numéro en recul) : source repartie de zéro. Tant que rien
+                // n'est appliqué, on adopte simplement son époque
+                if (appliedSequence > 0 && (!Objects.equals(page.getEpoch(), appliedEpoch) || headSequence < appliedSequence)) {
+                    resetReplica(page.getEpoch());
+                    continue;
+                }
+                appliedEpoch = page.getEpoch();
+                List<KeynoteOutboxEventDTO> events = page.getEvents();
+                if (!events.isEmpty()) {
+                    transactionTemplate.executeWithoutResult(status -> apply(events, page.getEpoch()));
+                    appliedSequence = events.get(events.size() - 1).getSequence();
+                }
+                if (events.size() < batchSize) {
+                    caughtUpAt = Instant.now();
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            // Copie laissée en l'état : nouvelle tentative au prochain passage, au même offset
+            log.warn("Keynote outbox poll failed at sequence {}: {}", appliedSequence, e.getMessage());
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void apply(List<KeynoteOutboxEventDTO> events, String epoch) {
+        Instant now = Instant.now();
+        Map<Long, KeynoteReplica> replicas = replicaRepository.findAllById(events.stream()
+                        .map(KeynoteOutboxEventDTO::getKeynoteId)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(KeynoteReplica::getId, Function.identity()));
+        for (KeynoteOutboxEventDTO event : events) {
+            KeynoteReplica replica = replicas.get(event.getKeynoteId());
+            if ("DELETED".equals(event.getType())) {
+                if (replica != null) {
+                    entityManager.remove(replica);
+                    replicas.remove(event.getKeynoteId());
+                }
+                continue;
+            }
+            if (replica == null) {
+                replica = KeynoteReplica.builder().id(event.getKeynoteId()).build();
+                entityManager.persist(replica);
+                replicas.put(replica.getId(), replica);
+            }
+            replica.setNom(event.getNom());
+            replica.setPrenom(event.getPrenom());
+            replica.setEmail(event.getEmail());
+            replica.setFonction(event.getFonction());
+            replica.setVersion(event.getKeynoteVersion());
+            replica.setSourceSequence(event.getSequence());
+            replica.setUpdatedAt(now);
+        }
+        saveOffset(events.get(events.size() - 1).getSequence(), epoch, now);
+    }
+
+    private void resetReplica(String epoch) {
+        log.warn("Keynote outbox epoch {} (head {}) does not match local epoch {} (offset {}): source was reset, rebuilding the replica",
+                epoch, headSequence, appliedEpoch, appliedSequence);
+        transactionTemplate.executeWithoutResult(status -> {
+            replicaRepository.deleteAllInBatch();
+            saveOffset(0L, epoch, Instant.now());
+        });
+        appliedEpoch = epoch;
+        appliedSequence = 0;
+        caughtUpAt = null;
+    }
+
+    private void saveOffset(long sequence, String epoch, Instant now) {
+        ConsumerOffset offset = offsetRepository.findById(CONSUMER)
+                .orElseGet(() -> ConsumerOffset.builder().consumer(CONSUMER).build());
+        offset.setLastSequence(sequence);
+        offset.setEpoch(epoch);
+        offset.setUpdatedAt(now);
+        offsetRepository.save(offset);
+    }
+}
@@ -0,0 +1,49 @@
+package ma.enset.conferenceservice.replication;
+
+import lombok.RequiredArgsConstructor;
+import ma.enset.conferenceservice.dto.KeynoteDTO;
+import ma.enset.conferenceservice.entities.KeynoteReplica;
+import ma.enset.conferenceservice.repositories.KeynoteReplicaRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Lecture des keynotes depuis la copie locale, sans appel à keynote-service. Tant que la copie
+ * n'a pas rattrapé l'outbox, rien n'est renvoyé et l'appelant passe par le client distant.
+ */
+@Component
+@RequiredArgsConstructor
+public class KeynoteReadModel {
+
+    private final KeynoteReplicaRepository replicaRepository;
+    private final KeynoteOutboxConsumer outboxConsumer;
+
+    public Optional<KeynoteDTO> find(Long keynoteId) {
+        if (!outboxConsumer.isSynchronized()) return Optional.empty();
+        return replicaRepository.findById(keynoteId).map(KeynoteReadModel::toDTO);
+    }
+
+    // Une requête "where id in (...)" ; les ids absents de la copie sont absents du résultat
+    public Map<Long, KeynoteDTO> findAll(Collection<Long> keynoteIds) {
+        if (!outboxConsumer.isSynchronized()) return Map.of();
+        return replicaRepository.findAllById(keynoteIds).stream()
+                .map(KeynoteReadModel::toDTO)
+                .collect(Collectors.toMap(KeynoteDTO::getId, Function.identity()));
+    }
+
+    private static KeynoteDTO toDTO(KeynoteReplica replica) {
+        return KeynoteDTO.builder()
+                .id(replica.getId())
+                .nom(replica.getNom())
+                .prenom(replica.getPrenom())
+                .email(replica.getEmail())
+                .fonction(replica.getFonction())
+                .version(replica.getVersion())
+                .build();
+    }
+}
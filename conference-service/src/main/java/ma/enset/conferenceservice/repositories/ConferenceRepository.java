@@ -1,15 +1,115 @@
 package ma.enset.conferenceservice.repositories;
 
+import jakarta.persistence.QueryHint;
 import ma.enset.conferenceservice.entities.Conference;
 import ma.enset.conferenceservice.enums.ConferenceType;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
-public interface ConferenceRepository extends JpaRepository<Conference, Long> {
+public interface ConferenceRepository extends JpaRepository<Conference, Long>, JpaSpecificationExecutor<Conference> {
+    // Vue détail : conférence et reviews en une seule requête
+    @EntityGraph(attributePaths = "reviews")
+    Optional<Conference> findWithReviewsById(Long id);
+
+    interface ConferenceVersionView extends VersionView {
+        Long getKeynoteId();
+    }
+
+    // Version seule (3 colonnes) pour les GET conditionnels
+    Optional<ConferenceVersionView> findVersionById(Long id);
+
+    interface ConferenceAggregatesView {
+        Long getId();
+        String getTitre();
+        ConferenceType getType();
+        Long getKeynoteId();
+        Integer getNombreInscrits();
+        Double getScore();
+        Long getReviewCount();
+        Long getNoteSum();
+        Long getVersion();
+    }
+
+    Optional<ConferenceAggregatesView> findAggregatesById(Long id);
+
+    /**
+     * Ajoute à l'histogramme des notes un delta (d1..d5, négatif pour un retrait) et en déduit
+     * nombre et somme, le tout calculé en base : jamais de lecture-modification-écriture, donc
+     * aucune mise à jour perdue entre reviews concurrentes. Le verrou de ligne pris ici sérialise
+     * les écritures sur cette seule conférence jusqu'au commit. La version (ETag) change même
+     * avec un delta nul.
+     */
+    @Modifying
+    @Query("update Conference c set " +
+            "c.note1Count = c.note1Count + :d1, c.note2Count = c.note2Count + :d2, c.note3Count = c.note3Count + :d3, " +
+            "c.note4Count = c.note4Count + :d4, c.note5Count = c.note5Count + :d5, " +
+            "c.reviewCount = c.reviewCount + :d1 + :d2 + :d3 + :d4 + :d5, " +
+            "c.noteSum = c.noteSum + :d1 + 2 * :d2 + 3 * :d3 + 4 * :d4 + 5 * :d5, " +
+            "c.version = c.version + 1, c.lastModified = :now " +
+            "where c.id = :id")
+    int applyReviewDelta(@Param("id") Long id, @Param("d1") long d1, @Param("d2") long d2, @Param("d3") long d3,
+                         @Param("d4") long d4, @Param("d5") long d5, @Param("now") Instant now);
+
+    // Écrit sous le verrou de ligne pris par applyReviewDelta dans la même transaction
+    @Modifying
+    @Query("update Conference c set c.score = :score where c.id = :id")
+    int updateScore(@Param("id") Long id, @Param("score") double score);
+
+    /**
+     * Recalcule l'histogramme, le nombre et la somme depuis la table reviews, en base et en une
+     * requête. À appeler sous le verrou de ligne (applyReviewDelta à delta nul) pour que les
+     * valeurs lues avant et après soient cohérentes avec les reviews concurrentes.
+     */
+    @Modifying
+    @Query("update Conference c set " +
+            "c.note1Count = (select count(r) from Review r where r.conference.id = :id and r.note = 1), " +
+            "c.note2Count = (select count(r) from Review r where r.conference.id = :id and r.note = 2), " +
+            "c.note3Count = (select count(r) from Review r where r.conference.id = :id and r.note = 3), " +
+            "c.note4Count = (select count(r) from Review r where r.conference.id = :id and r.note = 4), " +
+            "c.note5Count = (select count(r) from Review r where r.conference.id = :id and r.note = 5), " +
+            "c.reviewCount = (select count(r) from Review r where r.conference.id = :id), " +
+            "c.noteSum = (select coalesce(sum(r.note), 0) from Review r where r.conference.id = :id) " +
+            "where c.id = :id")
+    int recomputeReviewAggregates(@Param("id") Long id);
+
+    @Query("select c.id from Conference c where c.id in :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // Curseur serveur pour l'export : lignes lues par paquets de 500, jamais toutes en mémoire
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select c from Conference c order by c.id")
+    Stream<Conference> streamAllByOrderById();
+
+    // Reconstruction du classement : colonnes seules, aucune entité gérée par le contexte de persistance
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select c.id, c.titre, c.type, c.score, c.nombreInscrits, c.reviewCount, c.version from Conference c")
+    Stream<Object[]> streamLeaderboardRows();
+
+    // Totaux de référence pour la réconciliation des statistiques : [clé, nombre, somme des scores, inscrits, reviews]
+    @Query("select c.type, count(c), sum(c.score), sum(coalesce(c.nombreInscrits, 0)), sum(c.reviewCount) " +
+            "from Conference c group by c.type")
+    List<Object[]> statisticsByType();
+
+    @Query("select c.keynoteId, count(c), sum(c.score), sum(coalesce(c.nombreInscrits, 0)), sum(c.reviewCount) " +
+            "from Conference c where c.keynoteId is not null group by c.keynoteId")
+    List<Object[]> statisticsByKeynote();
+
     List<Conference> findByType(ConferenceType type);
     List<Conference> findByKeynoteId(Long keynoteId);
     List<Conference> findByDateBetween(LocalDate startDate, LocalDate endDate);
@@ -0,0 +1,33 @@
+package ma.enset.conferenceservice.repositories;
+
+import ma.enset.conferenceservice.entities.ConferenceSearchTerm;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ConferenceSearchTermRepository extends JpaRepository<ConferenceSearchTerm, Long> {
+
+    // [conferenceId, pertinence] : somme des poids des termes trouvés, meilleure pertinence d'abord
+    @Query("select t.conferenceId, sum(t.weight) from ConferenceSearchTerm t where t.term in :terms " +
+            "group by t.conferenceId order by sum(t.weight) desc, t.conferenceId asc")
+    List<Object[]> rank(@Param("terms") Collection<String> terms, Pageable pageable);
+
+    // Suite du classement après (relevance, id) : pagination par clé, sans OFFSET
+    @Query("select t.conferenceId, sum(t.weight) from ConferenceSearchTerm t where t.term in :terms " +
+            "group by t.conferenceId " +
+            "having sum(t.weight) < :relevance or (sum(t.weight) = :relevance and t.conferenceId > :id) " +
+            "order by sum(t.weight) desc, t.conferenceId asc")
+    List<Object[]> rankAfter(@Param("terms") Collection<String> terms, @Param("relevance") Long relevance,
+                             @Param("id") Long id, Pageable pageable);
+
+    @Modifying
+    @Query("delete from ConferenceSearchTerm t where t.conferenceId = :conferenceId")
+    void deleteByConferenceId(@Param("conferenceId") Long conferenceId);
+}
@@ -0,0 +1,77 @@
+package ma.enset.conferenceservice.repositories;
+
+import ma.enset.conferenceservice.dto.ConferenceFilterDTO;
+import ma.enset.conferenceservice.entities.Conference;
+import ma.enset.conferenceservice.enums.ConferenceSort;
+import ma.enset.conferenceservice.enums.ConferenceType;
+import ma.enset.conferenceservice.pagination.ConferenceCursor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+public final class ConferenceSpecifications {
+
+    private ConferenceSpecifications() {
+    }
+
+    public static Specification<Conference> unfiltered() {
+        return (root, query, cb) -> null;
+    }
+
+    public static Specification<Conference> hasType(ConferenceType type) {
+        return (root, query, cb) -> type == null ? null : cb.equal(root.get("type"), type);
+    }
+
+    public static Specification<Conference> hasKeynote(Long keynoteId) {
+        return (root, query, cb) -> keynoteId == null ? null : cb.equal(root.get("keynoteId"), keynoteId);
+    }
+
+    public static Specification<Conference> dateFrom(LocalDate from) {
+        return (root, query, cb) -> from == null ? null : cb.greaterThanOrEqualTo(root.get("date"), from);
+    }
+
+    public static Specification<Conference> dateTo(LocalDate to) {
+        return (root, query, cb) -> to == null ? null : cb.lessThanOrEqualTo(root.get("date"), to);
+    }
+
+    public static Specification<Conference> minScore(Double minScore) {
+        return (root, query, cb) -> minScore == null ? null : cb.greaterThanOrEqualTo(root.get("score"), minScore);
+    }
+
+    public static Specification<Conference> minInscrits(Integer minInscrits) {
+        return (root, query, cb) -> minInscrits == null ? null : cb.greaterThanOrEqualTo(root.get("nombreInscrits"), minInscrits);
+    }
+
+    public static Specification<Conference> matching(ConferenceFilterDTO filter) {
+        return hasType(filter.getType())
+                .and(hasKeynote(filter.getKeynoteId()))
+                .and(dateFrom(filter.getFrom()))
+                .and(dateTo(filter.getTo()))
+                .and(minScore(filter.getMinScore()))
+                .and(minInscrits(filter.getMinInscrits()));
+    }
+
+    /**
+     * Conférences strictement après le curseur dans l'ordre de {@link #orderOf(ConferenceSort)}.
+     */
+    public static Specification<Conference> after(ConferenceCursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) return null;
+            if (cursor.sort() == ConferenceSort.DATE) {
+                return cb.or(
+                        cb.greaterThan(root.get("date"), cursor.date()),
+                        cb.and(cb.equal(root.get("date"), cursor.date()), cb.greaterThan(root.get("id"), cursor.id())));
+            }
+            return cb.or(
+                    cb.lessThan(root.get("score"), cursor.score()),
+                    cb.and(cb.equal(root.get("score"), cursor.score()), cb.lessThan(root.get("id"), cursor.id())));
+        };
+    }
+
+    public static Sort orderOf(ConferenceSort sort) {
+        return sort == ConferenceSort.DATE
+                ? Sort.by(Sort.Order.asc("date"), Sort.Order.asc("id"))
+                : Sort.by(Sort.Order.desc("score"), Sort.Order.desc("id"));
+    }
+}
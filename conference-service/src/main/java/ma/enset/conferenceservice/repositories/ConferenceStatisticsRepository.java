@@ -0,0 +1,30 @@
+package ma.enset.conferenceservice.repositories;
+
+import ma.enset.conferenceservice.entities.ConferenceStatistics;
+import ma.enset.conferenceservice.enums.StatisticsDimension;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ConferenceStatisticsRepository extends JpaRepository<ConferenceStatistics, Long> {
+
+    Optional<ConferenceStatistics> findByDimensionAndDimensionKey(StatisticsDimension dimension, String dimensionKey);
+
+    List<ConferenceStatistics> findByDimensionOrderByDimensionKey(StatisticsDimension dimension);
+
+    // Incrément atomique côté base : pas de lecture-modification-écriture entre transactions concurrentes
+    @Modifying
+    @Query("update ConferenceStatistics s set s.conferenceCount = s.conferenceCount + :conferences, " +
+            "s.scoreSum = s.scoreSum + :score, s.inscritsSum = s.inscritsSum + :inscrits, " +
+            "s.reviewCount = s.reviewCount + :reviews " +
+            "where s.dimension = :dimension and s.dimensionKey = :key")
+    int increment(@Param("dimension") StatisticsDimension dimension, @Param("key") String key,
+                  @Param("conferences") long conferences, @Param("score") double score,
+                  @Param("inscrits") long inscrits, @Param("reviews") long reviews);
+}
@@ -0,0 +1,9 @@
+package ma.enset.conferenceservice.repositories;
+
+import ma.enset.conferenceservice.entities.ConsumerOffset;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ConsumerOffsetRepository extends JpaRepository<ConsumerOffset, String> {
+}
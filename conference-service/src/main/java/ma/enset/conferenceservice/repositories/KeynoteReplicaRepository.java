@@ -0,0 +1,9 @@
+package ma.enset.conferenceservice.repositories;
+
+import ma.enset.conferenceservice.entities.KeynoteReplica;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface KeynoteReplicaRepository extends JpaRepository<KeynoteReplica, Long> {
+}
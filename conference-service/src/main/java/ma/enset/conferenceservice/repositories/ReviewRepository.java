@@ -2,14 +2,30 @@ package ma.enset.conferenceservice.repositories;
 
 import ma.enset.conferenceservice.entities.Review;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
     List<Review> findByConferenceId(Long conferenceId);
     List<Review> findByNote(Integer note);
     List<Review> findByConferenceIdOrderByDateDesc(Long conferenceId);
+
+    Optional<VersionView> findVersionById(Long id);
+
+    @Query("select r from Review r where r.conference.id in :conferenceIds order by r.conference.id, r.date desc")
+    List<Review> findByConferenceIds(@Param("conferenceIds") Collection<Long> conferenceIds);
+
+    // [conferenceId, note, nombre de reviews] pour reconstruire les agrégats
+    @Query("select r.conference.id, r.note, count(r) from Review r group by r.conference.id, r.note")
+    List<Object[]> countByConferenceAndNote();
+
+    @Query("select r.conference.id, r.note, count(r) from Review r where r.conference.id in :conferenceIds group by r.conference.id, r.note")
+    List<Object[]> countByConferenceAndNote(@Param("conferenceIds") Collection<Long> conferenceIds);
 }
 
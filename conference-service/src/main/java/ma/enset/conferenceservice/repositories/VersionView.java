@@ -0,0 +1,11 @@
+package ma.enset.conferenceservice.repositories;
+
+import java.time.Instant;
+
+/**
+ * Projection réduite à la version d'une ressource : de quoi répondre 304 sans charger l'entité.
+ */
+public interface VersionView {
+    Long getVersion();
+    Instant getLastModified();
+}
@@ -0,0 +1,91 @@
+package ma.enset.conferenceservice.search;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import ma.enset.conferenceservice.entities.Conference;
+import ma.enset.conferenceservice.entities.ConferenceSearchTerm;
+import ma.enset.conferenceservice.pagination.SearchCursor;
+import ma.enset.conferenceservice.repositories.ConferenceRepository;
+import ma.enset.conferenceservice.repositories.ConferenceSearchTermRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Index inversé des titres de conférences (table conference_search_terms).
+ * Une recherche est une lecture par égalité sur la colonne indexée "term",
+ * au lieu d'un LIKE '%terme%' qui parcourt toute la table conferences.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ConferenceSearchIndex {
+
+    private static final int REBUILD_CHUNK = 500;
+
+    private final ConferenceSearchTermRepository searchTermRepository;
+    private final ConferenceRepository conferenceRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Appelé dans la transaction qui crée la conférence (id déjà attribué)
+    @Transactional
+    public void index(Conference conference) {
+        SearchTokenizer.indexTerms(conference.getTitre()).forEach((term, weight) ->
+                entityManager.persist(ConferenceSearchTerm.builder()
+                        .term(term)
+                        .conferenceId(conference.getId())
+                        .weight(weight)
+                        .build()));
+    }
+
+    @Transactional
+    public void reindex(Conference conference) {
+        remove(conference.getId());
+        index(conference);
+    }
+
+    @Transactional
+    public void remove(Long conferenceId) {
+        searchTermRepository.deleteByConferenceId(conferenceId);
+    }
+
+    /**
+     * Ids de conférences correspondant à la requête, par pertinence décroissante :
+     * [conferenceId, pertinence] à partir du début, ou à la suite de {@code after}.
+     */
+    @Transactional(readOnly = true)
+    public List<Object[]> rank(String query, SearchCursor after, int size) {
+        Set<String> terms = SearchTokenizer.tokens(query);
+        if (terms.isEmpty()) return List.of();
+        return after == null
+                ? searchTermRepository.rank(terms, PageRequest.of(0, size))
+                : searchTermRepository.rankAfter(terms, after.relevance(), after.id(), PageRequest.of(0, size));
+    }
+
+    @Transactional
+    public long rebuild() {
+        searchTermRepository.deleteAllInBatch();
+        long indexed = 0;
+        try (Stream<Conference> conferences = conferenceRepository.streamAllByOrderById()) {
+            Iterator<Conference> iterator = conferences.iterator();
+            while (iterator.hasNext()) {
+                index(iterator.next());
+                if (++indexed % REBUILD_CHUNK == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        }
+        log.info("Search index rebuilt for {} conference(s)", indexed);
+        return indexed;
+    }
+}
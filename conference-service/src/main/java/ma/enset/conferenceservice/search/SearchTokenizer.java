@@ -0,0 +1,52 @@
+package ma.enset.conferenceservice.search;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Découpe un texte en mots normalisés (minuscules, sans accents) et produit les termes
+ * d'index : chaque mot entier et ses préfixes d'au moins {@value #MIN_PREFIX} caractères.
+ */
+public final class SearchTokenizer {
+
+    public static final int WORD_WEIGHT = 3;
+    public static final int PREFIX_WEIGHT = 1;
+
+    private static final int MIN_PREFIX = 2;
+    private static final int MAX_TERM = 40;
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{Alnum}]+");
+
+    private SearchTokenizer() {
+    }
+
+    public static Set<String> tokens(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null) return tokens;
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        for (String token : SEPARATORS.split(normalized)) {
+            if (token.length() >= MIN_PREFIX) {
+                tokens.add(token.length() > MAX_TERM ? token.substring(0, MAX_TERM) : token);
+            }
+        }
+        return tokens;
+    }
+
+    // Terme d'index -> poids (le poids le plus fort l'emporte si un terme apparaît plusieurs fois)
+    public static Map<String, Integer> indexTerms(String text) {
+        Map<String, Integer> terms = new HashMap<>();
+        for (String token : tokens(text)) {
+            for (int length = MIN_PREFIX; length < token.length(); length++) {
+                terms.merge(token.substring(0, length), PREFIX_WEIGHT, Math::max);
+            }
+            terms.put(token, WORD_WEIGHT);
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,11 @@
+package ma.enset.conferenceservice.services;
+
+import ma.enset.conferenceservice.dto.ImportReportDTO;
+import ma.enset.conferenceservice.enums.ImportFormat;
+
+import java.io.InputStream;
+
+public interface BulkImportService {
+    ImportReportDTO importConferences(InputStream body, ImportFormat format);
+    ImportReportDTO importReviews(InputStream body, ImportFormat format);
+}
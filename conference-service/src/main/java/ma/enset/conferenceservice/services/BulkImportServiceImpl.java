@@ -0,0 +1,284 @@
+package ma.enset.conferenceservice.services;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import ma.enset.conferenceservice.dto.*;
+import ma.enset.conferenceservice.entities.Conference;
+import ma.enset.conferenceservice.entities.Review;
+import ma.enset.conferenceservice.enums.ConferenceType;
+import ma.enset.conferenceservice.enums.ImportFormat;
+import ma.enset.conferenceservice.imports.CsvRow;
+import ma.enset.conferenceservice.jobs.ReviewAggregatesJob;
+import ma.enset.conferenceservice.leaderboard.ConferenceLeaderboard;
+import ma.enset.conferenceservice.mappers.ConferenceMapper;
+import ma.enset.conferenceservice.repositories.ConferenceRepository;
+import ma.enset.conferenceservice.search.ConferenceSearchIndex;
+import ma.enset.conferenceservice.statistics.ConferenceContribution;
+import ma.enset.conferenceservice.statistics.ConferenceStatisticsTracker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Import massif en flux : le corps est lu ligne par ligne, les lignes valides sont insérées
+ * par lots (une transaction + un flush batché JDBC par lot) et les erreurs sont rapportées
+ * ligne par ligne sans interrompre le chargement.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BulkImportServiceImpl implements BulkImportService {
+
+    private final ConferenceRepository conferenceRepository;
+    private final ConferenceMapper conferenceMapper;
+    private final ReviewAggregatesJob reviewAggregatesJob;
+    private final ConferenceSearchIndex conferenceSearchIndex;
+    private final ConferenceStatisticsTracker statisticsTracker;
+    private final ConferenceLeaderboard conferenceLeaderboard;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${conference.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${conference.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    private record Row<T>(long line, T value) {
+    }
+
+    // ==================== Conferences ====================
+
+    @Override
+    public ImportReportDTO importConferences(InputStream body, ImportFormat format) {
+        Report report = new Report();
+        readRows(body, format, report, this::parseConference, batch -> writeBatch(batch, report, this::persistConference));
+        return report.toDTO();
+    }
+
+    private ConferenceImportDTO parseConference(String line, Map<String, Integer> csvHeader) {
+        ConferenceImportDTO dto;
+        if (csvHeader == null) {
+            dto = objectMapper.readValue(line, ConferenceImportDTO.class);
+        } else {
+            CsvRow row = CsvRow.parse(csvHeader, line);
+            dto = ConferenceImportDTO.builder()
+                    .titre(row.get("titre"))
+                    .type(row.get("type") != null ? ConferenceType.valueOf(row.get("type")) : null)
+                    .date(row.get("date") != null ? LocalDate.parse(row.get("date")) : null)
+                    .duree(row.get("duree") != null ? Integer.valueOf(row.get("duree")) : null)
+                    .nombreInscrits(row.get("nombreInscrits") != null ? Integer.valueOf(row.get("nombreInscrits")) : null)
+                    .score(row.get("score") != null ? Double.valueOf(row.get("score")) : null)
+                    .keynoteId(row.get("keynoteId") != null ? Long.valueOf(row.get("keynoteId")) : null)
+                    .build();
+        }
+        if (dto.getTitre() == null || dto.getType() == null || dto.getDate() == null) {
+            throw new IllegalArgumentException("titre, type and date are required");
+        }
+        if (dto.getReviews() != null) dto.getReviews().forEach(this::validateReview);
+        return dto;
+    }
+
+    private void persistConference(ConferenceImportDTO dto) {
+        Conference conference = conferenceMapper.toEntity(ConferenceRequestDTO.builder()
+                .titre(dto.getTitre())
+                .type(dto.getType())
+                .date(dto.getDate())
+                .duree(dto.getDuree())
+                .nombreInscrits(dto.getNombreInscrits())
+                .score(dto.getScore())
+                .keynoteId(dto.getKeynoteId())
+                .build());
+        // Agrégats calculés en mémoire : aucune relecture des reviews après insertion
+        List<Review> reviews = new ArrayList<>();
+        if (dto.getReviews() != null) {
+            for (ReviewRequestDTO reviewDto : dto.getReviews()) {
+                reviews.add(conferenceMapper.toEntity(reviewDto, conference));
+                conference.applyNoteDelta(reviewDto.getNote(), 1);
+            }
+        }
+        conference.setReviews(reviews);
+        entityManager.persist(conference);
+        conferenceSearchIndex.index(conference);
+        statisticsTracker.record(null, ConferenceContribution.of(conference));
+        conferenceLeaderboard.update(conference);
+    }
+
+    // ==================== Reviews ====================
+
+    @Override
+    public ImportReportDTO importReviews(InputStream body, ImportFormat format) {
+        Report report = new Report();
+        Set<Long> affectedConferences = new HashSet<>();
+        readRows(body, format, report, this::parseReview, batch -> {
+            // Conférences inexistantes écartées en une requête par lot, avant toute insertion
+            Set<Long> existing = conferenceRepository.findExistingIds(batch.stream()
+                    .map(row -> row.value().getConferenceId())
+                    .collect(Collectors.toSet()));
+            List<Row<ReviewRequestDTO>> valid = new ArrayList<>();
+            for (Row<ReviewRequestDTO> row : batch) {
+                if (existing.contains(row.value().getConferenceId())) {
+                    valid.add(row);
+                } else {
+                    report.error(row.line(), "Conference not found with id: " + row.value().getConferenceId());
+                }
+            }
+            writeBatch(valid, report, dto -> {
+                entityManager.persist(conferenceMapper.toEntity(dto, entityManager.getReference(Conference.class, dto.getConferenceId())));
+                affectedConferences.add(dto.getConferenceId());
+            });
+        });
+
+        // Un seul recalcul de score par conférence touchée
+        if (!affectedConferences.isEmpty()) {
+            reviewAggregatesJob.rebuild(affectedConferences);
+        }
+        return report.toDTO();
+    }
+
+    private ReviewRequestDTO parseReview(String line, Map<String, Integer> csvHeader) {
+        ReviewRequestDTO dto;
+        if (csvHeader == null) {
+            dto = objectMapper.readValue(line, ReviewRequestDTO.class);
+        } else {
+            CsvRow row = CsvRow.parse(csvHeader, line);
+            dto = ReviewRequestDTO.builder()
+                    .conferenceId(row.get("conferenceId") != null ? Long.valueOf(row.get("conferenceId")) : null)
+                    .date(row.get("date") != null ? LocalDate.parse(row.get("date")) : null)
+                    .texte(row.get("texte"))
+                    .note(row.get("note") != null ? Integer.valueOf(row.get("note")) : null)
+                    .build();
+        }
+        if (dto.getConferenceId() == null) {
+            throw new IllegalArgumentException("conferenceId is required");
+        }
+        validateReview(dto);
+        return dto;
+    }
+
+    private void validateReview(ReviewRequestDTO dto) {
+        if (dto.getDate() == null || dto.getTexte() == null || dto.getNote() == null) {
+            throw new IllegalArgumentException("date, texte and note are required");
+        }
+        if (dto.getNote() < 1 || dto.getNote() > 5) {
+            throw new IllegalArgumentException("Note must be between 1 and 5");
+        }
+    }
+
+    // ==================== Pipeline ====================
+
+    @FunctionalInterface
+    private interface LineParser<T> {
+        T parse(String line, Map<String, Integer> csvHeader);
+    }
+
+    private <T> void readRows(InputStream body, ImportFormat format, Report report,
+                              LineParser<T> parser, Consumer<List<Row<T>>> batchWriter) {
+        List<Row<T>> batch = new ArrayList<>(batchSize);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            Map<String, Integer> csvHeader = null;
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) continue;
+                if (format == ImportFormat.CSV && csvHeader == null) {
+                    csvHeader = CsvRow.parseHeader(line);
+                    continue;
+                }
+                report.totalRows++;
+                try {
+                    batch.add(new Row<>(lineNumber, parser.parse(line, csvHeader)));
+                } catch (RuntimeException e) {
+                    report.error(lineNumber, e.getMessage());
+                }
+                if (batch.size() >= batchSize) {
+                    batchWriter.accept(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (!batch.isEmpty()) {
+            batchWriter.accept(batch);
+        }
+    }
+
+    /**
+     * Insère le lot dans une transaction. En cas d'échec, le lot est rejoué ligne par ligne
+     * pour n'écarter que les lignes fautives.
+     */
+    private <T> void writeBatch(List<Row<T>> batch, Report report, Consumer<T> persister) {
+        if (batch.isEmpty()) return;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                batch.forEach(row -> persister.accept(row.value()));
+                entityManager.flush();
+                entityManager.clear();
+            });
+            report.imported += batch.size();
+        } catch (RuntimeException batchFailure) {
+            log.warn("Import batch of {} rows failed, retrying row by row: {}", batch.size(), batchFailure.getMessage());
+            for (Row<T> row : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        persister.accept(row.value());
+                        entityManager.flush();
+                        entityManager.clear();
+                    });
+                    report.imported++;
+                } catch (RuntimeException e) {
+                    report.error(row.line(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    private class Report {
+        private final long start = System.nanoTime();
+        private final List<ImportErrorDTO> errors = new ArrayList<>();
+        private long totalRows;
+        private long imported;
+        private long failed;
+
+        void error(long line, String message) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(ImportErrorDTO.builder().line(line).message(message).build());
+            }
+        }
+
+        ImportReportDTO toDTO() {
+            long durationNanos = Math.max(1, System.nanoTime() - start);
+            log.info("Import finished: {} rows, {} imported, {} failed in {} ms",
+                    totalRows, imported, failed, durationNanos / 1_000_000);
+            return ImportReportDTO.builder()
+                    .totalRows(totalRows)
+                    .imported(imported)
+                    .failed(failed)
+                    .durationMillis(durationNanos / 1_000_000)
+                    .rowsPerSecond(totalRows * 1_000_000_000.0 / durationNanos)
+                    .errors(errors)
+                    .errorsTruncated(failed > errors.size())
+                    .build();
+        }
+    }
+}
@@ -1,26 +1,42 @@
 package ma.enset.conferenceservice.services;
 
 import ma.enset.conferenceservice.dto.*;
+import ma.enset.conferenceservice.enums.ConferenceSort;
 import ma.enset.conferenceservice.enums.ConferenceType;
+import ma.enset.conferenceservice.enums.ReviewFetchMode;
 
 import java.util.List;
+import java.util.Map;
 
 public interface ConferenceService {
     // Conference operations
     ConferenceResponseDTO createConference(ConferenceRequestDTO request);
     ConferenceResponseDTO getConferenceById(Long id);
     ConferenceResponseDTO getConferenceByIdWithKeynote(Long id);
-    List<ConferenceResponseDTO> getAllConferences();
-    List<ConferenceResponseDTO> getConferencesByType(ConferenceType type);
-    List<ConferenceResponseDTO> getConferencesByKeynoteId(Long keynoteId);
-    ConferenceResponseDTO updateConference(Long id, ConferenceRequestDTO request);
-    void deleteConference(Long id);
+    ConferencePageDTO getAllConferences(ConferenceSort sort, String cursor, Integer size, ReviewFetchMode reviews);
+    ConferencePageDTO getAllConferencesWithKeynotes(ConferenceSort sort, String cursor, Integer size, ReviewFetchMode reviews);
+    ConferencePageDTO getConferencesByType(ConferenceType type, ConferenceSort sort, String cursor, Integer size, ReviewFetchMode reviews);
+    ConferencePageDTO getConferencesByKeynoteId(Long keynoteId, ConferenceSort sort, String cursor, Integer size, ReviewFetchMode reviews);
+    ConferencePageDTO filterConferences(ConferenceFilterDTO filter, ConferenceSort sort, String cursor, Integer size, ReviewFetchMode reviews);
+    ConferencePageDTO searchConferences(String query, String cursor, Integer size);
+    List<LeaderboardEntryDTO> getLeaderboard(ConferenceType type, Integer limit);
+    ConferenceResponseDTO updateConference(Long id, ConferenceRequestDTO request, Long expectedVersion);
+    void deleteConference(Long id, Long expectedVersion);
 
     // Review operations
     ReviewResponseDTO addReview(Long conferenceId, ReviewRequestDTO request);
+    Map<Long, List<ReviewResponseDTO>> addReviewsBatch(Map<Long, List<ReviewRequestDTO>> reviewsByConference);
     ReviewResponseDTO getReviewById(Long id);
     List<ReviewResponseDTO> getReviewsByConferenceId(Long conferenceId);
-    ReviewResponseDTO updateReview(Long id, ReviewRequestDTO request);
-    void deleteReview(Long id);
+    ReviewResponseDTO updateReview(Long id, ReviewRequestDTO request, Long expectedVersion);
+    void deleteReview(Long id, Long expectedVersion);
+
+    // Versions (GET conditionnels, sans charger le graphe)
+    ResourceVersionDTO getConferenceVersion(Long id);
+    ResourceVersionDTO getConferenceWithKeynoteVersion(Long id);
+    ResourceVersionDTO getReviewVersion(Long id);
+
+    // Aggregates maintenance
+    AggregatesReportDTO rebuildReviewAggregates(boolean repair);
 }
 
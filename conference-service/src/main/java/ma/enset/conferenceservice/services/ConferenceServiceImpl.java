@@ -1,22 +1,55 @@
 package ma.enset.conferenceservice.services;
 
-import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import ma.enset.conferenceservice.clients.KeynoteRestClient;
+import ma.enset.conferenceservice.clients.KeynoteCache;
 import ma.enset.conferenceservice.dto.*;
 import ma.enset.conferenceservice.entities.Conference;
 import ma.enset.conferenceservice.entities.Review;
+import ma.enset.conferenceservice.enums.ConferenceSort;
 import ma.enset.conferenceservice.enums.ConferenceType;
+import ma.enset.conferenceservice.enums.DetailLoadMode;
+import ma.enset.conferenceservice.enums.ReviewFetchMode;
 import ma.enset.conferenceservice.exceptions.ConferenceNotFoundException;
+import ma.enset.conferenceservice.exceptions.PreconditionFailedException;
 import ma.enset.conferenceservice.exceptions.ReviewNotFoundException;
+import ma.enset.conferenceservice.jobs.ReviewAggregatesJob;
+import ma.enset.conferenceservice.leaderboard.ConferenceLeaderboard;
+import ma.enset.conferenceservice.leaderboard.LeaderboardEntry;
 import ma.enset.conferenceservice.mappers.ConferenceMapper;
+import ma.enset.conferenceservice.pagination.ConferenceCursor;
+import ma.enset.conferenceservice.pagination.SearchCursor;
+import ma.enset.conferenceservice.replication.KeynoteReadModel;
 import ma.enset.conferenceservice.repositories.ConferenceRepository;
+import ma.enset.conferenceservice.repositories.ConferenceSpecifications;
 import ma.enset.conferenceservice.repositories.ReviewRepository;
+import ma.enset.conferenceservice.repositories.VersionView;
+import ma.enset.conferenceservice.search.ConferenceSearchIndex;
+import ma.enset.conferenceservice.statistics.ConferenceContribution;
+import ma.enset.conferenceservice.statistics.ConferenceStatisticsTracker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -27,7 +60,27 @@ public class ConferenceServiceImpl implements ConferenceService {
     private final ConferenceRepository conferenceRepository;
     private final ReviewRepository reviewRepository;
     private final ConferenceMapper conferenceMapper;
-    private final KeynoteRestClient keynoteRestClient;
+    private final KeynoteCache keynoteCache;
+    private final KeynoteReadModel keynoteReadModel;
+    private final ReviewAggregatesJob reviewAggregatesJob;
+    private final ConferenceSearchIndex conferenceSearchIndex;
+    private final ConferenceStatisticsTracker statisticsTracker;
+    private final ConferenceLeaderboard conferenceLeaderboard;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final ExecutorService virtualThreadExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${conference.detail.mode:CONCURRENT}")
+    private DetailLoadMode detailLoadMode;
+
+    @Value("${conference.pagination.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${conference.pagination.max-size:100}")
+    private int maxPageSize;
+
+    @Value("${conference.leaderboard.max-size:100}")
+    private int maxLeaderboardSize;
 
     // ==================== Conference Operations ====================
 
@@ -35,81 +88,220 @@ public class ConferenceServiceImpl implements ConferenceService {
     public ConferenceResponseDTO createConference(ConferenceRequestDTO request) {
         Conference conference = conferenceMapper.toEntity(request);
         Conference savedConference = conferenceRepository.save(conference);
+        conferenceSearchIndex.index(savedConference);
+        statisticsTracker.record(null, ConferenceContribution.of(savedConference));
+        conferenceLeaderboard.update(savedConference);
         log.info("Conference created with ID: {}", savedConference.getId());
         return conferenceMapper.toResponseDTO(savedConference);
     }
 
     @Override
     public ConferenceResponseDTO getConferenceById(Long id) {
-        Conference conference = conferenceRepository.findById(id)
+        Conference conference = conferenceRepository.findWithReviewsById(id)
                 .orElseThrow(() -> new ConferenceNotFoundException("Conference not found with id: " + id));
         return conferenceMapper.toResponseDTO(conference);
     }
 
+    /**
+     * Aucune transaction n'est ouverte ici : chaque lecture JPA rend sa connexion avant l'appel
+     * à keynote-service. En mode CONCURRENT, reviews et keynote sont chargés en parallèle.
+     */
     @Override
-    @CircuitBreaker(name = "keynoteService", fallbackMethod = "getConferenceByIdFallback")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ConferenceResponseDTO getConferenceByIdWithKeynote(Long id) {
+        if (detailLoadMode == DetailLoadMode.SEQUENTIAL) {
+            Conference conference = conferenceRepository.findWithReviewsById(id)
+                    .orElseThrow(() -> new ConferenceNotFoundException("Conference not found with id: " + id));
+            return conferenceMapper.toResponseDTO(conference, fetchKeynote(conference.getKeynoteId()));
+        }
+
         Conference conference = conferenceRepository.findById(id)
                 .orElseThrow(() -> new ConferenceNotFoundException("Conference not found with id: " + id));
+        CompletableFuture<List<Review>> reviews = CompletableFuture.supplyAsync(
+                () -> reviewRepository.findByConferenceIdOrderByDateDesc(id), virtualThreadExecutor);
+        CompletableFuture<KeynoteDTO> keynote = CompletableFuture.supplyAsync(
+                () -> fetchKeynote(conference.getKeynoteId()), virtualThreadExecutor);
+
+        ConferenceResponseDTO dto = conferenceMapper.toResponseDTO(conference, false);
+        dto.setReviews(conferenceMapper.toReviewResponseDTOList(reviews.join()));
+        dto.setKeynote(keynote.join());
+        return dto;
+    }
+
+    // Appel protégé par le circuit breaker ; en cas d'échec, la conférence déjà chargée est réutilisée
+    private KeynoteDTO fetchKeynote(Long keynoteId) {
+        if (keynoteId == null) return null;
+        // Copie locale alimentée par l'outbox de keynote-service : aucun appel distant
+        Optional<KeynoteDTO> local = keynoteReadModel.find(keynoteId);
+        if (local.isPresent()) return local.get();
+        try {
+            return keynoteCircuitBreaker().executeSupplier(() -> keynoteCache.getKeynoteById(keynoteId));
+        } catch (Exception e) {
+            log.warn("Fallback triggered for getConferenceByIdWithKeynote. Error: {}", e.getMessage());
+            // Dernière valeur connue du keynote, à défaut un placeholder
+            return keynoteCache.getLastKnown(keynoteId)
+                    .orElseGet(() -> KeynoteDTO.builder()
+                            .id(keynoteId)
+                            .nom("Service indisponible")
+                            .prenom("")
+                            .email("")
+                            .fonction("")
+                            .build());
+        }
+    }
 
-        KeynoteDTO keynoteDTO = null;
-        if (conference.getKeynoteId() != null) {
-            keynoteDTO = keynoteRestClient.getKeynoteById(conference.getKeynoteId());
+    // Copie locale d'abord ; seuls les keynotes qu'elle ne connaît pas passent par le breaker
+    private Map<Long, KeynoteDTO> fetchKeynotes(Set<Long> keynoteIds) {
+        Map<Long, KeynoteDTO> keynotes = new HashMap<>(keynoteReadModel.findAll(keynoteIds));
+        Set<Long> missing = keynoteIds.stream().filter(id -> !keynotes.containsKey(id)).collect(Collectors.toSet());
+        if (missing.isEmpty()) return keynotes;
+        try {
+            keynotes.putAll(keynoteCircuitBreaker().executeSupplier(() -> keynoteCache.getKeynotesByIds(missing)));
+        } catch (Exception e) {
+            log.warn("Fallback triggered for getAllConferencesWithKeynotes. Error: {}", e.getMessage());
+            // Dernières valeurs connues ; keynote absent de la page à défaut
+            keynotes.putAll(keynoteCache.getAllLastKnown(missing));
         }
+        return keynotes;
+    }
 
-        return conferenceMapper.toResponseDTO(conference, keynoteDTO);
+    private CircuitBreaker keynoteCircuitBreaker() {
+        return circuitBreakerRegistry.circuitBreaker("keynoteService");
     }
 
-    public ConferenceResponseDTO getConferenceByIdFallback(Long id, Exception e) {
-        log.warn("Fallback triggered for getConferenceByIdWithKeynote. Error: {}", e.getMessage());
-        Conference conference = conferenceRepository.findById(id)
-                .orElseThrow(() -> new ConferenceNotFoundException("Conference not found with id: " + id));
-        ConferenceResponseDTO dto = conferenceMapper.toResponseDTO(conference);
-        dto.setKeynote(KeynoteDTO.builder()
-                .id(conference.getKeynoteId())
-                .nom("Service indisponible")
-                .prenom("")
-                .email("")
-                .fonction("")
-                .build());
-        return dto;
+    @Override
+    @Transactional(readOnly = true)
+    public ConferencePageDTO getAllConferences(ConferenceSort sort, String cursor, Integer size, ReviewFetchMode reviews) {
+        return findPage(ConferenceSpecifications.unfiltered(), sort, cursor, size, reviews);
+    }
+
+    /**
+     * Pas de transaction englobante : la page (reviews comprises) est lue une seule fois, dans sa
+     * propre transaction, dont la connexion JDBC est rendue avant l'appel à keynote-service. Seul
+     * cet appel passe par le circuit breaker : une erreur de base ou de curseur n'y compte pas.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ConferencePageDTO getAllConferencesWithKeynotes(ConferenceSort sort, String cursor, Integer size, ReviewFetchMode reviews) {
+        ConferencePageDTO page = findPageInOwnTransaction(ConferenceSpecifications.unfiltered(), sort, cursor, size, reviews);
+
+        // Tous les keynotes distincts de la page absents du cache en un seul aller-retour
+        Set<Long> keynoteIds = keynoteIdsOf(page);
+        if (!keynoteIds.isEmpty()) {
+            Map<Long, KeynoteDTO> keynotes = fetchKeynotes(keynoteIds);
+            page.getItems().forEach(dto -> dto.setKeynote(keynotes.get(dto.getKeynoteId())));
+        }
+        return page;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ConferencePageDTO getConferencesByType(ConferenceType type, ConferenceSort sort, String cursor, Integer size, ReviewFetchMode reviews) {
+        return findPage(ConferenceSpecifications.hasType(type), sort, cursor, size, reviews);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ConferencePageDTO getConferencesByKeynoteId(Long keynoteId, ConferenceSort sort, String cursor, Integer size, ReviewFetchMode reviews) {
+        return findPage(ConferenceSpecifications.hasKeynote(keynoteId), sort, cursor, size, reviews);
     }
 
     @Override
-    public List<ConferenceResponseDTO> getAllConferences() {
-        List<Conference> conferences = conferenceRepository.findAll();
-        return conferenceMapper.toResponseDTOList(conferences);
+    @Transactional(readOnly = true)
+    public ConferencePageDTO filterConferences(ConferenceFilterDTO filter, ConferenceSort sort, String cursor, Integer size,
+                                               ReviewFetchMode reviews) {
+        if (filter.getFrom() != null && filter.getTo() != null && filter.getFrom().isAfter(filter.getTo())) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        return findPage(ConferenceSpecifications.matching(filter), sort, cursor, size, reviews);
     }
 
     @Override
-    public List<ConferenceResponseDTO> getConferencesByType(ConferenceType type) {
-        List<Conference> conferences = conferenceRepository.findByType(type);
-        return conferenceMapper.toResponseDTOList(conferences);
+    @Transactional(readOnly = true)
+    public ConferencePageDTO searchConferences(String query, String cursor, Integer size) {
+        int pageSize = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+        SearchCursor after = cursor == null || cursor.isBlank() ? null : SearchCursor.decode(cursor);
+
+        // Une ligne de plus que la page pour savoir s'il reste des résultats
+        List<Object[]> ranked = conferenceSearchIndex.rank(query, after, pageSize + 1);
+        boolean hasNext = ranked.size() > pageSize;
+        List<Long> ids = ranked.stream().limit(pageSize).map(row -> (Long) row[0]).toList();
+
+        Map<Long, Conference> conferences = conferenceRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Conference::getId, Function.identity()));
+        List<Conference> ordered = ids.stream().map(conferences::get).filter(Objects::nonNull).toList();
+        return ConferencePageDTO.builder()
+                .items(conferenceMapper.toResponseDTOList(ordered, false))
+                .size(ordered.size())
+                .nextCursor(hasNext ? SearchCursor.after(ranked.get(pageSize - 1)).encode() : null)
+                .build();
     }
 
+    /**
+     * Top-K servi par le classement en mémoire ; pendant sa reconstruction au démarrage,
+     * la même requête est servie par la base (index sur score).
+     */
     @Override
-    public List<ConferenceResponseDTO> getConferencesByKeynoteId(Long keynoteId) {
-        List<Conference> conferences = conferenceRepository.findByKeynoteId(keynoteId);
-        return conferenceMapper.toResponseDTOList(conferences);
+    @Transactional(readOnly = true)
+    public List<LeaderboardEntryDTO> getLeaderboard(ConferenceType type, Integer limit) {
+        int k = limit == null ? 10 : Math.max(1, Math.min(limit, maxLeaderboardSize));
+        List<LeaderboardEntry> entries;
+        if (conferenceLeaderboard.isReady()) {
+            entries = conferenceLeaderboard.top(type, k);
+        } else {
+            Specification<Conference> spec = type == null ? ConferenceSpecifications.unfiltered() : ConferenceSpecifications.hasType(type);
+            entries = conferenceRepository.findBy(spec, query -> query
+                            .sortBy(Sort.by(Sort.Order.desc("score"), Sort.Order.desc("nombreInscrits").nullsLast(), Sort.Order.asc("id")))
+                            .limit(k)
+                            .all())
+                    .stream().map(LeaderboardEntry::of).toList();
+        }
+
+        List<LeaderboardEntryDTO> result = new ArrayList<>(entries.size());
+        for (LeaderboardEntry entry : entries) {
+            result.add(LeaderboardEntryDTO.builder()
+                    .rank(result.size() + 1)
+                    .conferenceId(entry.id())
+                    .titre(entry.titre())
+                    .type(entry.type())
+                    .score(entry.score())
+                    .nombreInscrits(entry.nombreInscrits())
+                    .reviewCount(entry.reviewCount())
+                    .build());
+        }
+        return result;
     }
 
     @Override
-    public ConferenceResponseDTO updateConference(Long id, ConferenceRequestDTO request) {
+    public ConferenceResponseDTO updateConference(Long id, ConferenceRequestDTO request, Long expectedVersion) {
         Conference conference = conferenceRepository.findById(id)
                 .orElseThrow(() -> new ConferenceNotFoundException("Conference not found with id: " + id));
+        checkVersion("Conference", id, expectedVersion, conference.getVersion());
 
+        String previousTitre = conference.getTitre();
+        ConferenceContribution before = ConferenceContribution.of(conference);
         conferenceMapper.updateEntity(conference, request);
-        Conference updatedConference = conferenceRepository.save(conference);
+        // Flush immédiat : la version renvoyée (ETag) est celle qui vient d'être écrite
+        Conference updatedConference = conferenceRepository.saveAndFlush(conference);
+        statisticsTracker.record(before, ConferenceContribution.of(updatedConference));
+        conferenceLeaderboard.update(updatedConference);
+        if (!previousTitre.equals(updatedConference.getTitre())) {
+            conferenceSearchIndex.reindex(updatedConference);
+        }
         log.info("Conference updated with ID: {}", id);
         return conferenceMapper.toResponseDTO(updatedConference);
     }
 
     @Override
-    public void deleteConference(Long id) {
-        if (!conferenceRepository.existsById(id)) {
-            throw new ConferenceNotFoundException("Conference not found with id: " + id);
-        }
-        conferenceRepository.deleteById(id);
+    public void deleteConference(Long id, Long expectedVersion) {
+        Conference conference = conferenceRepository.findById(id)
+                .orElseThrow(() -> new ConferenceNotFoundException("Conference not found with id: " + id));
+        checkVersion("Conference", id, expectedVersion, conference.getVersion());
+        ConferenceContribution before = ConferenceContribution.of(conference);
+        conferenceRepository.delete(conference);
+        conferenceSearchIndex.remove(id);
+        statisticsTracker.record(before, null);
+        conferenceLeaderboard.remove(id);
         log.info("Conference deleted with ID: {}", id);
     }
 
@@ -117,24 +309,48 @@ public class ConferenceServiceImpl implements ConferenceService {
 
     @Override
     public ReviewResponseDTO addReview(Long conferenceId, ReviewRequestDTO request) {
-        Conference conference = conferenceRepository.findById(conferenceId)
-                .orElseThrow(() -> new ConferenceNotFoundException("Conference not found with id: " + conferenceId));
-
         // Validate note (1-5)
         if (request.getNote() < 1 || request.getNote() > 5) {
             throw new IllegalArgumentException("Note must be between 1 and 5");
         }
 
-        Review review = conferenceMapper.toEntity(request, conference);
-        Review savedReview = reviewRepository.save(review);
+        // Update conference score (lève ConferenceNotFoundException si la conférence n'existe pas)
+        applyReviewDelta(conferenceId, noteDelta(0, request.getNote()));
 
-        // Update conference score
-        updateConferenceScore(conferenceId);
+        // Référence sans chargement : la conférence n'entre pas dans le contexte de persistance
+        Review review = conferenceMapper.toEntity(request, conferenceRepository.getReferenceById(conferenceId));
+        Review savedReview = reviewRepository.save(review);
 
         log.info("Review added with ID: {} for Conference ID: {}", savedReview.getId(), conferenceId);
         return conferenceMapper.toReviewResponseDTO(savedReview);
     }
 
+    /**
+     * Micro-lot du pipeline d'ingestion : toutes les reviews en une transaction (INSERT batchés),
+     * puis une seule mise à jour d'agrégats et de score par conférence, quel que soit le nombre de
+     * reviews qu'elle reçoit dans le lot. Les conférences inexistantes sont absentes du résultat.
+     */
+    @Override
+    public Map<Long, List<ReviewResponseDTO>> addReviewsBatch(Map<Long, List<ReviewRequestDTO>> reviewsByConference) {
+        Set<Long> existing = conferenceRepository.findExistingIds(reviewsByConference.keySet());
+        Map<Long, List<ReviewResponseDTO>> saved = new HashMap<>();
+        // Verrous de ligne pris dans l'ordre des ids : pas d'interblocage avec un autre lot
+        new TreeMap<>(reviewsByConference).forEach((conferenceId, requests) -> {
+            if (!existing.contains(conferenceId)) return;
+            Conference reference = conferenceRepository.getReferenceById(conferenceId);
+            long[] delta = new long[6];
+            List<Review> reviews = new ArrayList<>(requests.size());
+            for (ReviewRequestDTO request : requests) {
+                delta[request.getNote()]++;
+                reviews.add(conferenceMapper.toEntity(request, reference));
+            }
+            reviewRepository.saveAll(reviews);
+            applyReviewDelta(conferenceId, delta);
+            saved.put(conferenceId, conferenceMapper.toReviewResponseDTOList(reviews));
+        });
+        return saved;
+    }
+
     @Override
     public ReviewResponseDTO getReviewById(Long id) {
         Review review = reviewRepository.findById(id)
@@ -149,55 +365,183 @@ public class ConferenceServiceImpl implements ConferenceService {
     }
 
     @Override
-    public ReviewResponseDTO updateReview(Long id, ReviewRequestDTO request) {
+    public ReviewResponseDTO updateReview(Long id, ReviewRequestDTO request, Long expectedVersion) {
         Review review = reviewRepository.findById(id)
                 .orElseThrow(() -> new ReviewNotFoundException("Review not found with id: " + id));
+        checkVersion("Review", id, expectedVersion, review.getVersion());
 
         // Validate note (1-5)
         if (request.getNote() != null && (request.getNote() < 1 || request.getNote() > 5)) {
             throw new IllegalArgumentException("Note must be between 1 and 5");
         }
 
+        int previousNote = review.getNote();
         conferenceMapper.updateEntity(review, request);
-        Review updatedReview = reviewRepository.save(review);
+        Review updatedReview = reviewRepository.saveAndFlush(review);
 
-        // Update conference score
-        updateConferenceScore(review.getConference().getId());
+        // Update conference score ; la conférence (et son ETag) inclut ses reviews :
+        // nouvelle version même si la note ne change pas
+        applyReviewDelta(review.getConference().getId(), noteDelta(previousNote, updatedReview.getNote()));
 
         log.info("Review updated with ID: {}", id);
         return conferenceMapper.toReviewResponseDTO(updatedReview);
     }
 
     @Override
-    public void deleteReview(Long id) {
+    public void deleteReview(Long id, Long expectedVersion) {
         Review review = reviewRepository.findById(id)
                 .orElseThrow(() -> new ReviewNotFoundException("Review not found with id: " + id));
+        checkVersion("Review", id, expectedVersion, review.getVersion());
 
         Long conferenceId = review.getConference().getId();
-        reviewRepository.deleteById(id);
+        reviewRepository.delete(review);
 
         // Update conference score
-        updateConferenceScore(conferenceId);
+        applyReviewDelta(conferenceId, noteDelta(review.getNote(), 0));
 
         log.info("Review deleted with ID: {}", id);
     }
 
+    // ==================== Versions ====================
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersionDTO getConferenceVersion(Long id) {
+        ConferenceRepository.ConferenceVersionView view = conferenceRepository.findVersionById(id)
+                .orElseThrow(() -> new ConferenceNotFoundException("Conference not found with id: " + id));
+        return ResourceVersionDTO.builder()
+                .version(view.getVersion())
+                .lastModified(view.getLastModified())
+                .build();
+    }
+
+    /**
+     * Version du keynote lue sur la copie locale, à défaut sur le cache (valeur non expirée) : jamais
+     * d'appel distant pour un GET conditionnel. Keynote inconnu localement : pas de version, donc
+     * pas d'ETag et la réponse complète est recalculée.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResourceVersionDTO getConferenceWithKeynoteVersion(Long id) {
+        ConferenceRepository.ConferenceVersionView view = conferenceRepository.findVersionById(id)
+                .orElseThrow(() -> new ConferenceNotFoundException("Conference not found with id: " + id));
+        Long keynoteVersion = view.getKeynoteId() == null ? null : keynoteReadModel.find(view.getKeynoteId())
+                .or(() -> keynoteCache.getCached(view.getKeynoteId()))
+                .map(KeynoteDTO::getVersion)
+                .orElse(null);
+        return ResourceVersionDTO.builder()
+                .version(view.getVersion())
+                .lastModified(view.getLastModified())
+                .keynoteId(view.getKeynoteId())
+                .keynoteVersion(keynoteVersion)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersionDTO getReviewVersion(Long id) {
+        VersionView view = reviewRepository.findVersionById(id)
+                .orElseThrow(() -> new ReviewNotFoundException("Review not found with id: " + id));
+        return ResourceVersionDTO.builder()
+                .version(view.getVersion())
+                .lastModified(view.getLastModified())
+                .build();
+    }
+
     // ==================== Helper Methods ====================
 
-    private void updateConferenceScore(Long conferenceId) {
-        List<Review> reviews = reviewRepository.findByConferenceId(conferenceId);
-        if (!reviews.isEmpty()) {
-            double averageScore = reviews.stream()
-                    .mapToInt(Review::getNote)
-                    .average()
-                    .orElse(0.0);
-
-            Conference conference = conferenceRepository.findById(conferenceId).orElse(null);
-            if (conference != null) {
-                conference.setScore(Math.round(averageScore * 10.0) / 10.0);
-                conferenceRepository.save(conference);
-            }
+    // Histogramme de delta (index 1 à 5) : retrait de removedNote, ajout de addedNote (0 = aucune)
+    private static long[] noteDelta(int removedNote, int addedNote) {
+        long[] delta = new long[6];
+        if (removedNote > 0) delta[removedNote]--;
+        if (addedNote > 0) delta[addedNote]++;
+        return delta;
+    }
+
+    /**
+     * Maintient les agrégats d'une conférence sans la charger : delta atomique en base (qui pose
+     * le verrou de ligne), relecture des agrégats sous ce verrou, puis score recalculé. Les
+     * reviews concurrentes d'une même conférence s'enchaînent sur ce verrou ; les autres
+     * conférences ne sont pas concernées.
+     */
+    private void applyReviewDelta(Long conferenceId, long[] delta) {
+        if (conferenceRepository.applyReviewDelta(conferenceId, delta[1], delta[2], delta[3], delta[4], delta[5],
+                Instant.now()) == 0) {
+            throw new ConferenceNotFoundException("Conference not found with id: " + conferenceId);
+        }
+        ConferenceRepository.ConferenceAggregatesView row = conferenceRepository.findAggregatesById(conferenceId)
+                .orElseThrow(() -> new ConferenceNotFoundException("Conference not found with id: " + conferenceId));
+
+        // Le score lu est encore celui d'avant ce delta : aucune autre transaction n'a pu l'écrire depuis le verrou
+        double previousScore = row.getScore();
+        double score = Conference.scoreOf(row.getNoteSum(), row.getReviewCount(), previousScore);
+        if (score != previousScore) {
+            conferenceRepository.updateScore(conferenceId, score);
+        }
+
+        long reviewCountDelta = delta[1] + delta[2] + delta[3] + delta[4] + delta[5];
+        int inscrits = row.getNombreInscrits() != null ? row.getNombreInscrits() : 0;
+        statisticsTracker.record(
+                new ConferenceContribution(row.getType(), row.getKeynoteId(), previousScore, inscrits, row.getReviewCount() - reviewCountDelta),
+                new ConferenceContribution(row.getType(), row.getKeynoteId(), score, inscrits, row.getReviewCount()));
+        conferenceLeaderboard.update(new LeaderboardEntry(conferenceId, row.getTitre(), row.getType(), score, inscrits,
+                row.getReviewCount(), row.getVersion()));
+    }
+
+    // If-Match : la version attendue par le client doit être la version courante
+    private static void checkVersion(String resource, Long id, Long expectedVersion, Long currentVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+            throw new PreconditionFailedException(resource + " " + id + " has been modified (current version: "
+                    + currentVersion + ")");
         }
     }
-}
 
+    // Page lue dans sa propre transaction (appelant en NOT_SUPPORTED)
+    private ConferencePageDTO findPageInOwnTransaction(Specification<Conference> filter, ConferenceSort sort, String cursor,
+                                                       Integer size, ReviewFetchMode reviews) {
+        return transactionTemplate.execute(status -> findPage(filter, sort, cursor, size, reviews));
+    }
+
+    /**
+     * Pagination par clé sur (date, id) ou (score, id) : une page coûte une requête bornée
+     * par la taille demandée, quelle que soit sa position dans la liste. Les reviews éventuelles
+     * sont chargées par lots (@BatchSize) au lieu d'une requête par conférence.
+     */
+    private ConferencePageDTO findPage(Specification<Conference> filter, ConferenceSort sort, String cursor, Integer size,
+                                       ReviewFetchMode reviews) {
+        ConferenceSort effectiveSort = sort != null ? sort : ConferenceSort.DATE;
+        int pageSize = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+        ConferenceCursor after = cursor == null || cursor.isBlank() ? null : ConferenceCursor.decode(cursor, effectiveSort);
+
+        Specification<Conference> spec = filter.and(ConferenceSpecifications.after(after));
+        // Une ligne de plus que la page pour savoir s'il reste des résultats
+        List<Conference> rows = conferenceRepository.findBy(spec, query -> query
+                .sortBy(ConferenceSpecifications.orderOf(effectiveSort))
+                .limit(pageSize + 1)
+                .all());
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Conference> page = hasNext ? rows.subList(0, pageSize) : rows;
+        return ConferencePageDTO.builder()
+                .items(conferenceMapper.toResponseDTOList(page, reviews != ReviewFetchMode.NONE))
+                .size(page.size())
+                .nextCursor(hasNext ? ConferenceCursor.after(effectiveSort, page.get(pageSize - 1)).encode() : null)
+                .build();
+    }
+
+    private Set<Long> keynoteIdsOf(ConferencePageDTO page) {
+        return page.getItems().stream()
+                .map(ConferenceResponseDTO::getKeynoteId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+    // ==================== Aggregates Maintenance ====================
+
+    // Hors transaction : le job ouvre une transaction courte par conférence réparée
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AggregatesReportDTO rebuildReviewAggregates(boolean repair) {
+        return reviewAggregatesJob.run(repair);
+    }
+}
@@ -0,0 +1,7 @@
+package ma.enset.conferenceservice.services;
+
+import java.io.OutputStream;
+
+public interface ExportService {
+    long exportConferences(OutputStream out, boolean withReviews);
+}
@@ -0,0 +1,94 @@
+package ma.enset.conferenceservice.services;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import ma.enset.conferenceservice.dto.ConferenceResponseDTO;
+import ma.enset.conferenceservice.entities.Conference;
+import ma.enset.conferenceservice.entities.Review;
+import ma.enset.conferenceservice.mappers.ConferenceMapper;
+import ma.enset.conferenceservice.repositories.ConferenceRepository;
+import ma.enset.conferenceservice.repositories.ReviewRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Export NDJSON en flux : les conférences sont lues via un curseur, traitées par paquets
+ * (reviews du paquet en une requête), écrites puis détachées du contexte de persistance.
+ * La mémoire utilisée dépend de la taille d'un paquet, pas du nombre de lignes exportées.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExportServiceImpl implements ExportService {
+
+    private static final byte NEWLINE = '\n';
+
+    private final ConferenceRepository conferenceRepository;
+    private final ReviewRepository reviewRepository;
+    private final ConferenceMapper conferenceMapper;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${conference.export.chunk-size:500}")
+    private int chunkSize;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportConferences(OutputStream out, boolean withReviews) {
+        long exported = 0;
+        try (Stream<Conference> conferences = conferenceRepository.streamAllByOrderById()) {
+            Iterator<Conference> iterator = conferences.iterator();
+            List<Conference> chunk = new ArrayList<>(chunkSize);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == chunkSize || !iterator.hasNext()) {
+                    writeChunk(chunk, withReviews, out);
+                    exported += chunk.size();
+                    chunk.clear();
+                }
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("Exported {} conference(s)", exported);
+        return exported;
+    }
+
+    private void writeChunk(List<Conference> chunk, boolean withReviews, OutputStream out) throws IOException {
+        Map<Long, List<Review>> reviews = Map.of();
+        if (withReviews) {
+            List<Long> ids = chunk.stream().map(Conference::getId).toList();
+            reviews = reviewRepository.findByConferenceIds(ids).stream()
+                    .collect(Collectors.groupingBy(review -> review.getConference().getId()));
+        }
+        for (Conference conference : chunk) {
+            ConferenceResponseDTO dto = conferenceMapper.toResponseDTO(conference, false);
+            if (withReviews) {
+                dto.setReviews(conferenceMapper.toReviewResponseDTOList(reviews.getOrDefault(conference.getId(), List.of())));
+            }
+            out.write(objectMapper.writeValueAsBytes(dto));
+            out.write(NEWLINE);
+        }
+        out.flush();
+        // Les entités déjà écrites ne doivent pas s'accumuler dans le contexte de persistance
+        chunk.forEach(entityManager::detach);
+        reviews.values().forEach(list -> list.forEach(entityManager::detach));
+    }
+}
@@ -0,0 +1,15 @@
+package ma.enset.conferenceservice.services;
+
+import ma.enset.conferenceservice.dto.ConferenceStatisticsDTO;
+import ma.enset.conferenceservice.dto.StatisticsReportDTO;
+import ma.enset.conferenceservice.enums.ConferenceType;
+
+import java.util.List;
+
+public interface StatisticsService {
+    List<ConferenceStatisticsDTO> getStatisticsByType();
+    ConferenceStatisticsDTO getStatisticsForType(ConferenceType type);
+    List<ConferenceStatisticsDTO> getStatisticsByKeynote();
+    ConferenceStatisticsDTO getStatisticsForKeynote(Long keynoteId);
+    StatisticsReportDTO reconcile(boolean repair);
+}
@@ -0,0 +1,78 @@
+package ma.enset.conferenceservice.services;
+
+import lombok.RequiredArgsConstructor;
+import ma.enset.conferenceservice.dto.ConferenceStatisticsDTO;
+import ma.enset.conferenceservice.dto.StatisticsReportDTO;
+import ma.enset.conferenceservice.entities.ConferenceStatistics;
+import ma.enset.conferenceservice.enums.ConferenceType;
+import ma.enset.conferenceservice.enums.StatisticsDimension;
+import ma.enset.conferenceservice.jobs.ConferenceStatisticsJob;
+import ma.enset.conferenceservice.repositories.ConferenceStatisticsRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Lectures des statistiques maintenues par {@link ma.enset.conferenceservice.statistics.ConferenceStatisticsTracker} :
+ * une ligne par type ou par keynote, lue par sa clé unique.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class StatisticsServiceImpl implements StatisticsService {
+
+    private final ConferenceStatisticsRepository statisticsRepository;
+    private final ConferenceStatisticsJob conferenceStatisticsJob;
+
+    @Override
+    public List<ConferenceStatisticsDTO> getStatisticsByType() {
+        return statisticsRepository.findByDimensionOrderByDimensionKey(StatisticsDimension.TYPE).stream()
+                .map(this::toDTO)
+                .toList();
+    }
+
+    @Override
+    public ConferenceStatisticsDTO getStatisticsForType(ConferenceType type) {
+        return find(StatisticsDimension.TYPE, type.name());
+    }
+
+    @Override
+    public List<ConferenceStatisticsDTO> getStatisticsByKeynote() {
+        return statisticsRepository.findByDimensionOrderByDimensionKey(StatisticsDimension.KEYNOTE).stream()
+                .map(this::toDTO)
+                .toList();
+    }
+
+    @Override
+    public ConferenceStatisticsDTO getStatisticsForKeynote(Long keynoteId) {
+        return find(StatisticsDimension.KEYNOTE, keynoteId.toString());
+    }
+
+    // Le job écrit ses corrections bucket par bucket, chacun dans sa transaction
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public StatisticsReportDTO reconcile(boolean repair) {
+        return conferenceStatisticsJob.run(repair);
+    }
+
+    // Bucket absent : aucune conférence, totaux à zéro
+    private ConferenceStatisticsDTO find(StatisticsDimension dimension, String key) {
+        return statisticsRepository.findByDimensionAndDimensionKey(dimension, key)
+                .map(this::toDTO)
+                .orElseGet(() -> ConferenceStatisticsDTO.builder().dimension(dimension).key(key).build());
+    }
+
+    private ConferenceStatisticsDTO toDTO(ConferenceStatistics statistics) {
+        long count = statistics.getConferenceCount();
+        return ConferenceStatisticsDTO.builder()
+                .dimension(statistics.getDimension())
+                .key(statistics.getDimensionKey())
+                .conferenceCount(count)
+                .averageScore(count > 0 ? Math.round(statistics.getScoreSum() / count * 100.0) / 100.0 : null)
+                .totalInscrits(statistics.getInscritsSum())
+                .reviewCount(statistics.getReviewCount())
+                .build();
+    }
+}
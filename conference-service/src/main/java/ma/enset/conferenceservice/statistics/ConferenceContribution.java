@@ -0,0 +1,20 @@
+package ma.enset.conferenceservice.statistics;
+
+import ma.enset.conferenceservice.entities.Conference;
+import ma.enset.conferenceservice.enums.ConferenceType;
+
+/**
+ * Ce qu'une conférence apporte aux statistiques de son type et de son keynote. Une mutation
+ * retire la contribution d'avant et ajoute celle d'après.
+ */
+public record ConferenceContribution(ConferenceType type, Long keynoteId, double score, long inscrits, long reviews) {
+
+    public static ConferenceContribution of(Conference conference) {
+        return new ConferenceContribution(
+                conference.getType(),
+                conference.getKeynoteId(),
+                conference.getScore() != null ? conference.getScore() : 0.0,
+                conference.getNombreInscrits() != null ? conference.getNombreInscrits() : 0,
+                conference.getReviewCount() != null ? conference.getReviewCount() : 0);
+    }
+}
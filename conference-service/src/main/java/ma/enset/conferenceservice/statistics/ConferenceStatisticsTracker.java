@@ -0,0 +1,151 @@
+package ma.enset.conferenceservice.statistics;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import ma.enset.conferenceservice.entities.ConferenceStatistics;
+import ma.enset.conferenceservice.repositories.ConferenceStatisticsRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
+
+/**
+ * Maintient les statistiques par type et par keynote au fil des mutations, hors du chemin
+ * d'écriture. Les écarts sont cumulés pendant la transaction appelante puis, après son commit
+ * seulement, versés dans un accumulateur en mémoire : un rollback n'altère jamais les totaux,
+ * et une écriture de conférence ou de review ne verrouille aucune ligne de statistiques.
+ *
+ * L'accumulateur est écrit périodiquement (conference.statistics.flush-interval), un bucket par
+ * transaction courte, par incrément atomique. Les buckets de type existent dès la migration
+ * V7 ; celui d'un keynote est créé à sa première écriture, par ce même flush. Les totaux ont
+ * donc au plus un intervalle de retard ; un arrêt brutal perd les écarts non écrits, que le
+ * job de vérification répare.
+ */
+@Component
+@Slf4j
+public class ConferenceStatisticsTracker {
+
+    private final ConferenceStatisticsRepository statisticsRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // Écarts commités, pas encore écrits en base
+    private final StatisticsDelta pending = new StatisticsDelta();
+    private final Object flushLock = new Object();
+
+    public ConferenceStatisticsTracker(ConferenceStatisticsRepository statisticsRepository,
+                                       PlatformTransactionManager transactionManager) {
+        this.statisticsRepository = statisticsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * @param before contribution avant la mutation (null pour une création)
+     * @param after  contribution après la mutation (null pour une suppression)
+     */
+    public void record(ConferenceContribution before, ConferenceContribution after) {
+        if (Objects.equals(before, after)) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Appelant hors transaction : rien à attendre avant de verser l'écart
+            StatisticsDelta delta = new StatisticsDelta();
+            delta.remove(before);
+            delta.add(after);
+            enqueue(delta);
+            return;
+        }
+        StatisticsDelta delta = transactionDelta();
+        delta.remove(before);
+        delta.add(after);
+    }
+
+    // Écart brut (correction du job de vérification), écrit au prochain flush
+    public void add(StatisticsDelta.Bucket bucket, long conferences, double score, long inscrits, long reviews) {
+        synchronized (pending) {
+            pending.add(bucket, conferences, score, inscrits, reviews);
+        }
+    }
+
+    /**
+     * Écrit les écarts en attente. Un bucket en échec est remis dans l'accumulateur et retenté
+     * au flush suivant ; les autres sont écrits normalement.
+     */
+    @Scheduled(fixedDelayString = "${conference.statistics.flush-interval:1000}")
+    public void flushPending() {
+        synchronized (flushLock) {
+            StatisticsDelta batch = new StatisticsDelta();
+            synchronized (pending) {
+                if (pending.isEmpty()) return;
+                batch.merge(pending);
+                pending.clear();
+            }
+            batch.forEach((bucket, totals) -> {
+                try {
+                    apply(bucket, totals);
+                } catch (RuntimeException e) {
+                    log.warn("Statistics flush failed for {}, retrying later: {}", bucket, e.getMessage());
+                    add(bucket, totals.conferences(), totals.score(), totals.inscrits(), totals.reviews());
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushPending();
+    }
+
+    private void apply(StatisticsDelta.Bucket bucket, StatisticsDelta.Totals totals) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (increment(bucket, totals) == 0) {
+                    statisticsRepository.saveAndFlush(ConferenceStatistics.builder()
+                            .dimension(bucket.dimension())
+                            .dimensionKey(bucket.key())
+                            .conferenceCount(totals.conferences())
+                            .scoreSum(totals.score())
+                            .inscritsSum(totals.inscrits())
+                            .reviewCount(totals.reviews())
+                            .build());
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Bucket créé entre-temps par une autre instance : il ne reste qu'à l'incrémenter
+            transactionTemplate.executeWithoutResult(status -> increment(bucket, totals));
+        }
+    }
+
+    private int increment(StatisticsDelta.Bucket bucket, StatisticsDelta.Totals totals) {
+        return statisticsRepository.increment(bucket.dimension(), bucket.key(),
+                totals.conferences(), totals.score(), totals.inscrits(), totals.reviews());
+    }
+
+    private void enqueue(StatisticsDelta delta) {
+        synchronized (pending) {
+            pending.merge(delta);
+        }
+    }
+
+    private StatisticsDelta transactionDelta() {
+        StatisticsDelta delta = (StatisticsDelta) TransactionSynchronizationManager.getResource(this);
+        if (delta != null) return delta;
+
+        StatisticsDelta created = new StatisticsDelta();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(created);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ConferenceStatisticsTracker.this);
+            }
+        });
+        return created;
+    }
+}
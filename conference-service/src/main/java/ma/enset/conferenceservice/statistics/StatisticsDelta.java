@@ -0,0 +1,86 @@
+package ma.enset.conferenceservice.statistics;
+
+import ma.enset.conferenceservice.enums.StatisticsDimension;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Écarts cumulés par bucket (dimension, clé), d'abord au sein d'une transaction puis entre deux
+ * écritures des statistiques : N mutations d'un même type ou keynote ne coûtent qu'une mise à
+ * jour de sa ligne.
+ */
+public class StatisticsDelta {
+
+    public record Bucket(StatisticsDimension dimension, String key) {
+    }
+
+    public static final class Totals {
+        long conferences;
+        double score;
+        long inscrits;
+        long reviews;
+
+        public long conferences() { return conferences; }
+        public double score() { return score; }
+        public long inscrits() { return inscrits; }
+        public long reviews() { return reviews; }
+
+        boolean isZero() {
+            return conferences == 0 && score == 0 && inscrits == 0 && reviews == 0;
+        }
+    }
+
+    // Ordre stable des buckets : les transactions concurrentes verrouillent les lignes dans le même ordre
+    private final Map<Bucket, Totals> totals = new TreeMap<>(
+            Comparator.comparing(Bucket::dimension).thenComparing(Bucket::key));
+
+    public void add(ConferenceContribution contribution) {
+        apply(contribution, 1);
+    }
+
+    public void remove(ConferenceContribution contribution) {
+        apply(contribution, -1);
+    }
+
+    public void add(Bucket bucket, long conferences, double score, long inscrits, long reviews) {
+        Totals value = totals.computeIfAbsent(bucket, b -> new Totals());
+        value.conferences += conferences;
+        value.score += score;
+        value.inscrits += inscrits;
+        value.reviews += reviews;
+    }
+
+    public void merge(StatisticsDelta other) {
+        other.totals.forEach((bucket, value) ->
+                add(bucket, value.conferences, value.score, value.inscrits, value.reviews));
+    }
+
+    public boolean isEmpty() {
+        return totals.values().stream().allMatch(Totals::isZero);
+    }
+
+    public void forEach(BiConsumer<Bucket, Totals> action) {
+        totals.forEach((bucket, value) -> {
+            if (!value.isZero()) action.accept(bucket, value);
+        });
+    }
+
+    public void clear() {
+        totals.clear();
+    }
+
+    private void apply(ConferenceContribution contribution, int sign) {
+        if (contribution == null) return;
+        accumulate(new Bucket(StatisticsDimension.TYPE, contribution.type().name()), contribution, sign);
+        if (contribution.keynoteId() != null) {
+            accumulate(new Bucket(StatisticsDimension.KEYNOTE, contribution.keynoteId().toString()), contribution, sign);
+        }
+    }
+
+    private void accumulate(Bucket bucket, ConferenceContribution contribution, int sign) {
+        add(bucket, sign, sign * contribution.score(), sign * contribution.inscrits(), sign * contribution.reviews());
+    }
+}
@@ -2,11 +2,16 @@ package ma.enset.conferenceservice.web;
 
 import lombok.RequiredArgsConstructor;
 import ma.enset.conferenceservice.dto.*;
+import ma.enset.conferenceservice.enums.ConferenceSort;
 import ma.enset.conferenceservice.enums.ConferenceType;
+import ma.enset.conferenceservice.enums.ReviewFetchMode;
+import ma.enset.conferenceservice.ingestion.ReviewIngestionPipeline;
 import ma.enset.conferenceservice.services.ConferenceService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -17,6 +22,7 @@ import java.util.List;
 public class ConferenceRestController {
 
     private final ConferenceService conferenceService;
+    private final ReviewIngestionPipeline reviewIngestionPipeline;
 
     // ==================== Conference Endpoints ====================
 
@@ -27,44 +33,103 @@ public class ConferenceRestController {
     }
 
     @GetMapping
-    public ResponseEntity<List<ConferenceResponseDTO>> getAllConferences() {
-        List<ConferenceResponseDTO> conferences = conferenceService.getAllConferences();
+    public ResponseEntity<ConferencePageDTO> getAllConferences(@RequestParam(defaultValue = "DATE") ConferenceSort sort,
+                                                               @RequestParam(required = false) String cursor,
+                                                               @RequestParam(required = false) Integer size,
+                                                               @RequestParam(defaultValue = "BATCH") ReviewFetchMode reviews) {
+        ConferencePageDTO conferences = conferenceService.getAllConferences(sort, cursor, size, reviews);
         return ResponseEntity.ok(conferences);
     }
 
+    @GetMapping("/full")
+    public ResponseEntity<ConferencePageDTO> getAllConferencesWithKeynotes(@RequestParam(defaultValue = "DATE") ConferenceSort sort,
+                                                                           @RequestParam(required = false) String cursor,
+                                                                           @RequestParam(required = false) Integer size,
+                                                                           @RequestParam(defaultValue = "BATCH") ReviewFetchMode reviews) {
+        ConferencePageDTO conferences = conferenceService.getAllConferencesWithKeynotes(sort, cursor, size, reviews);
+        return ResponseEntity.ok(conferences);
+    }
+
+    // Filtre multi-critères : type, from/to, keynoteId, minScore, minInscrits (tous optionnels)
+    @GetMapping("/filter")
+    public ResponseEntity<ConferencePageDTO> filterConferences(@ModelAttribute ConferenceFilterDTO filter,
+                                                               @RequestParam(defaultValue = "DATE") ConferenceSort sort,
+                                                               @RequestParam(required = false) String cursor,
+                                                               @RequestParam(required = false) Integer size,
+                                                               @RequestParam(defaultValue = "BATCH") ReviewFetchMode reviews) {
+        ConferencePageDTO conferences = conferenceService.filterConferences(filter, sort, cursor, size, reviews);
+        return ResponseEntity.ok(conferences);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<ConferencePageDTO> searchConferences(@RequestParam String q,
+                                                               @RequestParam(required = false) String cursor,
+                                                               @RequestParam(required = false) Integer size) {
+        ConferencePageDTO conferences = conferenceService.searchConferences(q, cursor, size);
+        return ResponseEntity.ok(conferences);
+    }
+
+    // Top-K par score (ex aequo départagés par nombreInscrits), global ou pour un type
+    @GetMapping("/leaderboard")
+    public ResponseEntity<List<LeaderboardEntryDTO>> getLeaderboard(@RequestParam(required = false) ConferenceType type,
+                                                                    @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(conferenceService.getLeaderboard(type, limit));
+    }
+
+    // GET conditionnel : 304 décidé sur la seule version, sans charger ni mapper conférence et reviews
     @GetMapping("/{id}")
-    public ResponseEntity<ConferenceResponseDTO> getConferenceById(@PathVariable Long id) {
+    public ResponseEntity<ConferenceResponseDTO> getConferenceById(@PathVariable Long id, WebRequest webRequest) {
+        ResourceVersionDTO version = conferenceService.getConferenceVersion(id);
+        if (webRequest.checkNotModified(ETags.of(version.getVersion()), ETags.millis(version.getLastModified()))) {
+            return null;
+        }
         ConferenceResponseDTO conference = conferenceService.getConferenceById(id);
-        return ResponseEntity.ok(conference);
+        return ETags.ok(conference, ETags.of(conference.getVersion()), version.getLastModified());
     }
 
     @GetMapping("/{id}/full")
-    public ResponseEntity<ConferenceResponseDTO> getConferenceByIdWithKeynote(@PathVariable Long id) {
+    public ResponseEntity<ConferenceResponseDTO> getConferenceByIdWithKeynote(@PathVariable Long id, WebRequest webRequest) {
+        ResourceVersionDTO version = conferenceService.getConferenceWithKeynoteVersion(id);
+        String etag = ETags.of(version);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
         ConferenceResponseDTO conference = conferenceService.getConferenceByIdWithKeynote(id);
-        return ResponseEntity.ok(conference);
+        return ETags.ok(conference, ETags.of(conference), null);
     }
 
     @GetMapping("/type/{type}")
-    public ResponseEntity<List<ConferenceResponseDTO>> getConferencesByType(@PathVariable ConferenceType type) {
-        List<ConferenceResponseDTO> conferences = conferenceService.getConferencesByType(type);
+    public ResponseEntity<ConferencePageDTO> getConferencesByType(@PathVariable ConferenceType type,
+                                                                  @RequestParam(defaultValue = "DATE") ConferenceSort sort,
+                                                                  @RequestParam(required = false) String cursor,
+                                                                  @RequestParam(required = false) Integer size,
+                                                                  @RequestParam(defaultValue = "BATCH") ReviewFetchMode reviews) {
+        ConferencePageDTO conferences = conferenceService.getConferencesByType(type, sort, cursor, size, reviews);
         return ResponseEntity.ok(conferences);
     }
 
     @GetMapping("/keynote/{keynoteId}")
-    public ResponseEntity<List<ConferenceResponseDTO>> getConferencesByKeynoteId(@PathVariable Long keynoteId) {
-        List<ConferenceResponseDTO> conferences = conferenceService.getConferencesByKeynoteId(keynoteId);
+    public ResponseEntity<ConferencePageDTO> getConferencesByKeynoteId(@PathVariable Long keynoteId,
+                                                                       @RequestParam(defaultValue = "DATE") ConferenceSort sort,
+                                                                       @RequestParam(required = false) String cursor,
+                                                                       @RequestParam(required = false) Integer size,
+                                                                       @RequestParam(defaultValue = "BATCH") ReviewFetchMode reviews) {
+        ConferencePageDTO conferences = conferenceService.getConferencesByKeynoteId(keynoteId, sort, cursor, size, reviews);
         return ResponseEntity.ok(conferences);
     }
 
+    // If-Match (optionnel) : 412 si la conférence a changé depuis la lecture du client
     @PutMapping("/{id}")
-    public ResponseEntity<ConferenceResponseDTO> updateConference(@PathVariable Long id, @RequestBody ConferenceRequestDTO request) {
-        ConferenceResponseDTO response = conferenceService.updateConference(id, request);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<ConferenceResponseDTO> updateConference(@PathVariable Long id, @RequestBody ConferenceRequestDTO request,
+                                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ConferenceResponseDTO response = conferenceService.updateConference(id, request, ETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(response.getVersion())).body(response);
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteConference(@PathVariable Long id) {
-        conferenceService.deleteConference(id);
+    public ResponseEntity<Void> deleteConference(@PathVariable Long id,
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        conferenceService.deleteConference(id, ETags.expectedVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
 
@@ -72,32 +137,55 @@ public class ConferenceRestController {
 
     @PostMapping("/{conferenceId}/reviews")
     public ResponseEntity<ReviewResponseDTO> addReview(@PathVariable Long conferenceId, @RequestBody ReviewRequestDTO request) {
+        if (reviewIngestionPipeline.isEnabled()) {
+            // Mode ACCEPTED : la review est en file, pas encore écrite
+            ReviewResponseDTO response = reviewIngestionPipeline.submit(conferenceId, request);
+            return response == null ? ResponseEntity.accepted().build() : new ResponseEntity<>(response, HttpStatus.CREATED);
+        }
         ReviewResponseDTO response = conferenceService.addReview(conferenceId, request);
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    // Toute modification d'une review incrémente la version de sa conférence : même ETag pour la liste
     @GetMapping("/{conferenceId}/reviews")
-    public ResponseEntity<List<ReviewResponseDTO>> getReviewsByConferenceId(@PathVariable Long conferenceId) {
+    public ResponseEntity<List<ReviewResponseDTO>> getReviewsByConferenceId(@PathVariable Long conferenceId, WebRequest webRequest) {
+        ResourceVersionDTO version = conferenceService.getConferenceVersion(conferenceId);
+        String etag = ETags.of(version.getVersion());
+        if (webRequest.checkNotModified(etag, ETags.millis(version.getLastModified()))) {
+            return null;
+        }
         List<ReviewResponseDTO> reviews = conferenceService.getReviewsByConferenceId(conferenceId);
-        return ResponseEntity.ok(reviews);
+        return ETags.ok(reviews, etag, version.getLastModified());
     }
 
     @GetMapping("/reviews/{id}")
-    public ResponseEntity<ReviewResponseDTO> getReviewById(@PathVariable Long id) {
+    public ResponseEntity<ReviewResponseDTO> getReviewById(@PathVariable Long id, WebRequest webRequest) {
+        ResourceVersionDTO version = conferenceService.getReviewVersion(id);
+        if (webRequest.checkNotModified(ETags.of(version.getVersion()), ETags.millis(version.getLastModified()))) {
+            return null;
+        }
         ReviewResponseDTO review = conferenceService.getReviewById(id);
-        return ResponseEntity.ok(review);
+        return ETags.ok(review, ETags.of(review.getVersion()), version.getLastModified());
     }
 
     @PutMapping("/reviews/{id}")
-    public ResponseEntity<ReviewResponseDTO> updateReview(@PathVariable Long id, @RequestBody ReviewRequestDTO request) {
-        ReviewResponseDTO response = conferenceService.updateReview(id, request);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<ReviewResponseDTO> updateReview(@PathVariable Long id, @RequestBody ReviewRequestDTO request,
+                                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ReviewResponseDTO response = conferenceService.updateReview(id, request, ETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(response.getVersion())).body(response);
     }
 
     @DeleteMapping("/reviews/{id}")
-    public ResponseEntity<Void> deleteReview(@PathVariable Long id) {
-        conferenceService.deleteReview(id);
+    public ResponseEntity<Void> deleteReview(@PathVariable Long id,
+                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        conferenceService.deleteReview(id, ETags.expectedVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
-}
 
+    // ==================== Maintenance Endpoints ====================
+
+    @PostMapping("/aggregates/rebuild")
+    public ResponseEntity<AggregatesReportDTO> rebuildReviewAggregates(@RequestParam(defaultValue = "true") boolean repair) {
+        return ResponseEntity.ok(conferenceService.rebuildReviewAggregates(repair));
+    }
+}
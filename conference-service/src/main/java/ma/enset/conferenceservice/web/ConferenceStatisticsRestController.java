@@ -0,0 +1,45 @@
+package ma.enset.conferenceservice.web;
+
+import lombok.RequiredArgsConstructor;
+import ma.enset.conferenceservice.dto.ConferenceStatisticsDTO;
+import ma.enset.conferenceservice.dto.StatisticsReportDTO;
+import ma.enset.conferenceservice.enums.ConferenceType;
+import ma.enset.conferenceservice.services.StatisticsService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/conferences/statistics")
+@RequiredArgsConstructor
+@CrossOrigin("*")
+public class ConferenceStatisticsRestController {
+
+    private final StatisticsService statisticsService;
+
+    @GetMapping("/types")
+    public ResponseEntity<List<ConferenceStatisticsDTO>> getStatisticsByType() {
+        return ResponseEntity.ok(statisticsService.getStatisticsByType());
+    }
+
+    @GetMapping("/types/{type}")
+    public ResponseEntity<ConferenceStatisticsDTO> getStatisticsForType(@PathVariable ConferenceType type) {
+        return ResponseEntity.ok(statisticsService.getStatisticsForType(type));
+    }
+
+    @GetMapping("/keynotes")
+    public ResponseEntity<List<ConferenceStatisticsDTO>> getStatisticsByKeynote() {
+        return ResponseEntity.ok(statisticsService.getStatisticsByKeynote());
+    }
+
+    @GetMapping("/keynotes/{keynoteId}")
+    public ResponseEntity<ConferenceStatisticsDTO> getStatisticsForKeynote(@PathVariable Long keynoteId) {
+        return ResponseEntity.ok(statisticsService.getStatisticsForKeynote(keynoteId));
+    }
+
+    @PostMapping("/reconcile")
+    public ResponseEntity<StatisticsReportDTO> reconcile(@RequestParam(defaultValue = "true") boolean repair) {
+        return ResponseEntity.ok(statisticsService.reconcile(repair));
+    }
+}
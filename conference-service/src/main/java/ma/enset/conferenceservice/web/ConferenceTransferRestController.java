@@ -0,0 +1,57 @@
+package ma.enset.conferenceservice.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import ma.enset.conferenceservice.config.AsyncTimeoutConfig;
+import ma.enset.conferenceservice.dto.ImportReportDTO;
+import ma.enset.conferenceservice.enums.ImportFormat;
+import ma.enset.conferenceservice.services.BulkImportService;
+import ma.enset.conferenceservice.services.ExportService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/conferences")
+@RequiredArgsConstructor
+@CrossOrigin("*")
+public class ConferenceTransferRestController {
+
+    private final BulkImportService bulkImportService;
+    private final ExportService exportService;
+
+    @Value("${conference.export.timeout:30m}")
+    private Duration exportTimeout;
+
+    // Corps NDJSON (une conférence par ligne, reviews imbriquées possibles) ou CSV avec en-tête
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<ImportReportDTO> importConferences(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                             InputStream body) {
+        return ResponseEntity.ok(bulkImportService.importConferences(body, ImportFormat.fromContentType(contentType)));
+    }
+
+    // Corps NDJSON ou CSV (conferenceId,date,note,texte) de reviews de conférences existantes
+    @PostMapping(value = "/reviews/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<ImportReportDTO> importReviews(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                         InputStream body) {
+        return ResponseEntity.ok(bulkImportService.importReviews(body, ImportFormat.fromContentType(contentType)));
+    }
+
+    // Export NDJSON écrit au fil de l'eau dans la réponse, avec son propre délai asynchrone
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportConferences(@RequestParam(defaultValue = "false") boolean reviews,
+                                                                   HttpServletRequest request) {
+        request.setAttribute(AsyncTimeoutConfig.TIMEOUT_ATTRIBUTE, exportTimeout);
+        StreamingResponseBody body = out -> exportService.exportConferences(out, reviews);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"conferences.ndjson\"")
+                .body(body);
+    }
+}
@@ -0,0 +1,65 @@
+package ma.enset.conferenceservice.web;
+
+import ma.enset.conferenceservice.dto.ConferenceResponseDTO;
+import ma.enset.conferenceservice.dto.ResourceVersionDTO;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Instant;
+
+/**
+ * ETags forts dérivés des colonnes @Version : "v3" pour une conférence ou une review,
+ * "v3-k5" pour la vue /full (version du keynote incluse).
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String of(Long version) {
+        return "\"v" + version + "\"";
+    }
+
+    // null : keynote référencé mais indisponible (placeholder), réponse non cacheable
+    static String of(ResourceVersionDTO version) {
+        if (version.getKeynoteId() == null) return of(version.getVersion());
+        if (version.getKeynoteVersion() == null) return null;
+        return "\"v" + version.getVersion() + "-k" + version.getKeynoteVersion() + "\"";
+    }
+
+    static String of(ConferenceResponseDTO conference) {
+        if (conference.getKeynoteId() == null || conference.getKeynote() == null) return of(conference.getVersion());
+        if (conference.getKeynote().getVersion() == null) return null;
+        return "\"v" + conference.getVersion() + "-k" + conference.getKeynote().getVersion() + "\"";
+    }
+
+    static long millis(Instant instant) {
+        return instant != null ? instant.toEpochMilli() : -1;
+    }
+
+    /**
+     * Version attendue d'après If-Match (comparaison forte, une seule valeur). Null si l'en-tête
+     * est absent ou vaut "*" ; -1 si la valeur n'est pas un de nos ETags, ce qui ne correspond à
+     * aucune version et donne donc 412.
+     */
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) return null;
+        String tag = ifMatch.trim();
+        if (!tag.startsWith("\"v") || !tag.endsWith("\"") || tag.length() < 4) return -1L;
+        String value = tag.substring(2, tag.length() - 1);
+        int dash = value.indexOf('-');
+        try {
+            return Long.parseLong(dash >= 0 ? value.substring(0, dash) : value);
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    // Réponse complète : le client revalide à chaque navigation (If-None-Match), sans retélécharger
+    static <T> ResponseEntity<T> ok(T body, String etag, Instant lastModified) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().cacheControl(CacheControl.noCache());
+        if (etag != null) builder.eTag(etag);
+        if (lastModified != null) builder.lastModified(lastModified);
+        return builder.body(body);
+    }
+}
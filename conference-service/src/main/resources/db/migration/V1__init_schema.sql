@@ -0,0 +1,42 @@
+-- Schéma initial de conference-service (équivalent à ce que générait ddl-auto=update)
+
+create sequence conferences_seq start with 1 increment by 50;
+create sequence reviews_seq start with 1 increment by 50;
+create sequence conference_search_terms_seq start with 1 increment by 100;
+
+create table conferences (
+    id              bigint           not null primary key,
+    titre           varchar(255)     not null,
+    type            varchar(255)     not null,
+    date            date             not null,
+    duree           integer,
+    nombre_inscrits integer,
+    score           double precision not null,
+    keynote_id      bigint,
+    review_count    bigint           not null,
+    note_sum        bigint           not null,
+    note1_count     bigint           not null,
+    note2_count     bigint           not null,
+    note3_count     bigint           not null,
+    note4_count     bigint           not null,
+    note5_count     bigint           not null
+);
+
+create table reviews (
+    id            bigint        not null primary key,
+    date          date          not null,
+    texte         varchar(1000) not null,
+    note          integer       not null,
+    conference_id bigint        not null,
+    constraint fk_reviews_conference foreign key (conference_id) references conferences (id)
+);
+
+create table conference_search_terms (
+    id            bigint      not null primary key,
+    term          varchar(40) not null,
+    conference_id bigint      not null,
+    weight        integer     not null
+);
+
+create index idx_search_term on conference_search_terms (term, conference_id);
+create index idx_search_conference on conference_search_terms (conference_id);
@@ -0,0 +1,9 @@
+-- Index composites des listes et filtres de conférences (clé de tri + id pour la pagination par clé)
+
+create index idx_conferences_date on conferences (date, id);
+create index idx_conferences_score on conferences (score, id);
+create index idx_conferences_type_date on conferences (type, date, id);
+create index idx_conferences_keynote_date on conferences (keynote_id, date, id);
+
+-- Reviews d'une conférence triées par date (findByConferenceIdOrderByDateDesc, export)
+create index idx_reviews_conference_date on reviews (conference_id, date);
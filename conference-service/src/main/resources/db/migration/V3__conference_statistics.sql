@@ -0,0 +1,14 @@
+-- Statistiques par type et par keynote, maintenues par delta (une ligne par bucket)
+
+create sequence conference_statistics_seq start with 1 increment by 50;
+
+create table conference_statistics (
+    id               bigint           not null primary key,
+    dimension        varchar(20)      not null,
+    dimension_key    varchar(64)      not null,
+    conference_count bigint           not null,
+    score_sum        double precision not null,
+    inscrits_sum     bigint           not null,
+    review_count     bigint           not null,
+    constraint uk_statistics_bucket unique (dimension, dimension_key)
+);
@@ -0,0 +1,7 @@
+-- Verrou optimiste et requêtes conditionnelles (ETag / Last-Modified)
+
+alter table conferences add column version bigint default 0 not null;
+alter table conferences add column last_modified timestamp(6) with time zone;
+
+alter table reviews add column version bigint default 0 not null;
+alter table reviews add column last_modified timestamp(6) with time zone;
@@ -0,0 +1,19 @@
+-- Copie locale des keynotes, alimentée par l'outbox de keynote-service
+
+create table keynote_replica (
+    id              bigint       not null primary key,
+    nom             varchar(255),
+    prenom          varchar(255),
+    email           varchar(255),
+    fonction        varchar(255),
+    version         bigint,
+    source_sequence bigint       not null,
+    updated_at      timestamp    not null
+);
+
+-- Dernier événement appliqué par consommateur : reprise au même point après redémarrage
+create table consumer_offset (
+    consumer      varchar(64) not null primary key,
+    last_sequence bigint      not null,
+    updated_at    timestamp   not null
+);
@@ -0,0 +1,3 @@
+-- Époque du flux source au moment du dernier événement appliqué : un changement d'époque
+-- signale une source repartie de zéro, même si ses numéros ont déjà dépassé l'offset
+alter table consumer_offset add column epoch varchar(64);
@@ -0,0 +1,9 @@
+-- Buckets de type créés d'avance : le flush des statistiques n'a plus qu'à les incrémenter
+
+insert into conference_statistics (id, dimension, dimension_key, conference_count, score_sum, inscrits_sum, review_count)
+select next value for conference_statistics_seq, 'TYPE', 'ACADEMIQUE', 0, 0, 0, 0
+where not exists (select 1 from conference_statistics where dimension = 'TYPE' and dimension_key = 'ACADEMIQUE');
+
+insert into conference_statistics (id, dimension, dimension_key, conference_count, score_sum, inscrits_sum, review_count)
+select next value for conference_statistics_seq, 'TYPE', 'COMMERCIALE', 0, 0, 0, 0
+where not exists (select 1 from conference_statistics where dimension = 'TYPE' and dimension_key = 'COMMERCIALE');
@@ -0,0 +1,136 @@
+package ma.enset.conferenceservice;
+
+import ma.enset.conferenceservice.dto.AggregatesReportDTO;
+import ma.enset.conferenceservice.dto.ConferenceRequestDTO;
+import ma.enset.conferenceservice.dto.ImportErrorDTO;
+import ma.enset.conferenceservice.dto.ImportReportDTO;
+import ma.enset.conferenceservice.entities.Conference;
+import ma.enset.conferenceservice.enums.ConferenceType;
+import ma.enset.conferenceservice.enums.ImportFormat;
+import ma.enset.conferenceservice.jobs.ReviewAggregatesJob;
+import ma.enset.conferenceservice.repositories.ConferenceRepository;
+import ma.enset.conferenceservice.services.BulkImportService;
+import ma.enset.conferenceservice.services.ConferenceService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Import massif de reviews : lignes invalides rapportées sans interrompre le chargement,
+ * agrégats recalculés depuis la table reviews, et réparation par le job d'un écart introduit
+ * directement en base.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bulk-import-db"
+})
+class BulkImportTests {
+
+    @Autowired
+    private BulkImportService bulkImportService;
+    @Autowired
+    private ConferenceService conferenceService;
+    @Autowired
+    private ConferenceRepository conferenceRepository;
+    @Autowired
+    private ReviewAggregatesJob reviewAggregatesJob;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void invalidNdjsonLinesAreReportedAndValidOnesAggregated() {
+        Long conferenceId = createConference();
+        ImportReportDTO report = bulkImportService.importReviews(body(
+                review(conferenceId, 4),
+                review(conferenceId, 5),
+                review(conferenceId, 6),
+                "{\"conferenceId\":" + conferenceId + ",\"date\":\"2026-11-02\",\"note\":3}",
+                review(999_999L, 4),
+                "not json",
+                ""
+        ), ImportFormat.NDJSON);
+
+        assertEquals(6, report.getTotalRows());
+        assertEquals(2, report.getImported());
+        assertEquals(4, report.getFailed());
+        assertEquals(List.of(3L, 4L, 5L, 6L), report.getErrors().stream().map(ImportErrorDTO::getLine).toList());
+        assertEquals("Note must be between 1 and 5", report.getErrors().get(0).getMessage());
+        assertEquals("date, texte and note are required", report.getErrors().get(1).getMessage());
+        assertEquals("Conference not found with id: 999999", report.getErrors().get(2).getMessage());
+
+        assertAggregates(conferenceId, 0, 0, 0, 1, 1, 4.5);
+    }
+
+    @Test
+    void csvReviewsAreImportedByColumnName() {
+        Long conferenceId = createConference();
+        ImportReportDTO report = bulkImportService.importReviews(body(
+                "note,conferenceId,texte,date",
+                "2," + conferenceId + ",\"Bien, sans plus\",2026-11-02",
+                "3," + conferenceId + ",Correct,2026-11-02",
+                "abc," + conferenceId + ",Illisible,2026-11-02",
+                "4,,Sans conférence,2026-11-02"
+        ), ImportFormat.CSV);
+
+        assertEquals(4, report.getTotalRows());
+        assertEquals(2, report.getImported());
+        assertEquals(List.of(4L, 5L), report.getErrors().stream().map(ImportErrorDTO::getLine).toList());
+        assertEquals("conferenceId is required", report.getErrors().get(1).getMessage());
+
+        assertAggregates(conferenceId, 0, 1, 1, 0, 0, 2.5);
+    }
+
+    @Test
+    void driftedAggregatesAreReportedThenRebuiltFromReviews() {
+        Long conferenceId = createConference();
+        bulkImportService.importReviews(body(review(conferenceId, 5), review(conferenceId, 3), review(conferenceId, 4)),
+                ImportFormat.NDJSON);
+        assertAggregates(conferenceId, 0, 0, 1, 1, 1, 4.0);
+
+        // Deux notes 1 sans review correspondante
+        transactionTemplate.executeWithoutResult(status ->
+                conferenceRepository.applyReviewDelta(conferenceId, 2, 0, 0, 0, 0, Instant.now()));
+
+        AggregatesReportDTO verified = reviewAggregatesJob.run(false);
+        assertTrue(verified.getDriftedConferenceIds().contains(conferenceId));
+        assertEquals(Long.valueOf(5), conferenceRepository.findById(conferenceId).orElseThrow().getReviewCount());
+
+        AggregatesReportDTO repaired = reviewAggregatesJob.run(true);
+        assertTrue(repaired.getDriftedConferenceIds().contains(conferenceId));
+        assertAggregates(conferenceId, 0, 0, 1, 1, 1, 4.0);
+        assertFalse(reviewAggregatesJob.run(false).getDriftedConferenceIds().contains(conferenceId));
+    }
+
+    private void assertAggregates(Long conferenceId, long n1, long n2, long n3, long n4, long n5, double score) {
+        Conference conference = conferenceRepository.findById(conferenceId).orElseThrow();
+        long[] expected = {0, n1, n2, n3, n4, n5};
+        for (int note = 1; note <= 5; note++) {
+            assertEquals(expected[note], conference.getNoteCount(note), "note " + note);
+        }
+        assertEquals(Long.valueOf(n1 + n2 + n3 + n4 + n5), conference.getReviewCount());
+        assertEquals(Long.valueOf(n1 + 2 * n2 + 3 * n3 + 4 * n4 + 5 * n5), conference.getNoteSum());
+        assertEquals(Double.valueOf(score), conference.getScore());
+    }
+
+    private Long createConference() {
+        return conferenceService.createConference(ConferenceRequestDTO.builder()
+                .titre("Import").type(ConferenceType.ACADEMIQUE).date(LocalDate.of(2026, 11, 1))
+                .duree(60).nombreInscrits(100).keynoteId(424_242L).build()).getId();
+    }
+
+    private static String review(Long conferenceId, int note) {
+        return "{\"conferenceId\":" + conferenceId + ",\"date\":\"2026-11-02\",\"texte\":\"review\",\"note\":" + note + "}";
+    }
+
+    private static ByteArrayInputStream body(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,144 @@
+package ma.enset.conferenceservice;
+
+import com.sun.net.httpserver.HttpServer;
+import ma.enset.conferenceservice.dto.ConferenceResponseDTO;
+import ma.enset.conferenceservice.entities.Conference;
+import ma.enset.conferenceservice.entities.Review;
+import ma.enset.conferenceservice.enums.ConferenceType;
+import ma.enset.conferenceservice.enums.DetailLoadMode;
+import ma.enset.conferenceservice.repositories.ConferenceRepository;
+import ma.enset.conferenceservice.repositories.ReviewRepository;
+import ma.enset.conferenceservice.services.ConferenceService;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compare les deux modes de chargement de /{id}/full. Les deux jambes ont le même délai
+ * injecté : le keynote-service local répond en KEYNOTE_DELAY_MS, et un StatementInspector
+ * retarde d'autant toute requête sur les reviews. Le mode séquentiel paie les deux délais,
+ * le mode concurrent un seul.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:detail-latency-db",
+        // Le cache expire aussitôt : chaque appel paie l'aller-retour distant
+        "keynote.cache.refresh-after=1ms",
+        "keynote.cache.expire-after=1ms"
+})
+class ConferenceDetailLatencyTests {
+
+    private static final long KEYNOTE_DELAY_MS = 150;
+    private static final int ITERATIONS = 10;
+    private static final HttpServer keynoteStandIn = startKeynoteStandIn();
+    private static volatile boolean slowReviews;
+
+    @TestConfiguration
+    static class SlowReviewQueries {
+        @Bean
+        HibernatePropertiesCustomizer reviewQueryDelay() {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+                if (slowReviews && sql.contains(" reviews ")) sleep(KEYNOTE_DELAY_MS);
+                return sql;
+            });
+        }
+    }
+
+    @Autowired
+    private ConferenceService conferenceService;
+    @Autowired
+    private ConferenceRepository conferenceRepository;
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @DynamicPropertySource
+    static void keynoteServiceUrl(DynamicPropertyRegistry registry) {
+        registry.add("spring.cloud.discovery.client.simple.instances.keynote-service[0].uri",
+                () -> "http://localhost:" + keynoteStandIn.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopKeynoteStandIn() {
+        keynoteStandIn.stop(0);
+    }
+
+    @Test
+    void concurrentModeOverlapsKeynoteAndReviewLoading() {
+        Conference conference = conferenceRepository.save(Conference.builder()
+                .titre("Latency").type(ConferenceType.ACADEMIQUE).date(LocalDate.of(2026, 9, 1))
+                .duree(60).nombreInscrits(10).keynoteId(7L).build());
+        for (int i = 0; i < 50; i++) {
+            reviewRepository.save(Review.builder().date(LocalDate.of(2026, 9, 2)).texte("review " + i)
+                    .note(1 + i % 5).conference(conference).build());
+        }
+
+        slowReviews = true;
+        long sequential = averageLatencyMillis(DetailLoadMode.SEQUENTIAL, conference.getId());
+        long concurrent = averageLatencyMillis(DetailLoadMode.CONCURRENT, conference.getId());
+        slowReviews = false;
+
+        assertTrue(sequential >= 2 * KEYNOTE_DELAY_MS, "sequential mode waits for both legs: " + sequential + " ms");
+        assertTrue(concurrent < 2 * KEYNOTE_DELAY_MS, "concurrent mode overlaps the legs: " + concurrent + " ms");
+    }
+
+    private long averageLatencyMillis(DetailLoadMode mode, Long conferenceId) {
+        ReflectionTestUtils.setField(AopTestUtils.getTargetObject(conferenceService), "detailLoadMode", mode);
+        conferenceService.getConferenceByIdWithKeynote(conferenceId); // warm-up
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            ConferenceResponseDTO dto = conferenceService.getConferenceByIdWithKeynote(conferenceId);
+            assertEquals("Stand-in", dto.getKeynote().getNom());
+            assertEquals(50, dto.getReviews().size());
+        }
+        return (System.nanoTime() - start) / 1_000_000 / ITERATIONS;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static HttpServer startKeynoteStandIn() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+            server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+            server.createContext("/api/keynotes/", exchange -> {
+                sleep(KEYNOTE_DELAY_MS);
+                String id = exchange.getRequestURI().getPath().substring("/api/keynotes/".length());
+                byte[] body = ("{\"id\":" + id + ",\"nom\":\"Stand-in\",\"prenom\":\"Keynote\","
+                        + "\"email\":\"standin@enset.ma\",\"fonction\":\"Speaker\"}").getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
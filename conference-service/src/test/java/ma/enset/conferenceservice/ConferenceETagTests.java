@@ -0,0 +1,115 @@
+package ma.enset.conferenceservice;
+
+import ma.enset.conferenceservice.dto.ConferenceRequestDTO;
+import ma.enset.conferenceservice.enums.ConferenceType;
+import ma.enset.conferenceservice.services.ConferenceService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * ETags des conférences : If-None-Match donne 304 tant que la version n'a pas changé, et
+ * If-Match d'une version dépassée donne 412 sur PUT et DELETE.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:conference-etag-db"
+})
+class ConferenceETagTests {
+
+    private static final String UPDATE = """
+            {"titre":"Renommée","type":"ACADEMIQUE","date":"2026-10-01","duree":90,"nombreInscrits":40}""";
+
+    @Autowired
+    private WebApplicationContext context;
+    @Autowired
+    private ConferenceService conferenceService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    @Test
+    void unchangedConferenceIsNotModified() throws Exception {
+        Long id = createConference();
+
+        String etag = etag("/api/conferences/" + id);
+        mockMvc.perform(get("/api/conferences/{id}", id).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+        // Vue /full sans keynote : même version, même revalidation
+        String fullEtag = etag("/api/conferences/" + id + "/full");
+        mockMvc.perform(get("/api/conferences/{id}/full", id).header(HttpHeaders.IF_NONE_MATCH, fullEtag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void updateChangesTheETag() throws Exception {
+        Long id = createConference();
+        String before = etag("/api/conferences/" + id);
+
+        String after = mockMvc.perform(put("/api/conferences/{id}", id).header(HttpHeaders.IF_MATCH, before)
+                        .contentType(MediaType.APPLICATION_JSON).content(UPDATE))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(before, after);
+
+        mockMvc.perform(get("/api/conferences/{id}", id).header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, after));
+        mockMvc.perform(get("/api/conferences/{id}", id).header(HttpHeaders.IF_NONE_MATCH, after))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void staleIfMatchIsPreconditionFailed() throws Exception {
+        Long id = createConference();
+        String stale = etag("/api/conferences/" + id);
+        mockMvc.perform(put("/api/conferences/{id}", id).contentType(MediaType.APPLICATION_JSON).content(UPDATE))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(put("/api/conferences/{id}", id).header(HttpHeaders.IF_MATCH, stale)
+                        .contentType(MediaType.APPLICATION_JSON).content(UPDATE))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete("/api/conferences/{id}", id).header(HttpHeaders.IF_MATCH, stale))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete("/api/conferences/{id}", id).header(HttpHeaders.IF_MATCH, "\"not-ours\""))
+                .andExpect(status().isPreconditionFailed());
+
+        String current = etag("/api/conferences/" + id);
+        mockMvc.perform(delete("/api/conferences/{id}", id).header(HttpHeaders.IF_MATCH, current))
+                .andExpect(status().isNoContent());
+    }
+
+    private String etag(String path) throws Exception {
+        String etag = mockMvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        return etag;
+    }
+
+    private Long createConference() {
+        return conferenceService.createConference(ConferenceRequestDTO.builder()
+                .titre("Versionnée").type(ConferenceType.ACADEMIQUE).date(LocalDate.of(2026, 10, 1))
+                .duree(60).nombreInscrits(20).build()).getId();
+    }
+}
@@ -0,0 +1,47 @@
+package ma.enset.conferenceservice;
+
+import ma.enset.conferenceservice.repositories.ConferenceRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * Export NDJSON en streaming : une ligne par conférence, et délai asynchrone propre à
+ * l'export (conference.export.timeout) au lieu d'un délai global.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:export-db",
+        "conference.export.timeout=45m"
+})
+class ConferenceExportTests {
+
+    @Autowired
+    private WebApplicationContext context;
+    @Autowired
+    private ConferenceRepository conferenceRepository;
+
+    @Test
+    void exportStreamsEveryConferenceWithItsOwnTimeout() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+
+        MvcResult result = mockMvc.perform(get("/api/conferences/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertEquals(Duration.ofMinutes(45).toMillis(), result.getRequest().getAsyncContext().getTimeout());
+
+        result.getAsyncResult();
+        String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertEquals(conferenceRepository.count(), body.lines().count());
+    }
+}
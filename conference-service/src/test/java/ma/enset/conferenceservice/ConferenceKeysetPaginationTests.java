@@ -0,0 +1,145 @@
+package ma.enset.conferenceservice;
+
+import ma.enset.conferenceservice.dto.ConferencePageDTO;
+import ma.enset.conferenceservice.dto.ConferenceRequestDTO;
+import ma.enset.conferenceservice.dto.ConferenceResponseDTO;
+import ma.enset.conferenceservice.enums.ConferenceSort;
+import ma.enset.conferenceservice.enums.ConferenceType;
+import ma.enset.conferenceservice.enums.ReviewFetchMode;
+import ma.enset.conferenceservice.services.ConferenceService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pagination par clé : parcours complet par curseurs sans doublon ni trou malgré des clés de tri
+ * égales (départagées par id), insertion en cours de parcours sans décalage, et curseur invalide
+ * ou d'un autre tri refusé en 400. Chaque test isole ses conférences par un keynoteId propre.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:keyset-pagination-db"
+})
+class ConferenceKeysetPaginationTests {
+
+    private static final int CONFERENCES = 23;
+    private static final int PAGE_SIZE = 4;
+
+    @Autowired
+    private ConferenceService conferenceService;
+    @Autowired
+    private WebApplicationContext context;
+
+    @Test
+    void dateCursorWalksEveryConferenceOnceInOrder() {
+        long keynoteId = 810_001L;
+        List<ConferenceResponseDTO> created = createConferences(keynoteId);
+
+        List<Long> walked = walk(keynoteId, ConferenceSort.DATE);
+
+        assertEquals(ids(created.stream()
+                .sorted(Comparator.comparing(ConferenceResponseDTO::getDate).thenComparing(ConferenceResponseDTO::getId))
+                .toList()), walked);
+    }
+
+    @Test
+    void scoreCursorWalksEveryConferenceOnceInOrder() {
+        long keynoteId = 810_002L;
+        List<ConferenceResponseDTO> created = createConferences(keynoteId);
+
+        List<Long> walked = walk(keynoteId, ConferenceSort.SCORE);
+
+        assertEquals(ids(created.stream()
+                .sorted(Comparator.comparing(ConferenceResponseDTO::getScore).thenComparing(ConferenceResponseDTO::getId)
+                        .reversed())
+                .toList()), walked);
+    }
+
+    @Test
+    void insertBeforeTheCursorShiftsNothing() {
+        long keynoteId = 810_003L;
+        List<ConferenceResponseDTO> created = createConferences(keynoteId);
+
+        List<Long> walked = new ArrayList<>();
+        ConferencePageDTO page = conferenceService.getConferencesByKeynoteId(keynoteId, ConferenceSort.DATE, null,
+                PAGE_SIZE, ReviewFetchMode.NONE);
+        walked.addAll(ids(page.getItems()));
+        // Une pagination par offset renverrait la dernière conférence lue une seconde fois
+        create(keynoteId, LocalDate.of(2025, 1, 1), 1.0, "Insérée avant le curseur");
+        while (page.getNextCursor() != null) {
+            page = conferenceService.getConferencesByKeynoteId(keynoteId, ConferenceSort.DATE, page.getNextCursor(),
+                    PAGE_SIZE, ReviewFetchMode.NONE);
+            walked.addAll(ids(page.getItems()));
+        }
+
+        assertEquals(CONFERENCES, walked.size());
+        assertEquals(new HashSet<>(ids(created)), new HashSet<>(walked));
+    }
+
+    @Test
+    void invalidCursorIsBadRequest() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+        String scoreCursor = conferenceService.getAllConferences(ConferenceSort.SCORE, null, 1, ReviewFetchMode.NONE)
+                .getNextCursor();
+        assertNotNull(scoreCursor);
+
+        for (String cursor : List.of("not-a-cursor", token("DATE|2026-01-01"), token("DATE|yesterday|1"),
+                token("DATE|2026-01-01|one"), scoreCursor)) {
+            mockMvc.perform(get("/api/conferences").param("sort", "DATE").param("cursor", cursor))
+                    .andExpect(status().isBadRequest());
+        }
+        mockMvc.perform(get("/api/conferences").param("sort", "SCORE").param("cursor", scoreCursor))
+                .andExpect(status().isOk());
+    }
+
+    private List<Long> walk(long keynoteId, ConferenceSort sort) {
+        List<Long> walked = new ArrayList<>();
+        String cursor = null;
+        do {
+            ConferencePageDTO page = conferenceService.getConferencesByKeynoteId(keynoteId, sort, cursor, PAGE_SIZE,
+                    ReviewFetchMode.NONE);
+            assertTrue(page.getSize() <= PAGE_SIZE);
+            walked.addAll(ids(page.getItems()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        assertEquals(walked.size(), new HashSet<>(walked).size(), "duplicates in " + walked);
+        return walked;
+    }
+
+    // Trois dates et quatre scores seulement : la plupart des clés de tri sont ex aequo
+    private List<ConferenceResponseDTO> createConferences(long keynoteId) {
+        List<ConferenceResponseDTO> created = new ArrayList<>();
+        for (int i = 0; i < CONFERENCES; i++) {
+            created.add(create(keynoteId, LocalDate.of(2026, 3, 1 + i % 3), 2.0 + i % 4, "Conférence " + i));
+        }
+        return created;
+    }
+
+    private ConferenceResponseDTO create(long keynoteId, LocalDate date, double score, String titre) {
+        return conferenceService.createConference(ConferenceRequestDTO.builder()
+                .titre(titre).type(ConferenceType.ACADEMIQUE).date(date)
+                .duree(60).nombreInscrits(10).score(score).keynoteId(keynoteId).build());
+    }
+
+    private static List<Long> ids(List<ConferenceResponseDTO> conferences) {
+        return conferences.stream().map(ConferenceResponseDTO::getId).toList();
+    }
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,125 @@
+package ma.enset.conferenceservice;
+
+import ma.enset.conferenceservice.dto.ConferenceRequestDTO;
+import ma.enset.conferenceservice.dto.LeaderboardEntryDTO;
+import ma.enset.conferenceservice.dto.ReviewRequestDTO;
+import ma.enset.conferenceservice.enums.ConferenceType;
+import ma.enset.conferenceservice.leaderboard.ConferenceLeaderboard;
+import ma.enset.conferenceservice.services.ConferenceService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classement en mémoire : ordre total (score, inscrits, id), mise à jour au commit d'une review,
+ * et rollback sans effet. Seules les conférences créées par chaque test sont comparées, les
+ * données de démarrage restant dans le classement.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:leaderboard-db"
+})
+class ConferenceLeaderboardTests {
+
+    @Autowired
+    private ConferenceService conferenceService;
+    @Autowired
+    private ConferenceLeaderboard conferenceLeaderboard;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // Reconstruction de démarrage en arrière-plan : les tests lisent le classement en mémoire
+    @BeforeEach
+    void waitForLeaderboard() throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!conferenceLeaderboard.isReady() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(conferenceLeaderboard.isReady());
+    }
+
+    @Test
+    void entriesAreOrderedByScoreThenInscritsThenId() {
+        Long low = create("Bas", ConferenceType.ACADEMIQUE, 3.0, 500);
+        Long fewInscrits = create("Peu d'inscrits", ConferenceType.ACADEMIQUE, 4.5, 10);
+        Long first = create("Premier", ConferenceType.ACADEMIQUE, 4.5, 50);
+        Long tie = create("Ex aequo", ConferenceType.ACADEMIQUE, 4.5, 50);
+        Long otherType = create("Autre type", ConferenceType.COMMERCIALE, 4.8, 10);
+
+        assertEquals(List.of(first, tie, fewInscrits, low), ranked(ConferenceType.ACADEMIQUE, low, fewInscrits, first, tie, otherType));
+        assertEquals(List.of(otherType, first, tie, fewInscrits, low), ranked(null, low, fewInscrits, first, tie, otherType));
+    }
+
+    @Test
+    void committedReviewMovesTheConference() {
+        Long leader = create("En tête", ConferenceType.COMMERCIALE, 4.0, 10);
+        Long reviewed = create("Relevée", ConferenceType.COMMERCIALE, 1.0, 10);
+        assertEquals(List.of(leader, reviewed), ranked(ConferenceType.COMMERCIALE, leader, reviewed));
+
+        conferenceService.addReview(reviewed, review(5));
+
+        assertEquals(List.of(reviewed, leader), ranked(ConferenceType.COMMERCIALE, leader, reviewed));
+        LeaderboardEntryDTO entry = entry(reviewed);
+        assertEquals(Double.valueOf(5.0), entry.getScore());
+        assertEquals(Long.valueOf(1), entry.getReviewCount());
+    }
+
+    @Test
+    void rolledBackReviewLeavesTheLeaderboardUnchanged() {
+        Long leader = create("En tête", ConferenceType.COMMERCIALE, 4.0, 10);
+        Long reviewed = create("Annulée", ConferenceType.COMMERCIALE, 2.0, 10);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            conferenceService.addReview(reviewed, review(5));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(List.of(leader, reviewed), ranked(ConferenceType.COMMERCIALE, leader, reviewed));
+        LeaderboardEntryDTO entry = entry(reviewed);
+        assertEquals(Double.valueOf(2.0), entry.getScore());
+        assertEquals(Long.valueOf(0), entry.getReviewCount());
+        assertEquals(Double.valueOf(2.0), conferenceService.getConferenceById(reviewed).getScore());
+    }
+
+    @Test
+    void deletedConferenceLeavesTheLeaderboard() {
+        Long deleted = create("Supprimée", ConferenceType.ACADEMIQUE, 4.9, 10);
+        assertNotNull(entry(deleted));
+
+        conferenceService.deleteConference(deleted, null);
+
+        assertNull(entry(deleted));
+    }
+
+    // Ids de la page du classement, restreints à ceux du test, dans l'ordre du classement
+    private List<Long> ranked(ConferenceType type, Long... ids) {
+        List<Long> wanted = List.of(ids);
+        return conferenceService.getLeaderboard(type, 100).stream()
+                .map(LeaderboardEntryDTO::getConferenceId)
+                .filter(wanted::contains)
+                .toList();
+    }
+
+    private LeaderboardEntryDTO entry(Long conferenceId) {
+        return conferenceService.getLeaderboard(null, 100).stream()
+                .filter(e -> e.getConferenceId().equals(conferenceId))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private Long create(String titre, ConferenceType type, double score, int inscrits) {
+        return conferenceService.createConference(ConferenceRequestDTO.builder()
+                .titre(titre).type(type).date(LocalDate.of(2026, 9, 1))
+                .duree(60).nombreInscrits(inscrits).score(score).build()).getId();
+    }
+
+    private static ReviewRequestDTO review(int note) {
+        return ReviewRequestDTO.builder().date(LocalDate.of(2026, 9, 2)).texte("Avis").note(note).build();
+    }
+}
@@ -0,0 +1,116 @@
+package ma.enset.conferenceservice;
+
+import jakarta.persistence.EntityManagerFactory;
+import ma.enset.conferenceservice.dto.ConferencePageDTO;
+import ma.enset.conferenceservice.entities.Conference;
+import ma.enset.conferenceservice.entities.Review;
+import ma.enset.conferenceservice.enums.ConferenceSort;
+import ma.enset.conferenceservice.enums.ConferenceType;
+import ma.enset.conferenceservice.enums.ReviewFetchMode;
+import ma.enset.conferenceservice.leaderboard.ConferenceLeaderboard;
+import ma.enset.conferenceservice.repositories.ConferenceRepository;
+import ma.enset.conferenceservice.repositories.ReviewRepository;
+import ma.enset.conferenceservice.services.ConferenceService;
+import ma.enset.conferenceservice.statistics.ConferenceStatisticsTracker;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "conference.pagination.max-size=1000"
+})
+class ConferenceListingQueryCountTests {
+
+    private static final int CONFERENCES = 1000;
+
+    @Autowired
+    private ConferenceService conferenceService;
+    @Autowired
+    private ConferenceRepository conferenceRepository;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private ConferenceLeaderboard conferenceLeaderboard;
+    @Autowired
+    private ConferenceStatisticsTracker statisticsTracker;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        // Les statistiques Hibernate sont globales : attendre la reconstruction du classement
+        // et vider les écarts de statistiques du démarrage avant de compter
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!conferenceLeaderboard.isReady() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(conferenceLeaderboard.isReady());
+        statisticsTracker.flushPending();
+
+        reviewRepository.deleteAll();
+        conferenceRepository.deleteAll();
+
+        List<Conference> conferences = new ArrayList<>();
+        for (int i = 0; i < CONFERENCES; i++) {
+            conferences.add(Conference.builder()
+                    .titre("Conference " + i)
+                    .type(i % 2 == 0 ? ConferenceType.ACADEMIQUE : ConferenceType.COMMERCIALE)
+                    .date(LocalDate.of(2026, 1, 1).plusDays(i % 365))
+                    .duree(60)
+                    .nombreInscrits(i)
+                    .build());
+        }
+        conferenceRepository.saveAll(conferences);
+
+        List<Review> reviews = new ArrayList<>();
+        for (Conference conference : conferences) {
+            reviews.add(Review.builder().date(LocalDate.of(2026, 6, 1)).texte("ok").note(4).conference(conference).build());
+            reviews.add(Review.builder().date(LocalDate.of(2026, 6, 2)).texte("bien").note(5).conference(conference).build());
+        }
+        reviewRepository.saveAll(reviews);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void listingWithoutReviewsIssuesASingleStatement() {
+        ConferencePageDTO page = conferenceService.getAllConferences(ConferenceSort.DATE, null, CONFERENCES, ReviewFetchMode.NONE);
+
+        assertEquals(CONFERENCES, page.getSize());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void listingWithReviewsLoadsThemInBatches() {
+        ConferencePageDTO page = conferenceService.getAllConferences(ConferenceSort.DATE, null, CONFERENCES, ReviewFetchMode.BATCH);
+
+        assertEquals(CONFERENCES, page.getSize());
+        assertEquals(2, page.getItems().get(0).getReviews().size());
+        // 1 requête pour la page + 1 par lot de 100 collections de reviews
+        assertEquals(1 + CONFERENCES / 100, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void detailViewLoadsConferenceAndReviewsTogether() {
+        Long id = conferenceRepository.findAll().get(0).getId();
+        statistics.clear();
+
+        conferenceService.getConferenceById(id);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
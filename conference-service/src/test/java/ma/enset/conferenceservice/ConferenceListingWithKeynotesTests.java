@@ -0,0 +1,89 @@
+package ma.enset.conferenceservice;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import ma.enset.conferenceservice.dto.ConferencePageDTO;
+import ma.enset.conferenceservice.dto.ConferenceResponseDTO;
+import ma.enset.conferenceservice.entities.Conference;
+import ma.enset.conferenceservice.entities.Review;
+import ma.enset.conferenceservice.enums.ConferenceSort;
+import ma.enset.conferenceservice.enums.ConferenceType;
+import ma.enset.conferenceservice.enums.ReviewFetchMode;
+import ma.enset.conferenceservice.repositories.ConferenceRepository;
+import ma.enset.conferenceservice.repositories.ReviewRepository;
+import ma.enset.conferenceservice.services.ConferenceService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Liste avec keynotes hors de toute transaction englobante : reviews paresseuses chargées
+ * dans la transaction de la page, keynote-service injoignable dégradant la page déjà lue, et
+ * curseur invalide traité en erreur du client sans compter comme échec du circuit breaker.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:listing-keynotes-db"
+})
+class ConferenceListingWithKeynotesTests {
+
+    @Autowired
+    private ConferenceService conferenceService;
+    @Autowired
+    private ConferenceRepository conferenceRepository;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @Test
+    void pageReviewsAreLoadedWithoutSurroundingTransaction() {
+        Conference conference = conferenceRepository.save(Conference.builder()
+                .titre("Sans keynote").type(ConferenceType.ACADEMIQUE).date(LocalDate.of(2026, 5, 1))
+                .duree(60).nombreInscrits(10).build());
+        reviewRepository.save(Review.builder().date(LocalDate.of(2026, 5, 2)).texte("ok").note(4).conference(conference).build());
+
+        ConferencePageDTO page = conferenceService.getAllConferencesWithKeynotes(ConferenceSort.DATE, null, 100, ReviewFetchMode.BATCH);
+
+        ConferenceResponseDTO dto = page.getItems().stream()
+                .filter(item -> item.getId().equals(conference.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(1, dto.getReviews().size());
+    }
+
+    @Test
+    void keynoteFailureDegradesThePageAlreadyRead() {
+        CircuitBreaker breaker = circuitBreakerRegistry.circuitBreaker("keynoteService");
+        int failedBefore = breaker.getMetrics().getNumberOfFailedCalls();
+        // Keynote inconnu de la copie locale, keynote-service absent (aucune instance enregistrée)
+        Conference conference = conferenceRepository.save(Conference.builder()
+                .titre("Keynote injoignable").type(ConferenceType.COMMERCIALE).date(LocalDate.of(2026, 5, 3))
+                .duree(60).nombreInscrits(10).keynoteId(909_090L).build());
+
+        ConferencePageDTO page = conferenceService.getAllConferencesWithKeynotes(ConferenceSort.DATE, null, 100, ReviewFetchMode.NONE);
+
+        ConferenceResponseDTO dto = page.getItems().stream()
+                .filter(item -> item.getId().equals(conference.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertNull(dto.getKeynote());
+        // Un seul appel groupé, seul compté par le breaker
+        assertEquals(failedBefore + 1, breaker.getMetrics().getNumberOfFailedCalls());
+    }
+
+    @Test
+    void invalidCursorIsNotABreakerFailure() {
+        CircuitBreaker breaker = circuitBreakerRegistry.circuitBreaker("keynoteService");
+        int failedBefore = breaker.getMetrics().getNumberOfFailedCalls();
+        for (int i = 0; i < 10; i++) {
+            assertThrows(IllegalArgumentException.class, () -> conferenceService.getAllConferencesWithKeynotes(
+                    ConferenceSort.DATE, "not-a-cursor", 10, ReviewFetchMode.NONE));
+        }
+
+        assertEquals(failedBefore, breaker.getMetrics().getNumberOfFailedCalls());
+    }
+}
@@ -0,0 +1,140 @@
+package ma.enset.conferenceservice;
+
+import ma.enset.conferenceservice.dto.ConferenceFilterDTO;
+import ma.enset.conferenceservice.enums.ConferenceSort;
+import ma.enset.conferenceservice.enums.ConferenceType;
+import ma.enset.conferenceservice.enums.ReviewFetchMode;
+import ma.enset.conferenceservice.pagination.ConferenceCursor;
+import ma.enset.conferenceservice.services.ConferenceService;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Vérifie avec EXPLAIN que les requêtes générées par Hibernate pour les listes paginées et le
+ * filtre multi-critères (prédicat OR du curseur, minScore, minInscrits compris) utilisent les
+ * index créés par V2__conference_query_indexes. Le SQL est capturé par un StatementInspector ;
+ * les valeurs des critères y sont écrites en littéraux (value_handling_mode=inline), seule la
+ * limite de page reste un paramètre JDBC.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-plan-db",
+        "spring.jpa.properties.hibernate.criteria.value_handling_mode=inline"
+})
+class ConferenceQueryPlanTests {
+
+    private static final int PAGE_SIZE = 20;
+
+    private static final List<String> statements = new CopyOnWriteArrayList<>();
+
+    @TestConfiguration
+    static class CapturingInspector {
+        @Bean
+        HibernatePropertiesCustomizer statementInspector() {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+                statements.add(sql);
+                return sql;
+            });
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ConferenceService conferenceService;
+
+    @BeforeEach
+    void setUp() {
+        statements.clear();
+        if (jdbcTemplate.queryForObject("select count(*) from conferences", Long.class) > 1000) return;
+
+        List<Object[]> conferences = new ArrayList<>();
+        List<Object[]> reviews = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            long id = 1_000_000L + i;
+            conferences.add(new Object[]{id, "Conference " + i, i % 2 == 0 ? "ACADEMIQUE" : "COMMERCIALE",
+                    Date.valueOf(LocalDate.of(2026, 1, 1).plusDays(i % 365)), i % 200, (long) (i % 100)});
+            reviews.add(new Object[]{id, Date.valueOf(LocalDate.of(2026, 6, 1)), id});
+        }
+        jdbcTemplate.batchUpdate("insert into conferences (id, titre, type, date, duree, nombre_inscrits, score, keynote_id, " +
+                "review_count, note_sum, note1_count, note2_count, note3_count, note4_count, note5_count) " +
+                "values (?, ?, ?, ?, 60, ?, 0, ?, 0, 0, 0, 0, 0, 0, 0)", conferences);
+        jdbcTemplate.batchUpdate("insert into reviews (id, date, texte, note, conference_id) values (?, ?, 'ok', 4, ?)", reviews);
+        jdbcTemplate.execute("analyze");
+    }
+
+    @Test
+    void typePageAfterCursorUsesTypeDateIndex() {
+        conferenceService.getConferencesByType(ConferenceType.ACADEMIQUE, ConferenceSort.DATE,
+                dateCursor(LocalDate.of(2026, 3, 1), 1_000_100L), PAGE_SIZE, ReviewFetchMode.NONE);
+        assertUsesIndex(conferenceQuery(), PAGE_SIZE + 1, "IDX_CONFERENCES_TYPE_DATE");
+    }
+
+    @Test
+    void keynotePageAfterCursorUsesKeynoteDateIndex() {
+        conferenceService.getConferencesByKeynoteId(42L, ConferenceSort.DATE,
+                dateCursor(LocalDate.of(2026, 1, 15), 1_000_042L), PAGE_SIZE, ReviewFetchMode.NONE);
+        assertUsesIndex(conferenceQuery(), PAGE_SIZE + 1, "IDX_CONFERENCES_KEYNOTE_DATE");
+    }
+
+    @Test
+    void filterWithScoreAndInscritsUsesKeynoteDateIndex() {
+        ConferenceFilterDTO filter = new ConferenceFilterDTO();
+        filter.setKeynoteId(42L);
+        filter.setFrom(LocalDate.of(2026, 1, 1));
+        filter.setTo(LocalDate.of(2026, 6, 30));
+        filter.setMinScore(0.0);
+        filter.setMinInscrits(10);
+        conferenceService.filterConferences(filter, ConferenceSort.DATE,
+                dateCursor(LocalDate.of(2026, 2, 1), 1_000_042L), PAGE_SIZE, ReviewFetchMode.NONE);
+
+        String sql = conferenceQuery();
+        assertTrue(sql.contains(" or "), () -> "Expected the cursor predicate in:\n" + sql);
+        assertTrue(sql.contains("score>=") || sql.contains("score >="), () -> "Expected minScore in:\n" + sql);
+        assertTrue(sql.contains("nombre_inscrits>=") || sql.contains("nombre_inscrits >="), () -> "Expected minInscrits in:\n" + sql);
+        assertUsesIndex(sql, PAGE_SIZE + 1, "IDX_CONFERENCES_KEYNOTE_DATE");
+    }
+
+    @Test
+    void reviewsOfConferenceUseConferenceDateIndex() {
+        conferenceService.getReviewsByConferenceId(1_000_042L);
+        String sql = statements.stream().filter(s -> s.contains("from reviews")).findFirst().orElseThrow();
+        assertUsesIndex(sql, 1_000_042L, "IDX_REVIEWS_CONFERENCE_DATE");
+    }
+
+    private static String dateCursor(LocalDate date, Long id) {
+        return new ConferenceCursor(ConferenceSort.DATE, date, null, id).encode();
+    }
+
+    // Requête de page (triée) sur conferences émise par le dernier appel au service
+    private static String conferenceQuery() {
+        return statements.stream()
+                .filter(s -> s.contains("from conferences") && s.contains("order by"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No conference page query captured in " + statements));
+    }
+
+    // Les paramètres JDBC restants (limite, ou id pour une requête dérivée) reçoivent bindValue
+    private void assertUsesIndex(String sql, Object bindValue, String index) {
+        int parameters = (int) sql.chars().filter(c -> c == '?').count();
+        String plan = String.join("\n", jdbcTemplate.queryForList("explain " + sql, String.class,
+                Collections.nCopies(parameters, bindValue).toArray()));
+        assertTrue(plan.toUpperCase().contains(index), () -> "Expected " + index + " in plan of:\n" + sql + "\n" + plan);
+    }
+}
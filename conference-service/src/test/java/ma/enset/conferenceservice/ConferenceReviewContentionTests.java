@@ -0,0 +1,112 @@
+package ma.enset.conferenceservice;
+
+import ma.enset.conferenceservice.dto.ConferenceRequestDTO;
+import ma.enset.conferenceservice.dto.ConferenceStatisticsDTO;
+import ma.enset.conferenceservice.dto.ReviewRequestDTO;
+import ma.enset.conferenceservice.entities.Conference;
+import ma.enset.conferenceservice.enums.ConferenceType;
+import ma.enset.conferenceservice.repositories.ConferenceRepository;
+import ma.enset.conferenceservice.repositories.ReviewRepository;
+import ma.enset.conferenceservice.services.ConferenceService;
+import ma.enset.conferenceservice.services.StatisticsService;
+import ma.enset.conferenceservice.statistics.ConferenceStatisticsTracker;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 10 000 reviews concurrentes sur une même conférence : aucune mise à jour perdue sur les
+ * agrégats, le score, ni les statistiques du keynote. Le débit est comparé à celui des mêmes
+ * reviews écrites par un seul thread sur la même machine : la contention sur la conférence ne
+ * doit pas le faire s'effondrer, sans dépendre de la vitesse absolue du runner.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:review-contention-db;LOCK_TIMEOUT=10000",
+        "spring.datasource.hikari.maximum-pool-size=16"
+})
+class ConferenceReviewContentionTests {
+
+    private static final int REVIEWS = 10_000;
+    private static final int THREADS = 32;
+    private static final long KEYNOTE_ID = 987_654L;
+    private static final int SERIAL_REVIEWS = 1_000;
+    private static final double MIN_RATIO_TO_SERIAL = 0.5;
+
+    @Autowired
+    private ConferenceService conferenceService;
+    @Autowired
+    private StatisticsService statisticsService;
+    @Autowired
+    private ConferenceStatisticsTracker statisticsTracker;
+    @Autowired
+    private ConferenceRepository conferenceRepository;
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Test
+    void concurrentReviewsOnOneConferenceLoseNoUpdate() throws Exception {
+        // Référence sérialisée, sur une autre conférence (sert aussi de chauffe)
+        Long serialId = createConference(null);
+        double serialThroughput = reviewsPerSecond(serialId, SERIAL_REVIEWS, 1, new long[6]);
+
+        Long conferenceId = createConference(KEYNOTE_ID);
+        long[] histogram = new long[6];
+        double throughput = reviewsPerSecond(conferenceId, REVIEWS, THREADS, histogram);
+
+        long noteSum = 0;
+        for (int note = 1; note <= 5; note++) noteSum += note * histogram[note];
+
+        Conference conference = conferenceRepository.findById(conferenceId).orElseThrow();
+        assertEquals(Long.valueOf(REVIEWS), conference.getReviewCount());
+        assertEquals(Long.valueOf(noteSum), conference.getNoteSum());
+        for (int note = 1; note <= 5; note++) {
+            assertEquals(histogram[note], conference.getNoteCount(note), "note " + note);
+        }
+        assertEquals(Double.valueOf(Conference.scoreOf(noteSum, REVIEWS, 0.0)), conference.getScore());
+        assertEquals(REVIEWS, reviewRepository.findByConferenceId(conferenceId).size());
+
+        statisticsTracker.flushPending();
+        ConferenceStatisticsDTO statistics = statisticsService.getStatisticsForKeynote(KEYNOTE_ID);
+        assertEquals(1, statistics.getConferenceCount());
+        assertEquals(REVIEWS, statistics.getReviewCount());
+        assertEquals(conference.getScore(), statistics.getAverageScore(), 1e-9);
+
+        assertTrue(throughput >= MIN_RATIO_TO_SERIAL * serialThroughput, String.format(
+                "%d concurrent reviews: %.0f reviews/s, below %.0f%% of the serialized %.0f reviews/s",
+                REVIEWS, throughput, MIN_RATIO_TO_SERIAL * 100, serialThroughput));
+    }
+
+    private Long createConference(Long keynoteId) {
+        return conferenceService.createConference(ConferenceRequestDTO.builder()
+                .titre("Hot conference").type(ConferenceType.ACADEMIQUE).date(LocalDate.of(2026, 10, 1))
+                .duree(60).nombreInscrits(500).keynoteId(keynoteId).build()).getId();
+    }
+
+    // Reviews écrites par "threads" threads ; histogram reçoit le nombre de reviews par note
+    private double reviewsPerSecond(Long conferenceId, int reviews, int threads, long[] histogram) throws Exception {
+        List<Future<?>> futures = new ArrayList<>(reviews);
+        long start = System.nanoTime();
+        try (ExecutorService pool = Executors.newFixedThreadPool(threads)) {
+            for (int i = 0; i < reviews; i++) {
+                int note = 1 + (i * 7) % 5;
+                histogram[note]++;
+                futures.add(pool.submit(() -> conferenceService.addReview(conferenceId, ReviewRequestDTO.builder()
+                        .date(LocalDate.of(2026, 10, 2)).texte("review").note(note).build())));
+            }
+            for (Future<?> future : futures) {
+                future.get(); // propage la première erreur éventuelle
+            }
+        }
+        return reviews / ((System.nanoTime() - start) / 1e9);
+    }
+}
@@ -0,0 +1,70 @@
+package ma.enset.conferenceservice;
+
+import ma.enset.conferenceservice.dto.ConferencePageDTO;
+import ma.enset.conferenceservice.dto.ConferenceRequestDTO;
+import ma.enset.conferenceservice.dto.ConferenceResponseDTO;
+import ma.enset.conferenceservice.enums.ConferenceType;
+import ma.enset.conferenceservice.services.ConferenceService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pagination de la recherche par clé (pertinence, id) : une suppression entre deux pages
+ * ne décale pas la suite, aucun résultat n'est sauté ni répété.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:search-pagination-db"
+})
+class ConferenceSearchPaginationTests {
+
+    private static final String QUERY = "pagination stable";
+
+    @Autowired
+    private ConferenceService conferenceService;
+
+    @Test
+    void deletionBetweenPagesDoesNotSkipResults() {
+        List<Long> expected = new ArrayList<>();
+        // Pertinence 6 (deux mots) puis 3 (un mot), id croissant à pertinence égale
+        for (int i = 0; i < 3; i++) expected.add(create("Pagination stable " + i));
+        for (int i = 0; i < 3; i++) expected.add(create("Pagination " + i));
+
+        ConferencePageDTO first = conferenceService.searchConferences(QUERY, null, 2);
+        assertEquals(expected.subList(0, 2), ids(first));
+
+        // Un résultat déjà servi disparaît : un OFFSET sauterait expected.get(2)
+        Long deleted = expected.remove(0);
+        conferenceService.deleteConference(deleted, null);
+
+        List<Long> rest = new ArrayList<>();
+        String cursor = first.getNextCursor();
+        while (cursor != null) {
+            ConferencePageDTO page = conferenceService.searchConferences(QUERY, cursor, 2);
+            rest.addAll(ids(page));
+            cursor = page.getNextCursor();
+        }
+        assertEquals(expected.subList(1, expected.size()), rest);
+    }
+
+    @Test
+    void foreignCursorIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> conferenceService.searchConferences(QUERY, "bm90LWEtY3Vyc29y", 2));
+    }
+
+    private Long create(String titre) {
+        return conferenceService.createConference(ConferenceRequestDTO.builder()
+                .titre(titre).type(ConferenceType.ACADEMIQUE).date(LocalDate.of(2026, 9, 1))
+                .duree(60).nombreInscrits(10).build()).getId();
+    }
+
+    private static List<Long> ids(ConferencePageDTO page) {
+        return page.getItems().stream().map(ConferenceResponseDTO::getId).toList();
+    }
+}
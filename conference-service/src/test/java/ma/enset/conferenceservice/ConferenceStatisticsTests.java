@@ -0,0 +1,145 @@
+package ma.enset.conferenceservice;
+
+import ma.enset.conferenceservice.dto.ConferenceRequestDTO;
+import ma.enset.conferenceservice.entities.ConferenceStatistics;
+import ma.enset.conferenceservice.enums.ConferenceType;
+import ma.enset.conferenceservice.enums.StatisticsDimension;
+import ma.enset.conferenceservice.repositories.ConferenceStatisticsRepository;
+import ma.enset.conferenceservice.services.ConferenceService;
+import ma.enset.conferenceservice.statistics.ConferenceContribution;
+import ma.enset.conferenceservice.statistics.ConferenceStatisticsTracker;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Statistiques par bucket, écrites après commit par le flush de l'accumulateur : premières
+ * écritures concurrentes sur un bucket de keynote qui n'existe pas encore, écriture non bloquée
+ * par une transaction ouverte sur le même type, rollback sans effet, et contribution enregistrée
+ * hors de toute transaction.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:conference-statistics-db",
+        "conference.statistics.flush-interval=3600000"
+})
+class ConferenceStatisticsTests {
+
+    private static final int WRITERS = 16;
+
+    @Autowired
+    private ConferenceService conferenceService;
+    @Autowired
+    private ConferenceStatisticsTracker statisticsTracker;
+    @Autowired
+    private ConferenceStatisticsRepository statisticsRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void concurrentFirstWritesShareTheNewBucket() throws Exception {
+        long keynoteId = 515_151L;
+        try (ExecutorService pool = Executors.newFixedThreadPool(WRITERS)) {
+            CountDownLatch go = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < WRITERS; i++) {
+                futures.add(pool.submit(() -> {
+                    go.await();
+                    return conferenceService.createConference(ConferenceRequestDTO.builder()
+                            .titre("Statistiques").type(ConferenceType.COMMERCIALE).date(LocalDate.of(2026, 12, 1))
+                            .duree(45).nombreInscrits(10).keynoteId(keynoteId).build());
+                }));
+            }
+            go.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS); // propage la première erreur éventuelle
+            }
+        }
+
+        statisticsTracker.flushPending();
+        ConferenceStatistics bucket = bucket(String.valueOf(keynoteId));
+        assertEquals(WRITERS, bucket.getConferenceCount());
+        assertEquals(WRITERS * 10L, bucket.getInscritsSum());
+    }
+
+    @Test
+    void contributionOutsideTransactionIsWritten() {
+        long keynoteId = 626_262L;
+        statisticsTracker.record(null, new ConferenceContribution(ConferenceType.ACADEMIQUE, keynoteId, 4.0, 30, 2));
+        statisticsTracker.flushPending();
+
+        ConferenceStatistics bucket = bucket(String.valueOf(keynoteId));
+        assertEquals(1, bucket.getConferenceCount());
+        assertEquals(4.0, bucket.getScoreSum());
+        assertEquals(30, bucket.getInscritsSum());
+        assertEquals(2, bucket.getReviewCount());
+    }
+
+    @Test
+    void openTransactionDoesNotBlockWritesOfTheSameType() throws Exception {
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try (ExecutorService pool = Executors.newSingleThreadExecutor()) {
+            Future<?> holder = pool.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                conferenceService.createConference(conference(737_373L));
+                written.countDown();
+                await(release);
+            }));
+            assertTrue(written.await(10, TimeUnit.SECONDS));
+
+            // Même bucket TYPE que la transaction restée ouverte : aucune ligne verrouillée à attendre
+            CompletableFuture<?> other = CompletableFuture.runAsync(() -> conferenceService.createConference(conference(747_474L)));
+            other.get(5, TimeUnit.SECONDS);
+
+            release.countDown();
+            holder.get(10, TimeUnit.SECONDS);
+        }
+        statisticsTracker.flushPending();
+        assertEquals(1, bucket("737373").getConferenceCount());
+        assertEquals(1, bucket("747474").getConferenceCount());
+    }
+
+    @Test
+    void rolledBackWriteIsNeverApplied() {
+        long keynoteId = 858_585L;
+        transactionTemplate.executeWithoutResult(status -> {
+            conferenceService.createConference(conference(keynoteId));
+            status.setRollbackOnly();
+        });
+        statisticsTracker.flushPending();
+
+        assertTrue(statisticsRepository.findByDimensionAndDimensionKey(StatisticsDimension.KEYNOTE,
+                String.valueOf(keynoteId)).isEmpty());
+    }
+
+    private static ConferenceRequestDTO conference(long keynoteId) {
+        return ConferenceRequestDTO.builder()
+                .titre("Statistiques").type(ConferenceType.ACADEMIQUE).date(LocalDate.of(2026, 12, 1))
+                .duree(45).nombreInscrits(10).keynoteId(keynoteId).build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private ConferenceStatistics bucket(String keynoteId) {
+        return statisticsRepository.findByDimensionAndDimensionKey(StatisticsDimension.KEYNOTE, keynoteId).orElseThrow();
+    }
+}
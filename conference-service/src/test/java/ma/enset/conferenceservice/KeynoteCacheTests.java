@@ -0,0 +1,60 @@
+package ma.enset.conferenceservice;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import ma.enset.conferenceservice.clients.KeynoteCache;
+import ma.enset.conferenceservice.clients.KeynoteRestClient;
+import ma.enset.conferenceservice.dto.KeynoteDTO;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Dernière valeur connue d'un keynote : toujours disponible pour les fallbacks une fois le
+ * cache principal expiré, alors que keynote-service ne répond plus.
+ */
+class KeynoteCacheTests {
+
+    private final AtomicBoolean keynoteServiceDown = new AtomicBoolean();
+
+    @Test
+    void lastKnownValueOutlivesExpiry() throws InterruptedException {
+        KeynoteCache cache = new KeynoteCache(keynoteRestClient(), new SimpleMeterRegistry(), 100,
+                Duration.ofMillis(1), Duration.ofMillis(20));
+        assertEquals("Keynote 1", cache.getKeynoteById(1L).getNom());
+        cache.getKeynotesByIds(List.of(2L, 3L));
+
+        keynoteServiceDown.set(true);
+        Thread.sleep(50);
+
+        assertTrue(cache.getCached(1L).isEmpty());
+        assertEquals("Keynote 1", cache.getLastKnown(1L).orElseThrow().getNom());
+        Map<Long, KeynoteDTO> lastKnown = cache.getAllLastKnown(List.of(2L, 3L, 4L));
+        assertEquals(Map.of(2L, "Keynote 2", 3L, "Keynote 3"), lastKnown.values().stream()
+                .collect(Collectors.toMap(KeynoteDTO::getId, KeynoteDTO::getNom)));
+        assertThrows(RuntimeException.class, () -> cache.getKeynoteById(1L));
+    }
+
+    private KeynoteRestClient keynoteRestClient() {
+        return (KeynoteRestClient) Proxy.newProxyInstance(KeynoteRestClient.class.getClassLoader(),
+                new Class<?>[]{KeynoteRestClient.class}, (proxy, method, args) -> {
+                    if (keynoteServiceDown.get()) throw new IllegalStateException("keynote-service down");
+                    return switch (method.getName()) {
+                        case "getKeynoteById" -> keynote((Long) args[0]);
+                        case "getKeynotesByIds" -> ((Collection<?>) args[0]).stream().map(id -> keynote((Long) id)).toList();
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    };
+                });
+    }
+
+    private static KeynoteDTO keynote(Long id) {
+        return KeynoteDTO.builder().id(id).nom("Keynote " + id).prenom("Test").email("k" + id + "@enset.ma").version(0L).build();
+    }
+}
@@ -0,0 +1,119 @@
+package ma.enset.conferenceservice;
+
+import com.sun.net.httpserver.HttpServer;
+import ma.enset.conferenceservice.clients.KeynoteRestClient;
+import ma.enset.loadbalancer.LatencyAwareLoadBalancer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Trois keynote-service locaux déclarés dans la découverte (SimpleDiscoveryClient à la place
+ * d'Eureka) : les appels Feign passent par LatencyAwareLoadBalancer et atteignent chacune des
+ * instances. Le choix selon la latence est vérifié avec une horloge simulée dans le module
+ * latency-aware-loadbalancer, pas ici avec de vraies attentes.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:load-balancing-db"
+})
+class KeynoteLoadBalancingTests {
+
+    private static final int INSTANCES = 3;
+    private static final int CALLS = 300;
+    private static final int THREADS = 16;
+
+    private static final AtomicInteger[] hits = new AtomicInteger[INSTANCES];
+    private static final List<HttpServer> instances = startInstances();
+
+    @Autowired
+    private KeynoteRestClient keynoteRestClient;
+    @Autowired
+    private LoadBalancerClientFactory loadBalancerClientFactory;
+
+    @DynamicPropertySource
+    static void keynoteServiceInstances(DynamicPropertyRegistry registry) {
+        for (int i = 0; i < instances.size(); i++) {
+            int port = instances.get(i).getAddress().getPort();
+            registry.add("spring.cloud.discovery.client.simple.instances.keynote-service[" + i + "].uri",
+                    () -> "http://localhost:" + port);
+        }
+    }
+
+    @AfterAll
+    static void stopInstances() {
+        instances.forEach(server -> server.stop(0));
+    }
+
+    @Test
+    void feignCallsGoThroughLatencyAwareLoadBalancer() throws Exception {
+        assertInstanceOf(LatencyAwareLoadBalancer.class, loadBalancerClientFactory.getInstance("keynote-service"));
+
+        List<Future<?>> futures = new ArrayList<>(CALLS);
+        try (ExecutorService pool = Executors.newFixedThreadPool(THREADS)) {
+            for (int i = 0; i < CALLS; i++) {
+                long id = 1 + i % 50;
+                futures.add(pool.submit(() -> assertEquals(Long.valueOf(id), keynoteRestClient.getKeynoteById(id).getId())));
+            }
+            for (Future<?> future : futures) {
+                future.get(); // propage la première erreur éventuelle
+            }
+        }
+
+        int total = 0;
+        for (int i = 0; i < INSTANCES; i++) {
+            assertTrue(hits[i].get() > 0, "instance " + i + " received no call");
+            total += hits[i].get();
+        }
+        assertEquals(CALLS, total);
+    }
+
+    private static List<HttpServer> startInstances() {
+        List<HttpServer> servers = new ArrayList<>();
+        for (int i = 0; i < INSTANCES; i++) {
+            hits[i] = new AtomicInteger();
+            servers.add(startInstance(hits[i]));
+        }
+        return servers;
+    }
+
+    private static HttpServer startInstance(AtomicInteger counter) {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+            server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+            server.createContext("/api/keynotes/", exchange -> {
+                counter.incrementAndGet();
+                String id = exchange.getRequestURI().getPath().substring("/api/keynotes/".length());
+                byte[] body = ("{\"id\":" + id + ",\"nom\":\"Instance\",\"prenom\":\"Keynote\","
+                        + "\"email\":\"instance@enset.ma\",\"fonction\":\"Speaker\"}").getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
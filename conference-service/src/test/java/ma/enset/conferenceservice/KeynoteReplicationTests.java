@@ -0,0 +1,143 @@
+package ma.enset.conferenceservice;
+
+import com.sun.net.httpserver.HttpServer;
+import ma.enset.conferenceservice.entities.ConsumerOffset;
+import ma.enset.conferenceservice.entities.KeynoteReplica;
+import ma.enset.conferenceservice.replication.KeynoteOutboxConsumer;
+import ma.enset.conferenceservice.repositories.ConsumerOffsetRepository;
+import ma.enset.conferenceservice.repositories.KeynoteReplicaRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Consommateur de l'outbox contre un keynote-service local dont le flux est piloté par le test :
+ * application page par page, suppression, puis redémarrage de la source (nouvelle époque) avec
+ * un dernier numéro déjà supérieur à l'offset local.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:keynote-replication-db",
+        // Désactivé pour les autres tests (config/application.properties)
+        "conference.keynote-replica.enabled=true",
+        // Pages de deux événements ; seul le premier passage est planifié, le test appelle poll()
+        "conference.keynote-replica.batch-size=2",
+        "conference.keynote-replica.poll-interval=3600000"
+})
+class KeynoteReplicationTests {
+
+    private static volatile String epoch = "epoch-1";
+    private static final List<String> events = new CopyOnWriteArrayList<>();
+    private static final HttpServer keynoteStandIn = startKeynoteStandIn();
+
+    @Autowired
+    private KeynoteOutboxConsumer consumer;
+    @Autowired
+    private KeynoteReplicaRepository replicaRepository;
+    @Autowired
+    private ConsumerOffsetRepository offsetRepository;
+
+    @DynamicPropertySource
+    static void keynoteServiceUrl(DynamicPropertyRegistry registry) {
+        registry.add("spring.cloud.discovery.client.simple.instances.keynote-service[0].uri",
+                () -> "http://localhost:" + keynoteStandIn.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopKeynoteStandIn() {
+        keynoteStandIn.stop(0);
+    }
+
+    @Test
+    void replicaFollowsOutboxAndRebuildsWhenSourceIsReset() throws InterruptedException {
+        // Premier passage planifié (flux vide) terminé avant de piloter le consommateur
+        for (int i = 0; i < 100 && !consumer.isSynchronized(); i++) Thread.sleep(50);
+        assertTrue(consumer.isSynchronized());
+
+        publish("UPSERTED", 1, "Alaoui");
+        publish("UPSERTED", 2, "Bennani");
+        publish("UPSERTED", 3, "Chraibi");
+        publish("UPSERTED", 1, "Alaoui-Idrissi");
+        publish("DELETED", 2, null);
+        consumer.poll();
+
+        assertEquals(Map.of(1L, "Alaoui-Idrissi", 3L, "Chraibi"), replicaNames());
+        assertOffset(5, "epoch-1");
+
+        // Source repartie de zéro puis six écritures : dernier numéro (6) au-delà de l'offset (5)
+        events.clear();
+        epoch = "epoch-2";
+        for (long id = 10; id < 16; id++) publish("UPSERTED", id, "Keynote " + id);
+        consumer.poll();
+
+        Map<Long, String> expected = new HashMap<>();
+        for (long id = 10; id < 16; id++) expected.put(id, "Keynote " + id);
+        assertEquals(expected, replicaNames());
+        assertOffset(6, "epoch-2");
+    }
+
+    private Map<Long, String> replicaNames() {
+        return replicaRepository.findAll().stream()
+                .collect(Collectors.toMap(KeynoteReplica::getId, KeynoteReplica::getNom));
+    }
+
+    private void assertOffset(long sequence, String expectedEpoch) {
+        ConsumerOffset offset = offsetRepository.findById("keynote-outbox").orElseThrow();
+        assertEquals(Long.valueOf(sequence), offset.getLastSequence());
+        assertEquals(expectedEpoch, offset.getEpoch());
+    }
+
+    private static void publish(String type, long keynoteId, String nom) {
+        int sequence = events.size() + 1;
+        events.add("{\"sequence\":" + sequence + ",\"type\":\"" + type + "\",\"keynoteId\":" + keynoteId
+                + (nom == null ? "" : ",\"nom\":\"" + nom + "\",\"prenom\":\"Keynote\",\"email\":\"k" + keynoteId
+                + "@enset.ma\",\"fonction\":\"Speaker\",\"keynoteVersion\":" + sequence) + "}");
+    }
+
+    // GET /api/keynotes/outbox?after=n&limit=m sur la liste courante d'événements
+    private static HttpServer startKeynoteStandIn() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+            server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+            server.createContext("/api/keynotes/outbox", exchange -> {
+                Map<String, Integer> query = new HashMap<>();
+                for (String parameter : exchange.getRequestURI().getQuery().split("&")) {
+                    String[] pair = parameter.split("=", 2);
+                    query.put(pair[0], Integer.parseInt(pair[1]));
+                }
+                List<String> snapshot = new ArrayList<>(events);
+                int from = Math.min(query.get("after"), snapshot.size());
+                int to = Math.min(from + query.get("limit"), snapshot.size());
+                byte[] body = ("{\"events\":[" + String.join(",", snapshot.subList(from, to)) + "],"
+                        + "\"headSequence\":" + snapshot.size() + ",\"epoch\":\"" + epoch + "\"}")
+                        .getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
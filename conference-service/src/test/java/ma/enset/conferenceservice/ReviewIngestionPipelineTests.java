@@ -0,0 +1,184 @@
+package ma.enset.conferenceservice;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import ma.enset.conferenceservice.dto.ConferenceRequestDTO;
+import ma.enset.conferenceservice.dto.ReviewRequestDTO;
+import ma.enset.conferenceservice.dto.ReviewResponseDTO;
+import ma.enset.conferenceservice.enums.ConferenceType;
+import ma.enset.conferenceservice.enums.ReviewAckMode;
+import ma.enset.conferenceservice.exceptions.IngestionQueueFullException;
+import ma.enset.conferenceservice.exceptions.IngestionUnavailableException;
+import ma.enset.conferenceservice.ingestion.ReviewIngestionPipeline;
+import ma.enset.conferenceservice.repositories.ReviewRepository;
+import ma.enset.conferenceservice.services.ConferenceService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pipeline d'ingestion des reviews, en instances dédiées autour du vrai ConferenceService :
+ * ack COMMITTED, regroupement de reviews simultanées en un seul lot, refus quand la file est
+ * pleine et délai de commit dépassé. Les deux derniers cas bloquent le writer dans le service.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:review-ingestion-db"
+})
+class ReviewIngestionPipelineTests {
+
+    private static final int REVIEWS = 10;
+
+    @Autowired
+    private ConferenceService conferenceService;
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Test
+    void committedAckReturnsTheStoredReview() {
+        Long conferenceId = createConference();
+        ReviewIngestionPipeline pipeline = pipeline(conferenceService, ReviewAckMode.COMMITTED, 100, Duration.ofSeconds(10));
+        pipeline.start();
+        try {
+            ReviewResponseDTO review = pipeline.submit(conferenceId, review(4));
+            assertNotNull(review.getId());
+            assertTrue(reviewRepository.existsById(review.getId()));
+        } finally {
+            pipeline.stop();
+        }
+    }
+
+    @Test
+    void simultaneousReviewsAreWrittenAsOneBatch() throws Exception {
+        Long conferenceId = createConference();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ReviewIngestionPipeline pipeline = new ReviewIngestionPipeline(conferenceService, registry, true,
+                ReviewAckMode.COMMITTED, 100, 50, Duration.ofMillis(500), Duration.ofSeconds(10));
+        pipeline.start();
+        try (ExecutorService pool = Executors.newFixedThreadPool(REVIEWS)) {
+            CountDownLatch go = new CountDownLatch(1);
+            List<Future<ReviewResponseDTO>> futures = new ArrayList<>();
+            for (int i = 0; i < REVIEWS; i++) {
+                int note = 1 + i % 5;
+                futures.add(pool.submit(() -> {
+                    go.await();
+                    return pipeline.submit(conferenceId, review(note));
+                }));
+            }
+            go.countDown();
+            for (Future<ReviewResponseDTO> future : futures) {
+                assertNotNull(future.get(10, TimeUnit.SECONDS).getId());
+            }
+        } finally {
+            pipeline.stop();
+        }
+
+        DistributionSummary batches = registry.get("reviews.ingestion.batch.size").summary();
+        assertEquals(1, batches.count());
+        assertEquals(REVIEWS, batches.totalAmount());
+    }
+
+    @Test
+    void fullQueueIsRejected() throws Exception {
+        Long conferenceId = createConference();
+        BlockingService blocking = new BlockingService(conferenceService);
+        ReviewIngestionPipeline pipeline = pipeline(blocking.proxy(), ReviewAckMode.ACCEPTED, 2, Duration.ofSeconds(10));
+        pipeline.start();
+        try {
+            // Le writer prend la première review et reste bloqué : la file se remplit derrière lui
+            pipeline.submit(conferenceId, review(5));
+            assertTrue(blocking.entered.await(5, TimeUnit.SECONDS));
+            pipeline.submit(conferenceId, review(5));
+            pipeline.submit(conferenceId, review(5));
+
+            assertThrows(IngestionQueueFullException.class, () -> pipeline.submit(conferenceId, review(5)));
+        } finally {
+            blocking.release.countDown();
+            pipeline.stop();
+        }
+    }
+
+    @Test
+    void stoppedPipelineIsUnavailableNotFull() {
+        Long conferenceId = createConference();
+        ReviewIngestionPipeline pipeline = pipeline(conferenceService, ReviewAckMode.ACCEPTED, 10, Duration.ofSeconds(10));
+
+        assertThrows(IngestionUnavailableException.class, () -> pipeline.submit(conferenceId, review(5)));
+
+        pipeline.start();
+        pipeline.stop();
+        assertThrows(IngestionUnavailableException.class, () -> pipeline.submit(conferenceId, review(5)));
+    }
+
+    @Test
+    void committedAckGivesUpAfterCommitTimeout() throws Exception {
+        Long conferenceId = createConference();
+        BlockingService blocking = new BlockingService(conferenceService);
+        ReviewIngestionPipeline pipeline = pipeline(blocking.proxy(), ReviewAckMode.COMMITTED, 10, Duration.ofMillis(200));
+        pipeline.start();
+        try {
+            long start = System.nanoTime();
+            assertThrows(IngestionUnavailableException.class, () -> pipeline.submit(conferenceId, review(3)));
+            assertTrue(Duration.ofNanos(System.nanoTime() - start).toSeconds() < 5);
+        } finally {
+            blocking.release.countDown();
+            pipeline.stop();
+        }
+    }
+
+    private static ReviewIngestionPipeline pipeline(ConferenceService service, ReviewAckMode ackMode,
+                                                    int queueCapacity, Duration commitTimeout) {
+        return new ReviewIngestionPipeline(service, new SimpleMeterRegistry(), true, ackMode, queueCapacity,
+                50, Duration.ofMillis(20), commitTimeout);
+    }
+
+    private Long createConference() {
+        return conferenceService.createConference(ConferenceRequestDTO.builder()
+                .titre("Ingestion").type(ConferenceType.ACADEMIQUE).date(LocalDate.of(2026, 11, 1))
+                .duree(60).nombreInscrits(100).keynoteId(424_242L).build()).getId();
+    }
+
+    private static ReviewRequestDTO review(int note) {
+        return ReviewRequestDTO.builder().date(LocalDate.of(2026, 11, 2)).texte("review").note(note).build();
+    }
+
+    /** ConferenceService dont l'écriture par lot attend {@code release} avant de déléguer. */
+    private static final class BlockingService {
+
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        private final ConferenceService delegate;
+
+        BlockingService(ConferenceService delegate) {
+            this.delegate = delegate;
+        }
+
+        ConferenceService proxy() {
+            return (ConferenceService) Proxy.newProxyInstance(ConferenceService.class.getClassLoader(),
+                    new Class<?>[]{ConferenceService.class}, (proxy, method, args) -> {
+                        if (method.getName().equals("addReviewsBatch")) {
+                            entered.countDown();
+                            release.await();
+                        }
+                        try {
+                            return method.invoke(delegate, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+    }
+}
@@ -19,6 +19,8 @@ public class CorsConfig {
         corsConfig.setMaxAge(3600L);
         corsConfig.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS", "HEAD"));
         corsConfig.setAllowedHeaders(Arrays.asList("*"));
+        // Lus par le front pour renvoyer If-Match lors d'une modification, et pour réessayer après un 429
+        corsConfig.setExposedHeaders(Arrays.asList("ETag", "Last-Modified", "Retry-After"));
         corsConfig.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
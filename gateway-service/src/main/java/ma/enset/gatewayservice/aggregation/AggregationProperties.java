@@ -0,0 +1,17 @@
+package ma.enset.gatewayservice.aggregation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Délais par appel (« jambe ») de l'agrégation du détail de conférence : une jambe qui les
+ * dépasse est abandonnée et signalée dans {@code errors}, les autres sont rendues.
+ */
+@ConfigurationProperties("gateway.aggregation")
+public record AggregationProperties(
+        @DefaultValue("2s") Duration conferenceTimeout,
+        @DefaultValue("2s") Duration reviewsTimeout,
+        @DefaultValue("1s") Duration keynoteTimeout) {
+}
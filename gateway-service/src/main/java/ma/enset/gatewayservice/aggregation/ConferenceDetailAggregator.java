@@ -0,0 +1,121 @@
+package ma.enset.gatewayservice.aggregation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ma.enset.gatewayservice.cache.CachedReads;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Détail de conférence assemblé côté gateway, à la place des appels successifs du navigateur.
+ * La conférence et ses reviews partent en parallèle ; le keynote part dès que la conférence a
+ * donné son keynoteId, sans attendre les reviews. Les appels passent par le LoadBalancer
+ * (lb, même choix d'instance que les routes) et chacun a son propre délai.
+ *
+ * Chaque jambe passe par {@link CachedReads}, sous le chemin gateway équivalent
+ * (/conference-service/api/conferences/{id}...) : cache de réponses, invalidation par les
+ * écritures routées et coalescence comme si le navigateur avait appelé la route. La limitation
+ * de débit est appliquée en amont par {@link ConferenceDetailRateLimitFilter}.
+ */
+@Service
+public class ConferenceDetailAggregator {
+
+    static final String CONFERENCE_SERVICE = "conference-service";
+    static final String KEYNOTE_SERVICE = "keynote-service";
+
+    private static final HttpHeaders LEG_HEADERS = HttpHeaders.readOnlyHttpHeaders(jsonAccept());
+
+    private final WebClient webClient;
+    private final CachedReads reads;
+    private final ObjectMapper objectMapper;
+    private final AggregationProperties properties;
+
+    public ConferenceDetailAggregator(WebClient.Builder builder, ReactorLoadBalancerExchangeFilterFunction loadBalancer,
+                                      CachedReads reads, ObjectMapper objectMapper, AggregationProperties properties) {
+        this.webClient = builder.clone().filter(loadBalancer).build();
+        this.reads = reads;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    // Résultat d'une jambe : corps, ou motif de l'échec
+    private record Leg(JsonNode body, String error, boolean notFound) {
+
+        static final Leg EMPTY = new Leg(null, null, false);
+    }
+
+    public Mono<ConferenceDetailDTO> getConferenceDetail(Long id) {
+        Mono<Leg> conference = leg(CONFERENCE_SERVICE, "/api/conferences/" + id,
+                properties.conferenceTimeout()).cache();
+        Mono<Leg> reviews = leg(CONFERENCE_SERVICE, "/api/conferences/" + id + "/reviews",
+                properties.reviewsTimeout());
+        Mono<Leg> keynote = conference.flatMap(leg -> {
+            JsonNode keynoteId = leg.body() == null ? null : leg.body().get("keynoteId");
+            if (keynoteId == null || !keynoteId.canConvertToLong()) return Mono.just(Leg.EMPTY);
+            return leg(KEYNOTE_SERVICE, "/api/keynotes/" + keynoteId.asLong(), properties.keynoteTimeout());
+        });
+
+        return Mono.zip(conference, reviews, keynote).map(legs -> {
+            if (legs.getT1().notFound()) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Conference not found with id: " + id);
+            }
+            Map<String, String> errors = new LinkedHashMap<>();
+            if (legs.getT1().error() != null) errors.put("conference", legs.getT1().error());
+            if (legs.getT2().error() != null) errors.put("reviews", legs.getT2().error());
+            if (legs.getT3().error() != null) errors.put("keynote", legs.getT3().error());
+            return new ConferenceDetailDTO(legs.getT1().body(), legs.getT3().body(), legs.getT2().body(), errors);
+        });
+    }
+
+    private Mono<Leg> leg(String serviceId, String path, Duration timeout) {
+        return reads.get(serviceId, "/" + serviceId + path, LEG_HEADERS, () -> webClient.get()
+                        .uri("http://" + serviceId + path)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .retrieve()
+                        .toEntity(byte[].class))
+                .timeout(timeout)
+                .map(body -> new Leg(parse(body), null, false))
+                .defaultIfEmpty(Leg.EMPTY)
+                .onErrorResume(e -> Mono.just(failed(e, timeout)));
+    }
+
+    private JsonNode parse(byte[] body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static HttpHeaders jsonAccept() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        return headers;
+    }
+
+    private static Leg failed(Throwable e, Duration timeout) {
+        if (e instanceof WebClientResponseException response) {
+            boolean notFound = response.getStatusCode().value() == HttpStatus.NOT_FOUND.value();
+            return new Leg(null, "HTTP " + response.getStatusCode().value(), notFound);
+        }
+        if (e instanceof TimeoutException) {
+            return new Leg(null, "timeout after " + timeout.toMillis() + " ms", false);
+        }
+        return new Leg(null, e.getClass().getSimpleName(), false);
+    }
+}
@@ -0,0 +1,28 @@
+package ma.enset.gatewayservice.aggregation;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Endpoint propre à la gateway (hors routes découvertes /{service}/**) : une requête par page
+ * de détail. 404 si la conférence n'existe pas ; sinon 200, éventuellement partiel. Limité
+ * comme les routes par {@link ConferenceDetailRateLimitFilter}.
+ */
+@RestController
+@RequestMapping("/api/conference-details")
+public class ConferenceDetailController {
+
+    private final ConferenceDetailAggregator aggregator;
+
+    public ConferenceDetailController(ConferenceDetailAggregator aggregator) {
+        this.aggregator = aggregator;
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ConferenceDetailDTO> getConferenceDetail(@PathVariable Long id) {
+        return aggregator.getConferenceDetail(id);
+    }
+}
@@ -0,0 +1,17 @@
+package ma.enset.gatewayservice.aggregation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Map;
+
+/**
+ * Page de détail d'une conférence en une réponse. Les corps des services sont repris tels quels ;
+ * une jambe en échec vaut null et son motif figure dans {@code errors} (clé = nom de la jambe).
+ */
+public record ConferenceDetailDTO(JsonNode conference, JsonNode keynote, JsonNode reviews,
+                                  Map<String, String> errors) {
+
+    public boolean isPartial() {
+        return !errors.isEmpty();
+    }
+}
@@ -0,0 +1,40 @@
+package ma.enset.gatewayservice.aggregation;
+
+import ma.enset.gatewayservice.ratelimit.RateLimitFilter;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * L'agrégation est un contrôleur, hors des GlobalFilter des routes découvertes : ce WebFilter
+ * lui applique les mêmes seaux, un jeton de lecture sur chaque service sollicité, pris
+ * ensemble : un refus sur l'un rend le jeton déjà pris sur l'autre. Un client n'obtient donc
+ * pas plus de la page de détail que de ses trois appels séparés.
+ */
+@Component
+public class ConferenceDetailRateLimitFilter implements WebFilter {
+
+    private static final String PATH_PREFIX = "/api/conference-details/";
+
+    private final RateLimitFilter rateLimitFilter;
+
+    public ConferenceDetailRateLimitFilter(RateLimitFilter rateLimitFilter) {
+        this.rateLimitFilter = rateLimitFilter;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (exchange.getRequest().getMethod() != HttpMethod.GET
+                || !exchange.getRequest().getPath().value().startsWith(PATH_PREFIX)) {
+            return chain.filter(exchange);
+        }
+        return rateLimitFilter.limit(exchange,
+                List.of(ConferenceDetailAggregator.CONFERENCE_SERVICE, ConferenceDetailAggregator.KEYNOTE_SERVICE),
+                false, () -> chain.filter(exchange));
+    }
+}
@@ -0,0 +1,41 @@
+package ma.enset.gatewayservice.cache;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import reactor.core.publisher.Flux;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * Laisse passer un corps de réponse tel quel en en gardant une copie, sans retenir les buffers
+ * avant l'envoi. La copie est abandonnée dès que {@code limit} est dépassé.
+ */
+final class BodyTee {
+
+    private BodyTee() {
+    }
+
+    /**
+     * @param onComplete reçoit le corps complet à la fin du flux, ou null s'il dépassait la limite
+     */
+    static Flux<DataBuffer> tee(Publisher<? extends DataBuffer> body, long limit, Consumer<byte[]> onComplete) {
+        ByteArrayOutputStream copy = new ByteArrayOutputStream();
+        boolean[] overflow = {false};
+        return Flux.<DataBuffer>from(body)
+                .doOnNext(buffer -> {
+                    if (overflow[0]) return;
+                    int length = buffer.readableByteCount();
+                    if (copy.size() + (long) length > limit) {
+                        overflow[0] = true;
+                        copy.reset();
+                        return;
+                    }
+                    byte[] bytes = new byte[length];
+                    buffer.toByteBuffer(buffer.readPosition(), ByteBuffer.wrap(bytes), 0, length);
+                    copy.writeBytes(bytes);
+                })
+                .doOnComplete(() -> onComplete.accept(overflow[0] ? null : copy.toByteArray()));
+    }
+}
@@ -0,0 +1,100 @@
+package ma.enset.gatewayservice.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Lectures amont émises par la gateway elle-même (agrégation), qui ne traversent pas les
+ * GlobalFilter : même stockage, mêmes clés et mêmes règles que {@link ResponseCacheFilter}
+ * (une écriture routée invalide donc aussi ces entrées), et même single-flight que
+ * {@link RequestCoalescingFilter} selon {@code gateway.coalescing.routes}.
+ */
+@Component
+public class CachedReads {
+
+    private final ResponseCache cache;
+    private final ResponseCacheProperties cacheProperties;
+    private final CoalescingProperties coalescingProperties;
+    private final MeterRegistry meterRegistry;
+    private final Map<ResponseCache.Key, Sinks.One<byte[]>> flights = new ConcurrentHashMap<>();
+
+    public CachedReads(ResponseCache cache, ResponseCacheProperties cacheProperties,
+                       CoalescingProperties coalescingProperties, MeterRegistry meterRegistry) {
+        this.cache = cache;
+        this.cacheProperties = cacheProperties;
+        this.coalescingProperties = coalescingProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Corps d'un GET sur {@code path} (chemin gateway, /{service}/api/...). {@code upstream}
+     * n'est appelé qu'en l'absence d'entrée en cache et de requête identique en cours ; ses
+     * erreurs (statut 4xx/5xx compris) sont propagées telles quelles.
+     */
+    public Mono<byte[]> get(String serviceId, String path, HttpHeaders requestHeaders,
+                            Supplier<Mono<ResponseEntity<byte[]>>> upstream) {
+        // Cache et vol en cours consultés à l'abonnement, pas à l'assemblage
+        return Mono.defer(() -> read(serviceId, path, requestHeaders, upstream));
+    }
+
+    private Mono<byte[]> read(String serviceId, String path, HttpHeaders requestHeaders,
+                              Supplier<Mono<ResponseEntity<byte[]>>> upstream) {
+        ResponseCache.Key key = cache.keyOf(serviceId, path, null, requestHeaders);
+        boolean cacheable = cache.isCacheable(serviceId, path);
+        if (cacheable) {
+            CachedResponse cached = cache.get(key);
+            if (cached != null) return Mono.just(cached.body());
+        }
+        ResponseCache.Generation generation = cache.generationOf(key);
+
+        Mono<byte[]> fetch = Mono.defer(upstream)
+                .doOnNext(entity -> {
+                    if (cacheable && entity.getBody() != null && entity.getBody().length <= cache.maxEntryBytes()
+                            && ResponseCache.isStorable(entity.getStatusCode(), entity.getHeaders())) {
+                        Duration ttl = ResponseCache.effectiveTtl(entity.getHeaders(), cacheProperties.ttlFor(serviceId));
+                        cache.put(key, CachedResponse.of(entity.getStatusCode(), entity.getHeaders(), entity.getBody(), ttl),
+                                generation);
+                    }
+                })
+                .mapNotNull(ResponseEntity::getBody);
+        if (!coalescingProperties.isCoalesced(serviceId, path)) return fetch;
+
+        Sinks.One<byte[]> flight = Sinks.one();
+        Sinks.One<byte[]> current = flights.putIfAbsent(key, flight);
+        if (current != null) return follow(serviceId, current, fetch);
+
+        meterRegistry.counter("gateway.coalescing.requests", "service", serviceId, "role", "leader").increment();
+        return fetch
+                .doOnNext(flight::tryEmitValue)
+                .doFinally(signal -> {
+                    flights.remove(key, flight);
+                    flight.tryEmitEmpty();
+                });
+    }
+
+    // Meneur en échec, annulé ou trop lent : le suiveur repart avec sa propre requête
+    private Mono<byte[]> follow(String serviceId, Sinks.One<byte[]> flight, Mono<byte[]> fetch) {
+        return flight.asMono()
+                .timeout(coalescingProperties.maxWait(), Mono.empty())
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(shared -> {
+                    if (shared.isEmpty()) {
+                        meterRegistry.counter("gateway.coalescing.requests", "service", serviceId, "role", "fallback").increment();
+                        return fetch;
+                    }
+                    meterRegistry.counter("gateway.coalescing.requests", "service", serviceId, "role", "follower").increment();
+                    return Mono.just(shared.get());
+                });
+    }
+}
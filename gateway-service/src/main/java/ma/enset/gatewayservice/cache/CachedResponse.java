@@ -0,0 +1,48 @@
+package ma.enset.gatewayservice.cache;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Réponse amont figée : statut, en-têtes (sans hop-by-hop ni CORS) et corps complet.
+ * Partagée par le cache et par la coalescence des requêtes identiques.
+ */
+record CachedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body, long storedAtNanos, Duration ttl) {
+
+    // Hop-by-hop, recalculés, ou posés par le CorsWebFilter de la gateway pour chaque requête
+    private static final Set<String> NOT_STORED = Set.of(
+            "transfer-encoding", "connection", "keep-alive", "content-length", "date", "vary", "x-cache");
+
+    static CachedResponse of(HttpStatusCode status, HttpHeaders source, byte[] body, Duration ttl) {
+        HttpHeaders copy = new HttpHeaders();
+        source.forEach((name, values) -> {
+            String lower = name.toLowerCase(Locale.ROOT);
+            if (!NOT_STORED.contains(lower) && !lower.startsWith("access-control-")) {
+                copy.put(name, List.copyOf(values));
+            }
+        });
+        return new CachedResponse(status, HttpHeaders.readOnlyHttpHeaders(copy), body, System.nanoTime(), ttl);
+    }
+
+    long ageSeconds() {
+        return Duration.ofNanos(System.nanoTime() - storedAtNanos).toSeconds();
+    }
+
+    String etag() {
+        return headers.getETag();
+    }
+
+    Mono<Void> writeTo(ServerHttpResponse response) {
+        response.setStatusCode(status);
+        response.getHeaders().putAll(headers);
+        response.getHeaders().setContentLength(body.length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+}
@@ -0,0 +1,48 @@
+package ma.enset.gatewayservice.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Coalescence des GET identiques simultanés. Désactivée tant qu'un service n'est pas déclaré
+ * dans {@code routes.<service-id>} ; {@code paths} (motifs Ant, chemin gateway) restreint
+ * les chemins concernés, vide = tous les GET du service.
+ */
+@ConfigurationProperties("gateway.coalescing")
+public record CoalescingProperties(
+        @DefaultValue("true") boolean enabled,
+        // Attente maximale d'un suiveur ; au-delà il envoie sa propre requête au backend
+        @DefaultValue("2s") Duration maxWait,
+        // Au-delà, la réponse du meneur n'est pas partagée et les suiveurs repartent seuls
+        @DefaultValue("1MB") DataSize maxBodySize,
+        Map<String, Route> routes) {
+
+    private static final AntPathMatcher MATCHER = new AntPathMatcher();
+
+    public CoalescingProperties {
+        routes = routes == null ? Map.of() : Map.copyOf(routes);
+    }
+
+    public record Route(@DefaultValue("true") boolean enabled, List<String> paths) {
+
+        public Route {
+            paths = paths == null ? List.of() : List.copyOf(paths);
+        }
+    }
+
+    public boolean isCoalesced(String serviceId, String path) {
+        Route route = routes.get(serviceId);
+        if (!enabled || route == null || !route.enabled()) return false;
+        if (route.paths().isEmpty()) return true;
+        for (String pattern : route.paths()) {
+            if (MATCHER.match(pattern, path)) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,167 @@
+package ma.enset.gatewayservice.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Single-flight : parmi des GET identiques (même clé que le cache) arrivés pendant qu'une
+ * requête est en cours vers le backend, seule la première (le meneur) part en amont ; les
+ * suivantes attendent sa réponse, au plus {@code max-wait}, puis la reçoivent telle quelle
+ * (X-Coalesced: true). Si le meneur échoue, est annulé, refusé par le limiteur ou renvoie un
+ * corps non partageable, les suiveurs envoient chacun leur propre requête.
+ */
+@Component
+public class RequestCoalescingFilter implements GlobalFilter, Ordered {
+
+    // Après le cache (un HIT ne coalesce rien), avant le limiteur : un suiveur ne coûte pas de jeton
+    public static final int ORDER = ResponseCacheFilter.ORDER + 25;
+
+    private final ResponseCache cache;
+    private final CoalescingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<ResponseCache.Key, Flight> flights = new ConcurrentHashMap<>();
+
+    public RequestCoalescingFilter(ResponseCache cache, CoalescingProperties properties, MeterRegistry meterRegistry) {
+        this.cache = cache;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("gateway.coalescing.inflight", flights, Map::size)
+                .description("Requêtes meneuses en cours, chacune pouvant servir plusieurs suiveurs")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    /** Réponse du meneur, publiée une seule fois : valeur partagée, ou vide si non partageable. */
+    private static final class Flight {
+
+        private final Sinks.One<CachedResponse> result = Sinks.one();
+
+        void publish(CachedResponse response) {
+            result.tryEmitValue(response);
+        }
+
+        void abandon() {
+            result.tryEmitEmpty();
+        }
+
+        Mono<CachedResponse> result() {
+            return result.asMono();
+        }
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (!properties.enabled() || route == null || route.getUri().getHost() == null
+                || exchange.getRequest().getMethod() != HttpMethod.GET) {
+            return chain.filter(exchange);
+        }
+        String serviceId = route.getUri().getHost().toLowerCase(Locale.ROOT);
+        if (!properties.isCoalesced(serviceId, exchange.getRequest().getPath().value())) {
+            return chain.filter(exchange);
+        }
+
+        ResponseCache.Key key = cache.keyOf(serviceId, exchange.getRequest());
+        Flight flight = new Flight();
+        Flight current = flights.putIfAbsent(key, flight);
+        if (current != null) {
+            return follow(exchange, chain, serviceId, current);
+        }
+
+        meterRegistry.counter("gateway.coalescing.requests", "service", serviceId, "role", "leader").increment();
+        LeaderResponse response = new LeaderResponse(exchange.getResponse(), key, flight);
+        return chain.filter(exchange.mutate().response(response).build())
+                .doFinally(signal -> {
+                    flights.remove(key, flight);
+                    flight.abandon();
+                });
+    }
+
+    private Mono<Void> follow(ServerWebExchange exchange, GatewayFilterChain chain, String serviceId, Flight flight) {
+        Duration maxWait = properties.maxWait();
+        return flight.result()
+                .timeout(maxWait, Mono.empty())
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(shared -> {
+                    if (shared.isEmpty()) {
+                        meterRegistry.counter("gateway.coalescing.requests", "service", serviceId, "role", "fallback").increment();
+                        return chain.filter(exchange);
+                    }
+                    meterRegistry.counter("gateway.coalescing.requests", "service", serviceId, "role", "follower").increment();
+                    ServerHttpResponse response = exchange.getResponse();
+                    response.getHeaders().set("X-Coalesced", "true");
+                    return shared.get().writeTo(response);
+                });
+    }
+
+    /**
+     * Un 304 répond aux en-têtes conditionnels du meneur seul, et un Set-Cookie ou un flux
+     * (NDJSON, SSE) ne se rejouent pas : dans ces cas les suiveurs repartent seuls.
+     */
+    private static boolean isShareable(HttpStatusCode status, HttpHeaders headers) {
+        if (status == null || status.value() == HttpStatus.NOT_MODIFIED.value()) return false;
+        if (headers.containsKey(HttpHeaders.SET_COOKIE)) return false;
+        MediaType contentType = headers.getContentType();
+        return contentType == null || (!contentType.isCompatibleWith(MediaType.TEXT_EVENT_STREAM)
+                && !contentType.isCompatibleWith(MediaType.APPLICATION_NDJSON));
+    }
+
+    private class LeaderResponse extends ServerHttpResponseDecorator {
+
+        private final ResponseCache.Key key;
+        private final Flight flight;
+
+        LeaderResponse(ServerHttpResponse delegate, ResponseCache.Key key, Flight flight) {
+            super(delegate);
+            this.key = key;
+            this.flight = flight;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            if (!isShareable(getStatusCode(), getHeaders())) {
+                flights.remove(key, flight);
+                flight.abandon();
+                return super.writeWith(body);
+            }
+            return super.writeWith(BodyTee.tee(body, properties.maxBodySize().toBytes(), bytes -> {
+                // Retirée avant publication : une requête arrivant maintenant repart du backend
+                flights.remove(key, flight);
+                if (bytes == null) {
+                    flight.abandon();
+                } else {
+                    flight.publish(CachedResponse.of(getStatusCode(), getHeaders(), bytes, Duration.ZERO));
+                }
+            }));
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package ma.enset.gatewayservice.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Stockage des réponses GET, borné en octets (somme des corps) avec un TTL par entrée.
+ * L'invalidation se fait par collection : une écriture sur /{service}/api/{collection}/...
+ * périme toutes les entrées de cette collection, listes, détails et statistiques compris.
+ *
+ * Chaque entrée porte la génération de sa collection et de son service relevée au départ de la
+ * lecture amont ; invalider incrémente ces compteurs (O(1), sans parcourir les clés) et une
+ * entrée d'une génération dépassée n'est plus servie. Une lecture partie avant une écriture et
+ * terminée après ne peut donc pas remettre l'ancien état en cache.
+ */
+@Component
+public class ResponseCache {
+
+    private static final String NAME = "gateway-responses";
+    // Clé + en-têtes : évite qu'une foule de petites réponses passe sous la borne en octets
+    private static final int ENTRY_OVERHEAD = 512;
+    private static final List<MediaType> STREAMING = List.of(
+            MediaType.TEXT_EVENT_STREAM, MediaType.APPLICATION_NDJSON);
+
+    private final ResponseCacheProperties properties;
+    private final Cache<Key, Entry> cache;
+    private final AntPathMatcher matcher = new AntPathMatcher();
+    private final Map<String, AtomicLong> serviceGenerations = new ConcurrentHashMap<>();
+    private final Map<Scope, AtomicLong> collectionGenerations = new ConcurrentHashMap<>();
+    private final Counter bytesServed;
+    private final Counter bytesStored;
+
+    @Autowired
+    public ResponseCache(ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Ticker.systemTicker());
+    }
+
+    // Horloge injectable : les tests font expirer les entrées sans attendre
+    ResponseCache(ResponseCacheProperties properties, MeterRegistry meterRegistry, Ticker ticker) {
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.maxSize().toBytes())
+                .weigher((Key key, Entry entry) -> entry.response().body().length + ENTRY_OVERHEAD)
+                .expireAfter(new Expiry<Key, Entry>() {
+                    @Override
+                    public long expireAfterCreate(Key key, Entry entry, long currentTime) {
+                        return entry.response().ttl().toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Key key, Entry entry, long currentTime, long currentDuration) {
+                        return entry.response().ttl().toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(Key key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .ticker(ticker)
+                .recordStats()
+                .build();
+
+        // cache.gets{result=hit|miss}, cache.evictions... : le hit ratio se lit dans /actuator/metrics
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, NAME);
+        Gauge.builder("gateway.response.cache.size", cache,
+                        c -> c.policy().eviction().map(e -> e.weightedSize().orElse(0)).orElse(0L))
+                .description("Octets occupés par le cache de réponses (corps + surcoût estimé)")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        bytesServed = Counter.builder("gateway.response.cache.bytes")
+                .description("Octets de corps servis depuis le cache ou copiés dans le cache")
+                .baseUnit("bytes").tag("operation", "served")
+                .register(meterRegistry);
+        bytesStored = Counter.builder("gateway.response.cache.bytes")
+                .description("Octets de corps servis depuis le cache ou copiés dans le cache")
+                .baseUnit("bytes").tag("operation", "stored")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Clé : service, chemin, requête (paramètres triés) et valeurs des en-têtes qui font varier
+     * la réponse. Authorization en fait partie : deux utilisateurs ne partagent jamais une entrée.
+     */
+    record Key(String serviceId, String path, String query, String vary) {
+    }
+
+    // Collection d'un service : unité d'invalidation d'une écriture
+    private record Scope(String serviceId, String collection) {
+    }
+
+    /** Générations du service et de la collection d'une clé, relevées avant la lecture amont. */
+    record Generation(long service, long collection) {
+    }
+
+    private record Entry(CachedResponse response, Generation generation) {
+    }
+
+    Key keyOf(String serviceId, ServerHttpRequest request) {
+        return keyOf(serviceId, request.getPath().value(), request.getURI().getRawQuery(), request.getHeaders());
+    }
+
+    // Même clé pour une lecture émise par la gateway elle-même (chemin gateway /{service}/...)
+    Key keyOf(String serviceId, String path, String rawQuery, HttpHeaders headers) {
+        String query = rawQuery == null ? "" : Arrays.stream(rawQuery.split("&")).sorted()
+                .collect(Collectors.joining("&"));
+        String vary = properties.varyHeaders().stream()
+                .map(name -> name.toLowerCase(Locale.ROOT) + "=" + String.join(",", headers.getOrEmpty(name)))
+                .collect(Collectors.joining("\n"));
+        return new Key(serviceId, path, query, vary);
+    }
+
+    boolean isCacheable(String serviceId, String path) {
+        if (!properties.enabledFor(serviceId)) return false;
+        for (String pattern : properties.excludedPaths()) {
+            if (matcher.match(pattern, path)) return false;
+        }
+        return true;
+    }
+
+    Generation generationOf(Key key) {
+        return new Generation(counter(serviceGenerations, key.serviceId()).get(),
+                counter(collectionGenerations, scopeOf(key)).get());
+    }
+
+    CachedResponse get(Key key) {
+        Entry entry = cache.getIfPresent(key);
+        if (entry == null) return null;
+        if (!entry.generation().equals(generationOf(key))) {
+            // Périmée par une écriture : retirée au passage, la place revient aux entrées valides
+            cache.asMap().remove(key, entry);
+            return null;
+        }
+        bytesServed.increment(entry.response().body().length);
+        return entry.response();
+    }
+
+    /**
+     * @param generation relevée par {@link #generationOf} avant d'envoyer la lecture amont ;
+     *                   une écriture survenue depuis rend la réponse inutile à conserver
+     */
+    void put(Key key, CachedResponse response, Generation generation) {
+        if (!generation.equals(generationOf(key))) return;
+        cache.put(key, new Entry(response, generation));
+        bytesStored.increment(response.body().length);
+    }
+
+    long maxEntryBytes() {
+        return properties.maxEntrySize().toBytes();
+    }
+
+    static boolean isStorable(HttpStatusCode status, HttpHeaders headers) {
+        if (status == null || status.value() != HttpStatus.OK.value()) return false;
+        if (headers.containsKey(HttpHeaders.SET_COOKIE)) return false;
+        MediaType contentType = headers.getContentType();
+        if (contentType != null && STREAMING.stream().anyMatch(contentType::isCompatibleWith)) return false;
+        String cacheControl = headers.getCacheControl();
+        if (cacheControl == null) return true;
+        String directives = cacheControl.toLowerCase(Locale.ROOT);
+        return !directives.contains("no-store") && !directives.contains("no-cache") && !directives.contains("private");
+    }
+
+    // max-age amont plus court que le TTL configuré : on le respecte
+    static Duration effectiveTtl(HttpHeaders headers, Duration configured) {
+        String cacheControl = headers.getCacheControl();
+        if (cacheControl == null) return configured;
+        for (String directive : cacheControl.split(",")) {
+            String d = directive.trim().toLowerCase(Locale.ROOT);
+            if (d.startsWith("max-age=")) {
+                try {
+                    Duration maxAge = Duration.ofSeconds(Long.parseLong(d.substring("max-age=".length())));
+                    return maxAge.compareTo(configured) < 0 ? maxAge : configured;
+                } catch (NumberFormatException e) {
+                    return configured;
+                }
+            }
+        }
+        return configured;
+    }
+
+    /**
+     * Périme les entrées de la collection touchée par une écriture, puis toutes celles des
+     * services déclarés dépendants ({@code routes.<id>.invalidates}). Les entrées périmées
+     * restent en mémoire jusqu'à leur prochaine lecture, leur TTL ou l'éviction par taille.
+     */
+    void invalidate(String serviceId, String path) {
+        counter(collectionGenerations, new Scope(serviceId, collectionOf(path))).incrementAndGet();
+        for (String dependent : properties.invalidatesFor(serviceId)) {
+            counter(serviceGenerations, dependent).incrementAndGet();
+        }
+    }
+
+    private static <K> AtomicLong counter(Map<K, AtomicLong> generations, K key) {
+        return generations.computeIfAbsent(key, k -> new AtomicLong());
+    }
+
+    private static Scope scopeOf(Key key) {
+        return new Scope(key.serviceId(), collectionOf(key.path()));
+    }
+
+    // /conference-service/api/conferences/5/reviews -> /conference-service/api/conferences
+    static String collectionOf(String path) {
+        int segments = 0;
+        for (int i = 1; i < path.length(); i++) {
+            if (path.charAt(i) == '/' && ++segments == 3) return path.substring(0, i);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,136 @@
+package ma.enset.gatewayservice.cache;
+
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Cache de réponses devant les routes découvertes ({@code lb://<service>}).
+ * <ul>
+ *   <li>GET : servi depuis le cache si présent (X-Cache: HIT, 304 si If-None-Match correspond),
+ *       sinon la réponse amont est copiée au fil de l'eau, sans être retenue avant l'envoi ;</li>
+ *   <li>POST/PUT/PATCH/DELETE : invalide la collection au départ, puis à la fin de l'écriture ;
+ *       une lecture concurrente, partie sur une génération antérieure, n'est pas conservée.</li>
+ * </ul>
+ * Seules les réponses 200 sans no-store/no-cache/private ni Set-Cookie sont conservées : les
+ * détails versionnés (ETag + no-cache) restent revalidés par le backend.
+ */
+@Component
+public class ResponseCacheFilter implements GlobalFilter, Ordered {
+
+    // Avant RewritePath (clé sur le chemin gateway) et avant le choix d'instance lb://
+    public static final int ORDER = -100;
+
+    private static final String X_CACHE = "X-Cache";
+    private static final Set<String> WRITES = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final ResponseCache cache;
+    private final ResponseCacheProperties properties;
+
+    public ResponseCacheFilter(ResponseCache cache, ResponseCacheProperties properties) {
+        this.cache = cache;
+        this.properties = properties;
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (route == null || route.getUri().getHost() == null) return chain.filter(exchange);
+
+        // Eureka publie les ids en majuscules, la configuration les écrit en minuscules
+        String serviceId = route.getUri().getHost().toLowerCase(Locale.ROOT);
+        ServerHttpRequest request = exchange.getRequest();
+        String path = request.getPath().value();
+
+        if (WRITES.contains(request.getMethod().name())) {
+            cache.invalidate(serviceId, path);
+            return chain.filter(exchange).doFinally(signal -> cache.invalidate(serviceId, path));
+        }
+        if (request.getMethod() != HttpMethod.GET || !cache.isCacheable(serviceId, path)) {
+            return chain.filter(exchange);
+        }
+
+        ResponseCache.Key key = cache.keyOf(serviceId, request);
+        CachedResponse cached = cache.get(key);
+        if (cached != null) {
+            return writeCached(exchange, cached);
+        }
+
+        exchange.getResponse().getHeaders().set(X_CACHE, "MISS");
+        Duration ttl = properties.ttlFor(serviceId);
+        ResponseCache.Generation generation = cache.generationOf(key);
+        return chain.filter(exchange.mutate()
+                .response(new CapturingResponse(exchange.getResponse(), key, generation, ttl)).build());
+    }
+
+    private Mono<Void> writeCached(ServerWebExchange exchange, CachedResponse cached) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        headers.set(X_CACHE, "HIT");
+        headers.set(HttpHeaders.AGE, Long.toString(cached.ageSeconds()));
+
+        String etag = cached.etag();
+        if (etag != null && exchange.getRequest().getHeaders().getIfNoneMatch().contains(etag)) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            headers.setETag(etag);
+            return response.setComplete();
+        }
+
+        return cached.writeTo(response);
+    }
+
+    /**
+     * Copie le corps au passage ({@link BodyTee}) ; l'entrée n'est enregistrée qu'à la fin
+     * complète du flux et si max-entry-size n'est pas dépassé.
+     */
+    private class CapturingResponse extends ServerHttpResponseDecorator {
+
+        private final ResponseCache.Key key;
+        private final ResponseCache.Generation generation;
+        private final Duration ttl;
+
+        CapturingResponse(ServerHttpResponse delegate, ResponseCache.Key key, ResponseCache.Generation generation,
+                          Duration ttl) {
+            super(delegate);
+            this.key = key;
+            this.generation = generation;
+            this.ttl = ttl;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            if (!ResponseCache.isStorable(getStatusCode(), getHeaders())) return super.writeWith(body);
+
+            Flux<DataBuffer> tee = BodyTee.tee(body, cache.maxEntryBytes(), bytes -> {
+                if (bytes == null) return;
+                HttpHeaders headers = getHeaders();
+                cache.put(key, CachedResponse.of(getStatusCode(), headers, bytes, ResponseCache.effectiveTtl(headers, ttl)),
+                        generation);
+            });
+            return super.writeWith(tee);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package ma.enset.gatewayservice.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache de réponses GET de la gateway. Les valeurs globales s'appliquent à toutes les routes
+ * découvertes ; {@code routes.<service-id>.*} les surcharge pour un service donné.
+ */
+@ConfigurationProperties("gateway.response-cache")
+public record ResponseCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("5s") Duration ttl,
+        // Borne globale sur la somme des corps mis en cache
+        @DefaultValue("32MB") DataSize maxSize,
+        // Au-delà, la réponse traverse la gateway sans être copiée
+        @DefaultValue("512KB") DataSize maxEntrySize,
+        // En-têtes de requête qui font varier la réponse, donc partie de la clé
+        @DefaultValue({"Accept", "Accept-Encoding", "Accept-Language", "Authorization"}) List<String> varyHeaders,
+        // Motifs Ant (chemin gateway) jamais mis en cache : flux et exports
+        @DefaultValue({"/*/api/**/export/**", "/*/api/keynotes/outbox"}) List<String> excludedPaths,
+        Map<String, Route> routes) {
+
+    public ResponseCacheProperties {
+        routes = routes == null ? Map.of() : Map.copyOf(routes);
+    }
+
+    /**
+     * Surcharge par service ; {@code invalidates} liste les services dont les réponses
+     * embarquent celles de ce service (une écriture keynote périme les /full de conference).
+     */
+    public record Route(Boolean enabled, Duration ttl, List<String> invalidates) {
+
+        public Route {
+            invalidates = invalidates == null ? List.of() : List.copyOf(invalidates);
+        }
+    }
+
+    public boolean enabledFor(String serviceId) {
+        Route route = routes.get(serviceId);
+        return enabled && (route == null || route.enabled() == null || route.enabled());
+    }
+
+    public Duration ttlFor(String serviceId) {
+        Route route = routes.get(serviceId);
+        return route == null || route.ttl() == null ? ttl : route.ttl();
+    }
+
+    public List<String> invalidatesFor(String serviceId) {
+        Route route = routes.get(serviceId);
+        return route == null ? List.of() : route.invalidates();
+    }
+}
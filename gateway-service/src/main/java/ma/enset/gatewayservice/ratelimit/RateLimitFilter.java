@@ -0,0 +1,100 @@
+package ma.enset.gatewayservice.ratelimit;
+
+import ma.enset.gatewayservice.cache.ResponseCacheFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.cloud.gateway.support.ipresolver.RemoteAddressResolver;
+import org.springframework.cloud.gateway.support.ipresolver.XForwardedRemoteAddressResolver;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Applique {@link RateLimiter} aux routes découvertes ; au-delà, 429 + Retry-After sans
+ * contacter le backend. GET/HEAD/OPTIONS consomment les seaux de lecture, le reste ceux
+ * d'écriture.
+ */
+@Component
+public class RateLimitFilter implements GlobalFilter, Ordered {
+
+    // Après le cache : une réponse servie par la gateway ne coûte rien au backend
+    public static final int ORDER = ResponseCacheFilter.ORDER + 50;
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final RemoteAddressResolver addressResolver;
+
+    public RateLimitFilter(RateLimiter rateLimiter, RateLimitProperties properties) {
+        this.rateLimiter = rateLimiter;
+        this.properties = properties;
+        this.addressResolver = properties.trustedProxies() > 0
+                ? XForwardedRemoteAddressResolver.maxTrustedIndex(properties.trustedProxies())
+                : new RemoteAddressResolver() { };
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (!properties.enabled() || route == null || route.getUri().getHost() == null) {
+            return chain.filter(exchange);
+        }
+
+        String serviceId = route.getUri().getHost().toLowerCase(Locale.ROOT);
+        HttpMethod method = exchange.getRequest().getMethod();
+        boolean write = method != HttpMethod.GET && method != HttpMethod.HEAD && method != HttpMethod.OPTIONS;
+        return limit(exchange, serviceId, write, () -> chain.filter(exchange));
+    }
+
+    /**
+     * Consomme un jeton de {@code serviceId} pour le client de l'échange, puis poursuit avec
+     * {@code next} ; sinon 429.
+     */
+    public Mono<Void> limit(ServerWebExchange exchange, String serviceId, boolean write, Supplier<Mono<Void>> next) {
+        return limit(exchange, List.of(serviceId), write, next);
+    }
+
+    /**
+     * Un jeton sur chacun des {@code serviceIds}, tous ou aucun. Sert aux endpoints propres à
+     * la gateway (agrégation), qui appellent plusieurs services sans passer par les GlobalFilter.
+     */
+    public Mono<Void> limit(ServerWebExchange exchange, List<String> serviceIds, boolean write, Supplier<Mono<Void>> next) {
+        if (!properties.enabled()) return next.get();
+        RateLimiter.Decision decision = serviceIds.size() == 1
+                ? rateLimiter.tryAcquire(serviceIds.get(0), write, clientOf(exchange))
+                : rateLimiter.tryAcquire(serviceIds, write, clientOf(exchange));
+        if (decision.allowed()) {
+            return next.get();
+        }
+
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        long seconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(decision.retryAfterNanos() + 999_999_999L));
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+        response.getHeaders().set("X-RateLimit-Scope", decision.rejectedBy().name().toLowerCase(Locale.ROOT));
+        return response.setComplete();
+    }
+
+    private String clientOf(ServerWebExchange exchange) {
+        InetSocketAddress address = addressResolver.resolve(exchange);
+        if (address == null) return "unknown";
+        return address.getAddress() != null ? address.getAddress().getHostAddress() : address.getHostString();
+    }
+}
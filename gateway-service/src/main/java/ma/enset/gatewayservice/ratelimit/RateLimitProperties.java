@@ -0,0 +1,66 @@
+package ma.enset.gatewayservice.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Limitation de débit locale (pas de Redis : chaque instance de gateway a ses propres seaux).
+ * Deux seaux par requête : celui du client (IP) sur la route, puis celui de la route entière,
+ * qui protège le pool de threads du backend quel que soit le nombre de clients.
+ * {@code routes.<service-id>.*} surcharge {@code defaults.*} limite par limite.
+ */
+@ConfigurationProperties("gateway.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        // Proxys de confiance devant la gateway : 0 = adresse TCP, n = n-ième adresse de X-Forwarded-For
+        @DefaultValue("0") int trustedProxies,
+        // Fréquence de purge des seaux clients pleins (donc équivalents à un seau neuf)
+        @DefaultValue("30s") Duration sweepInterval,
+        Limits defaults,
+        Map<String, Limits> routes) {
+
+    static final Limit CLIENT_READ = new Limit(100, 50);
+    static final Limit CLIENT_WRITE = new Limit(20, 5);
+    static final Limit ROUTE_READ = new Limit(2000, 1000);
+    static final Limit ROUTE_WRITE = new Limit(400, 200);
+
+    public RateLimitProperties {
+        defaults = defaults == null ? new Limits(null, null, null, null) : defaults;
+        routes = routes == null ? Map.of() : Map.copyOf(routes);
+    }
+
+    /** Rafale maximale et jetons rendus par seconde. */
+    public record Limit(long capacity, double refillPerSecond) {
+
+        // Vérifié au démarrage plutôt qu'à la création du premier seau
+        public Limit {
+            if (capacity <= 0 || refillPerSecond <= 0) {
+                throw new IllegalArgumentException("capacity et refill-per-second doivent être > 0");
+            }
+        }
+    }
+
+    public record Limits(Limit clientRead, Limit clientWrite, Limit routeRead, Limit routeWrite) {
+    }
+
+    public Limit clientLimit(String serviceId, boolean write) {
+        Limits route = routes.get(serviceId);
+        Limit override = route == null ? null : write ? route.clientWrite() : route.clientRead();
+        Limit fallback = write ? defaults.clientWrite() : defaults.clientRead();
+        return firstNonNull(override, fallback, write ? CLIENT_WRITE : CLIENT_READ);
+    }
+
+    public Limit routeLimit(String serviceId, boolean write) {
+        Limits route = routes.get(serviceId);
+        Limit override = route == null ? null : write ? route.routeWrite() : route.routeRead();
+        Limit fallback = write ? defaults.routeWrite() : defaults.routeRead();
+        return firstNonNull(override, fallback, write ? ROUTE_WRITE : ROUTE_READ);
+    }
+
+    private static Limit firstNonNull(Limit first, Limit second, Limit builtIn) {
+        return first != null ? first : second != null ? second : builtIn;
+    }
+}
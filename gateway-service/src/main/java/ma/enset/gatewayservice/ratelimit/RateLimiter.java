@@ -0,0 +1,174 @@
+package ma.enset.gatewayservice.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Seaux à jetons par (service, lecture/écriture) : un seau par IP cliente et un seau de route
+ * segmenté. Chemin chaud : deux lectures de ConcurrentHashMap, deux compareAndSet, un compteur
+ * (LongAdder) ; la table n'est verrouillée qu'à l'arrivée d'un nouveau client. Une requête
+ * refusée par un seau rend les jetons déjà pris aux précédents : seules les requêtes admises
+ * consomment.
+ */
+@Component
+public class RateLimiter implements DisposableBean {
+
+    public enum Scope { CLIENT, ROUTE }
+
+    public record Decision(boolean allowed, Scope rejectedBy, long retryAfterNanos) {
+
+        static final Decision ALLOWED = new Decision(true, null, 0);
+    }
+
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier nanoClock;
+    // [0] lectures, [1] écritures
+    private final Map<String, RouteBuckets[]> routes = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService sweeper;
+
+    @Autowired
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    // Horloge injectable : les tests avancent le temps sans attendre
+    RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.nanoClock = nanoClock;
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rate-limit-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = properties.sweepInterval().toMillis();
+        sweeper.scheduleWithFixedDelay(this::sweep, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    public Decision tryAcquire(String serviceId, boolean write, String client) {
+        return buckets(serviceId, write).tryAcquire(client, nanoClock.getAsLong());
+    }
+
+    /**
+     * Un jeton sur chacun des services, ou aucun : au premier refus, les jetons déjà pris sur
+     * les services précédents leur sont rendus.
+     */
+    public Decision tryAcquire(List<String> serviceIds, boolean write, String client) {
+        long now = nanoClock.getAsLong();
+        for (int i = 0; i < serviceIds.size(); i++) {
+            Decision decision = buckets(serviceIds.get(i), write).tryAcquire(client, now);
+            if (!decision.allowed()) {
+                for (int j = 0; j < i; j++) {
+                    buckets(serviceIds.get(j), write).refund(client);
+                }
+                return decision;
+            }
+        }
+        return Decision.ALLOWED;
+    }
+
+    private RouteBuckets buckets(String serviceId, boolean write) {
+        RouteBuckets[] pair = routes.get(serviceId);
+        if (pair == null) pair = routes.computeIfAbsent(serviceId, this::createRoute);
+        return pair[write ? 1 : 0];
+    }
+
+    private RouteBuckets[] createRoute(String serviceId) {
+        long now = nanoClock.getAsLong();
+        return new RouteBuckets[]{new RouteBuckets(serviceId, false, now), new RouteBuckets(serviceId, true, now)};
+    }
+
+    // Un seau plein est identique à un seau neuf : le retirer ne change aucune décision
+    void sweep() {
+        long now = nanoClock.getAsLong();
+        for (RouteBuckets[] pair : routes.values()) {
+            for (RouteBuckets buckets : pair) {
+                buckets.clients.values().removeIf(bucket -> bucket.isFull(now));
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        sweeper.shutdownNow();
+    }
+
+    private final class RouteBuckets {
+
+        private final RateLimitProperties.Limit clientLimit;
+        private final StripedTokenBucket route;
+        private final Map<String, TokenBucket> clients = new ConcurrentHashMap<>();
+        private final Counter allowed;
+        private final Counter rejectedByClient;
+        private final Counter rejectedByRoute;
+
+        RouteBuckets(String serviceId, boolean write, long now) {
+            String operation = write ? "write" : "read";
+            RateLimitProperties.Limit routeLimit = properties.routeLimit(serviceId, write);
+            this.clientLimit = properties.clientLimit(serviceId, write);
+            this.route = new StripedTokenBucket(routeLimit.capacity(), routeLimit.refillPerSecond(), now);
+            this.allowed = requests(serviceId, operation, "allowed", "none");
+            this.rejectedByClient = requests(serviceId, operation, "rejected", "client");
+            this.rejectedByRoute = requests(serviceId, operation, "rejected", "route");
+
+            Gauge.builder("gateway.ratelimit.clients", clients, Map::size)
+                    .description("Seaux clients actifs (non pleins) sur la route")
+                    .tags("service", serviceId, "operation", operation)
+                    .register(meterRegistry);
+            Gauge.builder("gateway.ratelimit.route.tokens", route, bucket -> bucket.availableTokens(nanoClock.getAsLong()))
+                    .description("Jetons disponibles dans le seau de la route")
+                    .tags("service", serviceId, "operation", operation)
+                    .register(meterRegistry);
+        }
+
+        private Counter requests(String serviceId, String operation, String result, String scope) {
+            return Counter.builder("gateway.ratelimit.requests")
+                    .description("Requêtes passées par le limiteur de débit")
+                    .tags("service", serviceId, "operation", operation, "result", result, "scope", scope)
+                    .register(meterRegistry);
+        }
+
+        Decision tryAcquire(String client, long now) {
+            TokenBucket bucket = clients.get(client);
+            if (bucket == null) {
+                bucket = clients.computeIfAbsent(client,
+                        c -> new TokenBucket(clientLimit.capacity(), clientLimit.refillPerSecond(), now));
+            }
+            // Le client d'abord : un client bruyant est refusé sans entamer le seau de la route
+            long wait = bucket.tryAcquire(now);
+            if (wait > 0) {
+                rejectedByClient.increment();
+                return new Decision(false, Scope.CLIENT, wait);
+            }
+            wait = route.tryAcquire(now);
+            if (wait > 0) {
+                // Requête non admise : le jeton du client lui revient
+                bucket.refund();
+                rejectedByRoute.increment();
+                return new Decision(false, Scope.ROUTE, wait);
+            }
+            allowed.increment();
+            return Decision.ALLOWED;
+        }
+
+        // Seau client déjà purgé : il était plein, il n'y a rien à rendre
+        void refund(String client) {
+            TokenBucket bucket = clients.get(client);
+            if (bucket != null) bucket.refund();
+            route.refund();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package ma.enset.gatewayservice.ratelimit;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Seau partagé par tous les clients d'une route, découpé en segments indépendants (capacité et
+ * débit divisés) pour que les event loops ne se disputent pas un même compteur. Un refus sur le
+ * segment tiré au hasard est retenté sur le suivant avant d'être rendu.
+ */
+final class StripedTokenBucket {
+
+    private final TokenBucket[] stripes;
+
+    StripedTokenBucket(long capacity, double refillPerSecond, long now) {
+        // Au moins quelques jetons par segment, sinon la rafale autorisée devient trop hachée
+        int count = Integer.highestOneBit(Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(),
+                (int) Math.min(Integer.MAX_VALUE, capacity / 8))));
+        stripes = new TokenBucket[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new TokenBucket(Math.max(1, capacity / count), refillPerSecond / count, now);
+        }
+    }
+
+    long tryAcquire(long now) {
+        int mask = stripes.length - 1;
+        int first = ThreadLocalRandom.current().nextInt(stripes.length);
+        long wait = stripes[first].tryAcquire(now);
+        if (wait == 0 || stripes.length == 1) return wait;
+        long retry = stripes[(first + 1) & mask].tryAcquire(now);
+        return retry == 0 ? 0 : Math.min(wait, retry);
+    }
+
+    // Rendu à un segment quelconque : le total est conservé, au plus un jeton perdu si ce segment est plein
+    void refund() {
+        stripes[ThreadLocalRandom.current().nextInt(stripes.length)].refund();
+    }
+
+    double availableTokens(long now) {
+        double total = 0;
+        for (TokenBucket stripe : stripes) total += stripe.availableTokens(now);
+        return total;
+    }
+}
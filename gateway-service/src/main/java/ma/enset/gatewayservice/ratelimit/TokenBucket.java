@@ -0,0 +1,57 @@
+package ma.enset.gatewayservice.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Seau à jetons sans verrou, tenu dans un seul long (algorithme GCRA) : on mémorise l'instant
+ * théorique où le seau redevient plein plutôt qu'un nombre de jetons et une date de recharge.
+ * Une acquisition = une lecture + un compareAndSet ; aucune tâche de recharge.
+ */
+final class TokenBucket {
+
+    // Délai entre deux jetons, et avance maximale tolérée (capacité * intervalle = rafale)
+    private final long emissionInterval;
+    private final long tolerance;
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(long capacity, double refillPerSecond, long now) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity et refill-per-second doivent être > 0");
+        }
+        this.emissionInterval = Math.max(1L, (long) (1_000_000_000L / refillPerSecond));
+        this.tolerance = capacity * emissionInterval;
+        this.theoreticalArrival = new AtomicLong(now);
+    }
+
+    /**
+     * Prend un jeton. Retourne 0 en cas de succès, sinon le délai (ns) avant qu'un jeton se libère.
+     */
+    long tryAcquire(long now) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now) + emissionInterval;
+            long wait = next - now - tolerance;
+            if (wait > 0) return wait;
+            if (theoreticalArrival.compareAndSet(current, next)) return 0;
+        }
+    }
+
+    /**
+     * Rend un jeton pris par {@link #tryAcquire} quand la requête est refusée par un autre seau.
+     * Sur un seau redevenu plein entre-temps, le jeton est perdu (l'instant théorique passé est
+     * de toute façon ramené à {@code now} à l'acquisition suivante).
+     */
+    void refund() {
+        theoreticalArrival.addAndGet(-emissionInterval);
+    }
+
+    double availableTokens(long now) {
+        long debt = Math.max(0, theoreticalArrival.get() - now);
+        return (double) (tolerance - debt) / emissionInterval;
+    }
+
+    // Seau plein : identique à un seau neuf, on peut le retirer de la table
+    boolean isFull(long now) {
+        return theoreticalArrival.get() <= now;
+    }
+}
@@ -0,0 +1,181 @@
+package ma.enset.gatewayservice;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * GET /api/conference-details/{id} contre des conference-service et keynote-service locaux :
+ * réponse complète, jambe en erreur, jambe hors délai, 404, cache partagé des jambes et
+ * limitation de débit. Chaque test a sa propre IP cliente (X-Forwarded-For) donc ses seaux.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "eureka.client.enabled=false",
+        "gateway.aggregation.keynote-timeout=200ms",
+        "gateway.rate-limit.trusted-proxies=1",
+        "gateway.rate-limit.routes.conference-service.client-read.capacity=5",
+        "gateway.rate-limit.routes.conference-service.client-read.refill-per-second=0.01"
+})
+class ConferenceDetailAggregationTests {
+
+    private static final long FAILING_REVIEWS_ID = 2;
+    private static final long SLOW_KEYNOTE_ID = 3;
+    private static final long MISSING_CONFERENCE_ID = 404;
+    private static final long KEYNOTE_DELAY_MS = 1000;
+
+    private static final Map<Long, AtomicInteger> reviewCalls = new ConcurrentHashMap<>();
+    private static final AtomicInteger clients = new AtomicInteger();
+    private static final HttpServer conferenceService = start(ConferenceDetailAggregationTests::conference);
+    private static final HttpServer keynoteService = start(ConferenceDetailAggregationTests::keynote);
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @DynamicPropertySource
+    static void serviceInstances(DynamicPropertyRegistry registry) {
+        registry.add("spring.cloud.discovery.client.simple.instances.conference-service[0].uri",
+                () -> "http://localhost:" + conferenceService.getAddress().getPort());
+        registry.add("spring.cloud.discovery.client.simple.instances.keynote-service[0].uri",
+                () -> "http://localhost:" + keynoteService.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopServices() {
+        conferenceService.stop(0);
+        keynoteService.stop(0);
+    }
+
+    @Test
+    void allLegsSucceed() {
+        detail(1, newClient()).expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.conference.titre").isEqualTo("Conference 1")
+                .jsonPath("$.keynote.nom").isEqualTo("Keynote 1")
+                .jsonPath("$.reviews[0].note").isEqualTo(5)
+                .jsonPath("$.errors").isEmpty();
+    }
+
+    @Test
+    void failingLegGivesPartialDetail() {
+        detail(FAILING_REVIEWS_ID, newClient()).expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.conference.titre").isEqualTo("Conference " + FAILING_REVIEWS_ID)
+                .jsonPath("$.keynote.nom").isEqualTo("Keynote " + FAILING_REVIEWS_ID)
+                .jsonPath("$.reviews").doesNotExist()
+                .jsonPath("$.errors.reviews").isEqualTo("HTTP 500");
+    }
+
+    @Test
+    void slowLegTimesOut() {
+        detail(SLOW_KEYNOTE_ID, newClient()).expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.conference.titre").isEqualTo("Conference " + SLOW_KEYNOTE_ID)
+                .jsonPath("$.keynote").doesNotExist()
+                .jsonPath("$.errors.keynote").isEqualTo("timeout after 200 ms");
+    }
+
+    @Test
+    void missingConferenceIsNotFound() {
+        detail(MISSING_CONFERENCE_ID, newClient()).expectStatus().isNotFound();
+    }
+
+    @Test
+    void legsShareTheGatewayResponseCache() {
+        detail(5, newClient()).expectStatus().isOk();
+        detail(5, newClient()).expectStatus().isOk();
+        assertEquals(1, reviewCalls.get(5L).get());
+    }
+
+    @Test
+    void detailIsRateLimitedLikeTheRoutes() {
+        String client = newClient();
+        for (int i = 0; i < 5; i++) {
+            detail(6, client).expectStatus().isOk();
+        }
+        detail(6, client).expectStatus().isEqualTo(HttpStatus.TOO_MANY_REQUESTS)
+                .expectHeader().exists(HttpHeaders.RETRY_AFTER)
+                .expectHeader().valueEquals("X-RateLimit-Scope", "client");
+    }
+
+    private WebTestClient.ResponseSpec detail(long id, String client) {
+        return webTestClient.get().uri("/api/conference-details/{id}", id)
+                .header("X-Forwarded-For", client)
+                .exchange();
+    }
+
+    private static String newClient() {
+        return "10.0.0." + clients.incrementAndGet();
+    }
+
+    // /api/conferences/{id} et /api/conferences/{id}/reviews
+    private static void conference(HttpExchange exchange) throws IOException {
+        String[] segments = exchange.getRequestURI().getPath().split("/");
+        long id = Long.parseLong(segments[3]);
+        if (segments.length > 4) {
+            reviewCalls.computeIfAbsent(id, k -> new AtomicInteger()).incrementAndGet();
+            if (id == FAILING_REVIEWS_ID) {
+                respond(exchange, 500, "{\"error\":\"boom\"}");
+            } else {
+                respond(exchange, 200, "[{\"id\":1,\"texte\":\"Great\",\"note\":5}]");
+            }
+        } else if (id == MISSING_CONFERENCE_ID) {
+            respond(exchange, 404, "{\"error\":\"Conference not found\"}");
+        } else {
+            respond(exchange, 200, "{\"id\":" + id + ",\"titre\":\"Conference " + id + "\",\"keynoteId\":" + id + "}");
+        }
+    }
+
+    // /api/keynotes/{id}
+    private static void keynote(HttpExchange exchange) throws IOException {
+        long id = Long.parseLong(exchange.getRequestURI().getPath().substring("/api/keynotes/".length()));
+        if (id == SLOW_KEYNOTE_ID) {
+            try {
+                Thread.sleep(KEYNOTE_DELAY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        respond(exchange, 200, "{\"id\":" + id + ",\"nom\":\"Keynote " + id + "\"}");
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static HttpServer start(HttpHandler handler) {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.createContext("/api/", handler);
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
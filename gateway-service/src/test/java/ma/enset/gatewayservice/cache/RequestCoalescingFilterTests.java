@@ -0,0 +1,178 @@
+package ma.enset.gatewayservice.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Single-flight devant un backend simulé qui compte ses appels : le premier appel reste en
+ * vol jusqu'à l'ouverture de {@code gate}, les suivants répondent aussitôt.
+ */
+class RequestCoalescingFilterTests {
+
+    private static final String PATH = "/conference-service/api/conferences/1/full";
+    private static final String BODY = "{\"id\":1}";
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final Sinks.Empty<Void> gate = Sinks.empty();
+    private final ResponseCache cache = new ResponseCache(new ResponseCacheProperties(
+            true, Duration.ofSeconds(5), DataSize.ofMegabytes(1), DataSize.ofKilobytes(64),
+            List.of("Accept", "Authorization"), List.of(), Map.of()), new SimpleMeterRegistry());
+
+    @Test
+    void identicalConcurrentGetsMakeOneUpstreamCall() throws Exception {
+        RequestCoalescingFilter filter = filter(Duration.ofSeconds(10));
+        GatewayFilterChain upstream = upstream(response -> { });
+        List<MockServerWebExchange> exchanges = IntStream.range(0, 8).mapToObj(i -> exchange("alice")).toList();
+
+        CompletableFuture<Void> all = Mono.when(exchanges.stream().map(e -> filter.filter(e, upstream)).toList()).toFuture();
+        gate.tryEmitEmpty();
+        all.get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, calls.get());
+        for (MockServerWebExchange exchange : exchanges) {
+            assertEquals(BODY, exchange.getResponse().getBodyAsString().block());
+        }
+        assertEquals(7, exchanges.stream().filter(e -> "true".equals(coalesced(e))).count());
+    }
+
+    @Test
+    void differentKeysAreNotCoalesced() throws Exception {
+        RequestCoalescingFilter filter = filter(Duration.ofSeconds(10));
+        GatewayFilterChain upstream = upstream(response -> { });
+
+        CompletableFuture<Void> leader = filter.filter(exchange("alice"), upstream).toFuture();
+        // Authorization fait partie de la clé : bob ne reçoit jamais la réponse d'alice
+        MockServerWebExchange bob = exchange("bob");
+        filter.filter(bob, upstream).toFuture().get(2, TimeUnit.SECONDS);
+        gate.tryEmitEmpty();
+        leader.get(2, TimeUnit.SECONDS);
+
+        assertEquals(2, calls.get());
+        assertNull(coalesced(bob));
+    }
+
+    @Test
+    void slowLeaderLetsFollowersFallBackAfterMaxWait() throws Exception {
+        RequestCoalescingFilter filter = filter(Duration.ofMillis(100));
+        GatewayFilterChain upstream = upstream(response -> { });
+
+        CompletableFuture<Void> leader = filter.filter(exchange("alice"), upstream).toFuture();
+        MockServerWebExchange follower = exchange("alice");
+        filter.filter(follower, upstream).toFuture().get(2, TimeUnit.SECONDS);
+
+        assertEquals(2, calls.get());
+        assertEquals(BODY, follower.getResponse().getBodyAsString().block());
+        assertNull(coalesced(follower));
+
+        gate.tryEmitEmpty();
+        leader.get(2, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void cancelledLeaderReleasesFollowersAtOnce() throws Exception {
+        // max-wait bien supérieur au délai du test : seul l'abandon du meneur peut libérer le suiveur
+        RequestCoalescingFilter filter = filter(Duration.ofSeconds(30));
+        GatewayFilterChain upstream = upstream(response -> { });
+
+        Disposable leader = filter.filter(exchange("alice"), upstream).subscribe();
+        MockServerWebExchange follower = exchange("alice");
+        CompletableFuture<Void> followed = filter.filter(follower, upstream).toFuture();
+        leader.dispose();
+        followed.get(2, TimeUnit.SECONDS);
+
+        assertEquals(2, calls.get());
+        assertEquals(BODY, follower.getResponse().getBodyAsString().block());
+        assertNull(coalesced(follower));
+    }
+
+    @Test
+    void setCookieResponseIsNotShared() throws Exception {
+        assertNotShared(response -> response.getHeaders().add(HttpHeaders.SET_COOKIE, "session=alice"));
+    }
+
+    @Test
+    void notModifiedResponseIsNotShared() throws Exception {
+        assertNotShared(response -> response.setStatusCode(HttpStatus.NOT_MODIFIED));
+    }
+
+    @Test
+    void ndjsonStreamIsNotShared() throws Exception {
+        assertNotShared(response -> response.getHeaders().setContentType(MediaType.APPLICATION_NDJSON));
+    }
+
+    @Test
+    void serverSentEventsAreNotShared() throws Exception {
+        assertNotShared(response -> response.getHeaders().setContentType(MediaType.TEXT_EVENT_STREAM));
+    }
+
+    private void assertNotShared(Consumer<ServerHttpResponse> customizer) throws Exception {
+        RequestCoalescingFilter filter = filter(Duration.ofSeconds(30));
+        GatewayFilterChain upstream = upstream(customizer);
+        List<MockServerWebExchange> exchanges = IntStream.range(0, 4).mapToObj(i -> exchange("alice")).toList();
+
+        CompletableFuture<Void> all = Mono.when(exchanges.stream().map(e -> filter.filter(e, upstream)).toList()).toFuture();
+        gate.tryEmitEmpty();
+        all.get(2, TimeUnit.SECONDS);
+
+        assertEquals(4, calls.get());
+        assertTrue(exchanges.stream().allMatch(e -> coalesced(e) == null));
+    }
+
+    private RequestCoalescingFilter filter(Duration maxWait) {
+        CoalescingProperties properties = new CoalescingProperties(true, maxWait, DataSize.ofMegabytes(1),
+                Map.of("conference-service", new CoalescingProperties.Route(true, List.of())));
+        return new RequestCoalescingFilter(cache, properties, new SimpleMeterRegistry());
+    }
+
+    private GatewayFilterChain upstream(Consumer<ServerHttpResponse> customizer) {
+        return exchange -> {
+            Mono<Void> wait = calls.incrementAndGet() == 1 ? gate.asMono() : Mono.empty();
+            return wait.then(Mono.defer(() -> {
+                ServerHttpResponse response = exchange.getResponse();
+                response.setStatusCode(HttpStatus.OK);
+                response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                customizer.accept(response);
+                return response.writeWith(Mono.just(response.bufferFactory().wrap(BODY.getBytes(StandardCharsets.UTF_8))));
+            }));
+        };
+    }
+
+    private static MockServerWebExchange exchange(String user) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(PATH)
+                .header(HttpHeaders.ACCEPT, "application/json")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + user));
+        Route route = Route.async().id("conference-service").uri("lb://conference-service")
+                .predicate(e -> true).build();
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route);
+        return exchange;
+    }
+
+    private static String coalesced(MockServerWebExchange exchange) {
+        return exchange.getResponse().getHeaders().getFirst("X-Coalesced");
+    }
+}
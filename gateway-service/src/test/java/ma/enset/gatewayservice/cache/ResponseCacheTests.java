@@ -0,0 +1,160 @@
+package ma.enset.gatewayservice.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clé, TTL et invalidation du cache de réponses, sur une horloge simulée : aucune attente, et
+ * l'ordre lecture / écriture des scénarios concurrents est fixé par le test.
+ */
+class ResponseCacheTests {
+
+    private static final String CONFERENCES = "/conference-service/api/conferences";
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final ResponseCache cache = new ResponseCache(new ResponseCacheProperties(
+            true, Duration.ofSeconds(5), DataSize.ofMegabytes(1), DataSize.ofKilobytes(64),
+            List.of("Accept", "Accept-Encoding", "Accept-Language", "Authorization"),
+            List.of("/*/api/**/export/**"),
+            Map.of("keynote-service", new ResponseCacheProperties.Route(null, Duration.ofSeconds(30),
+                    List.of("conference-service")))),
+            new SimpleMeterRegistry(), nanos::get);
+
+    @Test
+    void keyDependsOnVaryHeadersAndSortedQuery() {
+        HttpHeaders alice = headers("Bearer alice");
+        HttpHeaders bob = headers("Bearer bob");
+        HttpHeaders aliceTraced = headers("Bearer alice");
+        aliceTraced.set("X-Request-Id", "42");
+
+        ResponseCache.Key key = cache.keyOf("conference-service", CONFERENCES, "size=10&sort=DATE", alice);
+
+        assertNotEquals(key, cache.keyOf("conference-service", CONFERENCES, "size=10&sort=DATE", bob));
+        assertNotEquals(key, cache.keyOf("conference-service", CONFERENCES, "size=20&sort=DATE", alice));
+        assertEquals(key, cache.keyOf("conference-service", CONFERENCES, "sort=DATE&size=10", alice));
+        assertEquals(key, cache.keyOf("conference-service", CONFERENCES, "size=10&sort=DATE", aliceTraced));
+    }
+
+    @Test
+    void authorizationSeparatesEntries() {
+        ResponseCache.Key alice = key(CONFERENCES, "Bearer alice");
+        store(alice, "alice");
+
+        assertNotNull(cache.get(alice));
+        assertNull(cache.get(key(CONFERENCES, "Bearer bob")));
+    }
+
+    @Test
+    void entryExpiresAfterItsTtl() {
+        ResponseCache.Key key = key(CONFERENCES, null);
+        store(key, "page");
+
+        nanos.addAndGet(Duration.ofSeconds(4).toNanos());
+        assertNotNull(cache.get(key));
+        nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+        assertNull(cache.get(key));
+    }
+
+    @Test
+    void shorterUpstreamMaxAgeWins() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setCacheControl("public, max-age=1");
+        assertEquals(Duration.ofSeconds(1), ResponseCache.effectiveTtl(headers, Duration.ofSeconds(5)));
+
+        headers.setCacheControl("max-age=60");
+        assertEquals(Duration.ofSeconds(5), ResponseCache.effectiveTtl(headers, Duration.ofSeconds(5)));
+    }
+
+    @Test
+    void writeInvalidatesItsCollectionOnly() {
+        ResponseCache.Key list = key(CONFERENCES, null);
+        ResponseCache.Key reviews = key(CONFERENCES + "/5/reviews", null);
+        ResponseCache.Key statistics = key("/conference-service/api/statistics", null);
+        store(list, "list");
+        store(reviews, "reviews");
+        store(statistics, "statistics");
+
+        cache.invalidate("conference-service", CONFERENCES + "/5");
+
+        assertNull(cache.get(list));
+        assertNull(cache.get(reviews));
+        assertNotNull(cache.get(statistics));
+    }
+
+    @Test
+    void writeInvalidatesDependentServices() {
+        ResponseCache.Key keynote = cache.keyOf("keynote-service", "/keynote-service/api/keynotes/1", null, new HttpHeaders());
+        ResponseCache.Key full = key(CONFERENCES + "/1/full", null);
+        ResponseCache.Key statistics = key("/conference-service/api/statistics", null);
+        store(keynote, "keynote");
+        store(full, "full");
+        store(statistics, "statistics");
+
+        cache.invalidate("keynote-service", "/keynote-service/api/keynotes/1");
+
+        assertNull(cache.get(keynote));
+        assertNull(cache.get(full));
+        assertNull(cache.get(statistics));
+        // Pas de dépendance dans l'autre sens
+        store(keynote, "keynote");
+        cache.invalidate("conference-service", CONFERENCES + "/1");
+        assertNotNull(cache.get(keynote));
+    }
+
+    @Test
+    void readStartedBeforeWriteIsNotStored() {
+        ResponseCache.Key key = key(CONFERENCES + "/7", null);
+        ResponseCache.Generation generation = cache.generationOf(key);
+
+        // L'écriture se termine pendant que la lecture amont est en vol
+        cache.invalidate("conference-service", CONFERENCES + "/7");
+        cache.put(key, response("old"), generation);
+
+        assertNull(cache.get(key));
+    }
+
+    @Test
+    void readStoredJustBeforeWriteIsNotServed() {
+        ResponseCache.Key key = key(CONFERENCES + "/7", null);
+        ResponseCache.Generation generation = cache.generationOf(key);
+        cache.put(key, response("old"), generation);
+
+        cache.invalidate("conference-service", CONFERENCES);
+
+        assertNull(cache.get(key));
+        store(key, "new");
+        assertEquals("new", new String(cache.get(key).body(), StandardCharsets.UTF_8));
+    }
+
+    private ResponseCache.Key key(String path, String authorization) {
+        return cache.keyOf("conference-service", path, null, headers(authorization));
+    }
+
+    private void store(ResponseCache.Key key, String body) {
+        cache.put(key, response(body), cache.generationOf(key));
+    }
+
+    private static CachedResponse response(String body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.CONTENT_TYPE, "application/json");
+        return CachedResponse.of(HttpStatus.OK, headers, body.getBytes(StandardCharsets.UTF_8), Duration.ofSeconds(5));
+    }
+
+    private static HttpHeaders headers(String authorization) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.ACCEPT, "application/json");
+        if (authorization != null) headers.set(HttpHeaders.AUTHORIZATION, authorization);
+        return headers;
+    }
+}
@@ -0,0 +1,81 @@
+package ma.enset.gatewayservice.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Filtre de route : une requête refusée reçoit 429 et un Retry-After arrondi à la seconde
+ * supérieure, sans atteindre le backend.
+ */
+class RateLimitFilterTests {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger forwarded = new AtomicInteger();
+    private final GatewayFilterChain backend = exchange -> {
+        forwarded.incrementAndGet();
+        return Mono.empty();
+    };
+    // Un jeton par client, rendu toutes les 2 s
+    private final RateLimitProperties properties = new RateLimitProperties(true, 0, Duration.ofSeconds(30), null,
+            Map.of("conference-service", new RateLimitProperties.Limits(
+                    new RateLimitProperties.Limit(1, 0.5), null, null, null)));
+    private final RateLimiter rateLimiter = new RateLimiter(properties, new SimpleMeterRegistry(), clock::get);
+    private final RateLimitFilter filter = new RateLimitFilter(rateLimiter, properties);
+
+    @AfterEach
+    void stopSweeper() {
+        rateLimiter.destroy();
+    }
+
+    @Test
+    void exhaustedClientGets429WithRetryAfter() {
+        MockServerWebExchange first = exchange("10.0.0.1");
+        filter.filter(first, backend).block();
+        assertNotEquals(HttpStatus.TOO_MANY_REQUESTS, first.getResponse().getStatusCode());
+        assertEquals(1, forwarded.get());
+
+        MockServerWebExchange second = exchange("10.0.0.1");
+        filter.filter(second, backend).block();
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, second.getResponse().getStatusCode());
+        assertEquals("2", second.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals("client", second.getResponse().getHeaders().getFirst("X-RateLimit-Scope"));
+        assertEquals(1, forwarded.get());
+
+        // Un autre client a son propre seau
+        filter.filter(exchange("10.0.0.2"), backend).block();
+        assertEquals(2, forwarded.get());
+
+        clock.addAndGet(Duration.ofSeconds(2).toNanos());
+        MockServerWebExchange later = exchange("10.0.0.1");
+        filter.filter(later, backend).block();
+        assertNotEquals(HttpStatus.TOO_MANY_REQUESTS, later.getResponse().getStatusCode());
+        assertEquals(3, forwarded.get());
+    }
+
+    private static MockServerWebExchange exchange(String clientIp) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+                .get("/conference-service/api/conferences")
+                .remoteAddress(new InetSocketAddress(clientIp, 40000)));
+        Route route = Route.async().id("conference-service").uri("lb://conference-service")
+                .predicate(e -> true).build();
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route);
+        return exchange;
+    }
+}
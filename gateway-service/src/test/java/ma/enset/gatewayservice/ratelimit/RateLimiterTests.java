@@ -0,0 +1,100 @@
+package ma.enset.gatewayservice.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Enchaînement des seaux client et route, jetons rendus sur refus et purge des clients inactifs,
+ * sur une horloge simulée.
+ */
+class RateLimiterTests {
+
+    private static final String CONFERENCES = "conference-service";
+    private static final String KEYNOTES = "keynote-service";
+
+    private final AtomicLong clock = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // conference-service : 2 jetons par client quasi sans recharge ; keynote-service : route à 1 jeton par ms
+    private final RateLimiter rateLimiter = new RateLimiter(new RateLimitProperties(true, 0, Duration.ofSeconds(30), null,
+            Map.of(CONFERENCES, new RateLimitProperties.Limits(
+                            new RateLimitProperties.Limit(2, 0.001), null,
+                            new RateLimitProperties.Limit(1, 1000), null),
+                    KEYNOTES, new RateLimitProperties.Limits(
+                            null, null, new RateLimitProperties.Limit(1, 1000), null))),
+            meterRegistry, clock::get);
+
+    @AfterEach
+    void stopSweeper() {
+        rateLimiter.destroy();
+    }
+
+    @Test
+    void routeRejectionGivesTheClientTokenBack() {
+        assertTrue(rateLimiter.tryAcquire(CONFERENCES, false, "alice").allowed());
+
+        RateLimiter.Decision rejected = rateLimiter.tryAcquire(CONFERENCES, false, "alice");
+        assertFalse(rejected.allowed());
+        assertEquals(RateLimiter.Scope.ROUTE, rejected.rejectedBy());
+        assertEquals(Duration.ofMillis(1).toNanos(), rejected.retryAfterNanos());
+
+        // Route rechargée : le second jeton du client est toujours là
+        clock.addAndGet(Duration.ofMillis(1).toNanos());
+        assertTrue(rateLimiter.tryAcquire(CONFERENCES, false, "alice").allowed());
+
+        clock.addAndGet(Duration.ofMillis(1).toNanos());
+        assertEquals(RateLimiter.Scope.CLIENT, rateLimiter.tryAcquire(CONFERENCES, false, "alice").rejectedBy());
+    }
+
+    @Test
+    void rejectionOnLaterServiceGivesEarlierTokensBack() {
+        assertTrue(rateLimiter.tryAcquire(KEYNOTES, false, "bob").allowed());
+
+        RateLimiter.Decision rejected = rateLimiter.tryAcquire(List.of(CONFERENCES, KEYNOTES), false, "alice");
+        assertFalse(rejected.allowed());
+        assertEquals(RateLimiter.Scope.ROUTE, rejected.rejectedBy());
+
+        // Ni le seau client ni celui de la route conference-service n'ont été entamés
+        assertTrue(rateLimiter.tryAcquire(CONFERENCES, false, "alice").allowed());
+        clock.addAndGet(Duration.ofMillis(1).toNanos());
+        assertTrue(rateLimiter.tryAcquire(List.of(CONFERENCES, KEYNOTES), false, "alice").allowed());
+    }
+
+    @Test
+    void fullClientBucketsAreSwept() {
+        rateLimiter.tryAcquire(KEYNOTES, false, "alice");
+        assertEquals(1.0, clients(KEYNOTES));
+
+        rateLimiter.sweep();
+        assertEquals(1.0, clients(KEYNOTES));
+
+        // Défaut client-read : 50 jetons par seconde, le jeton pris est rendu après 20 ms
+        clock.addAndGet(Duration.ofMillis(20).toNanos());
+        rateLimiter.sweep();
+        assertEquals(0.0, clients(KEYNOTES));
+
+        assertTrue(rateLimiter.tryAcquire(KEYNOTES, false, "alice").allowed());
+        assertEquals(1.0, clients(KEYNOTES));
+    }
+
+    @Test
+    void readsAndWritesUseSeparateBuckets() {
+        assertTrue(rateLimiter.tryAcquire(CONFERENCES, false, "carol").allowed());
+        assertFalse(rateLimiter.tryAcquire(CONFERENCES, false, "carol").allowed());
+
+        assertTrue(rateLimiter.tryAcquire(CONFERENCES, true, "carol").allowed());
+    }
+
+    private double clients(String serviceId) {
+        return meterRegistry.get("gateway.ratelimit.clients")
+                .tags("service", serviceId, "operation", "read")
+                .gauge().value();
+    }
+}
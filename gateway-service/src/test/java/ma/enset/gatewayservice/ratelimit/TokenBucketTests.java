@@ -0,0 +1,89 @@
+package ma.enset.gatewayservice.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Seaux GCRA sur des instants fournis par le test : rafale, recharge, délai de Retry-After et
+ * jeton rendu.
+ */
+class TokenBucketTests {
+
+    private static final long MS = Duration.ofMillis(1).toNanos();
+
+    @Test
+    void burstUpToCapacityThenRetryAfterOneInterval() {
+        // 3 jetons, 10 par seconde : un jeton toutes les 100 ms
+        TokenBucket bucket = new TokenBucket(3, 10, 0);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, bucket.tryAcquire(0));
+        }
+        assertEquals(100 * MS, bucket.tryAcquire(0));
+        assertEquals(40 * MS, bucket.tryAcquire(60 * MS));
+    }
+
+    @Test
+    void tokensRefillWithTime() {
+        TokenBucket bucket = new TokenBucket(3, 10, 0);
+        for (int i = 0; i < 3; i++) {
+            bucket.tryAcquire(0);
+        }
+
+        assertEquals(0, bucket.tryAcquire(100 * MS));
+        assertTrue(bucket.tryAcquire(100 * MS) > 0);
+        assertEquals(0, bucket.tryAcquire(200 * MS));
+
+        // Au repos, le seau ne dépasse jamais sa capacité
+        assertFalse(bucket.isFull(200 * MS));
+        assertTrue(bucket.isFull(Duration.ofSeconds(10).toNanos()));
+        assertEquals(3.0, bucket.availableTokens(Duration.ofSeconds(10).toNanos()));
+    }
+
+    @Test
+    void refundedTokenCanBeTakenAgain() {
+        TokenBucket bucket = new TokenBucket(1, 1, 0);
+        assertEquals(0, bucket.tryAcquire(0));
+        assertTrue(bucket.tryAcquire(0) > 0);
+
+        bucket.refund();
+
+        assertEquals(0, bucket.tryAcquire(0));
+        assertTrue(bucket.tryAcquire(0) > 0);
+    }
+
+    @Test
+    void refundOnFullBucketAddsNoExtraToken() {
+        TokenBucket bucket = new TokenBucket(2, 1, 0);
+        bucket.refund();
+
+        assertEquals(0, bucket.tryAcquire(0));
+        assertEquals(0, bucket.tryAcquire(0));
+        assertTrue(bucket.tryAcquire(0) > 0);
+    }
+
+    @Test
+    void stripedBucketHonoursTotalCapacityAndRate() {
+        // Segments tirés au hasard : on insiste jusqu'à vider chacun d'eux
+        StripedTokenBucket bucket = new StripedTokenBucket(64, 32, 0);
+
+        assertEquals(64, acquired(bucket, 0));
+        long wait = bucket.tryAcquire(0);
+        assertTrue(wait > 0 && wait <= Duration.ofMillis(250).toNanos(), "retry after " + wait + " ns");
+
+        long oneSecond = Duration.ofSeconds(1).toNanos();
+        assertEquals(32, acquired(bucket, oneSecond));
+        assertEquals(0.0, bucket.availableTokens(oneSecond));
+    }
+
+    private static int acquired(StripedTokenBucket bucket, long now) {
+        int acquired = 0;
+        for (int i = 0; i < 5_000; i++) {
+            if (bucket.tryAcquire(now) == 0) acquired++;
+        }
+        return acquired;
+    }
+}
@@ -13,4 +13,5 @@ public class KeynoteResponseDTO {
     private String prenom;
     private String email;
     private String fonction;
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package ma.enset.keynoteservice.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KeynoteUpsertReportDTO {
+    private int totalRows;
+    private int created;
+    private int updated;
+    private int unchanged;
+    private int failed;
+    private long durationMillis;
+    private double rowsPerSecond;
+    // Un résultat par ligne, dans l'ordre de la requête
+    private List<KeynoteUpsertResultDTO> results;
+}
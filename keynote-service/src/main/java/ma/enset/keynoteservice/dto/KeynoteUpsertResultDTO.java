@@ -0,0 +1,19 @@
+package ma.enset.keynoteservice.dto;
+
+import lombok.*;
+import ma.enset.keynoteservice.enums.UpsertStatus;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KeynoteUpsertResultDTO {
+    // Position de la ligne dans la requête (à partir de 0)
+    private int index;
+    private String email;
+    private UpsertStatus status;
+    private Long id;
+    private Long version;
+    private String message;
+}
@@ -0,0 +1,23 @@
+package ma.enset.keynoteservice.dto;
+
+import lombok.*;
+import ma.enset.keynoteservice.enums.OutboxEventType;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEventDTO {
+    private Long sequence;
+    private OutboxEventType type;
+    private Long keynoteId;
+    private String nom;
+    private String prenom;
+    private String email;
+    private String fonction;
+    private Long keynoteVersion;
+    private Instant createdAt;
+}
@@ -0,0 +1,18 @@
+package ma.enset.keynoteservice.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxPageDTO {
+    private List<OutboxEventDTO> events;
+    // Dernier numéro attribué : headSequence - dernier numéro appliqué = retard du consommateur
+    private long headSequence;
+    // Identifiant du flux : un changement signifie que les numéros ont été réattribués depuis 1
+    private String epoch;
+}
@@ -3,6 +3,8 @@ package ma.enset.keynoteservice.entities;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.Instant;
+
 @Entity
 @Table(name = "keynotes")
 @Getter
@@ -12,7 +14,9 @@ import lombok.*;
 @Builder
 public class Keynote {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Séquence (et non IDENTITY) : Hibernate peut regrouper les INSERT en batch JDBC
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "keynote_seq")
+    @SequenceGenerator(name = "keynote_seq", sequenceName = "keynotes_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -25,4 +29,16 @@ public class Keynote {
     private String email;
 
     private String fonction;
+
+    // Verrou optimiste et ETag
+    @Version
+    private Long version;
+
+    private Instant lastModified;
+
+    @PrePersist
+    @PreUpdate
+    void onWrite() {
+        lastModified = Instant.now();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package ma.enset.keynoteservice.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Dernier numéro de séquence attribué dans l'outbox (une seule ligne, id = 1). L'incrément pose
+ * un verrou de ligne gardé jusqu'au commit : les écritures de keynotes s'enchaînent, et un
+ * numéro n'est visible qu'une fois tous les numéros inférieurs commités. L'époque, tirée à la
+ * création de la ligne, identifie le flux : elle change quand la base repart de zéro.
+ */
+@Entity
+@Table(name = "keynote_outbox_counter")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxCounter {
+    public static final int ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private Long lastSequence;
+
+    @Column(nullable = false, length = 36)
+    private String epoch;
+}
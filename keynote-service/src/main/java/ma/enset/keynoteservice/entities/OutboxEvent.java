@@ -0,0 +1,41 @@
+package ma.enset.keynoteservice.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import ma.enset.keynoteservice.enums.OutboxEventType;
+
+import java.time.Instant;
+
+/**
+ * Changement d'un keynote, écrit dans la même transaction que le changement lui-même.
+ * Les numéros de séquence sont attribués sous le verrou de {@link OutboxCounter} : ils sont
+ * consécutifs et visibles dans l'ordre, un consommateur peut donc reprendre après le dernier lu.
+ */
+@Entity
+@Table(name = "keynote_outbox")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+    @Id
+    private Long sequenceNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxEventType eventType;
+
+    @Column(nullable = false)
+    private Long keynoteId;
+
+    // État du keynote après le changement (null pour DELETED)
+    private String nom;
+    private String prenom;
+    private String email;
+    private String fonction;
+    private Long keynoteVersion;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+}
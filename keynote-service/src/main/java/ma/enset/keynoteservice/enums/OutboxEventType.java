@@ -0,0 +1,7 @@
+package ma.enset.keynoteservice.enums;
+
+public enum OutboxEventType {
+    // Création ou modification : l'événement porte l'état complet du keynote
+    UPSERTED,
+    DELETED
+}
@@ -0,0 +1,9 @@
+package ma.enset.keynoteservice.enums;
+
+public enum UpsertStatus {
+    CREATED,
+    UPDATED,
+    // Email connu, aucun champ modifié : pas d'écriture
+    UNCHANGED,
+    FAILED
+}
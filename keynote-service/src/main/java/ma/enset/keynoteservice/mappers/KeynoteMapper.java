@@ -31,6 +31,7 @@ public class KeynoteMapper {
                 .prenom(k.getPrenom())
                 .email(k.getEmail())
                 .fonction(k.getFonction())
+                .version(k.getVersion())
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,145 @@
+package ma.enset.keynoteservice.outbox;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import ma.enset.keynoteservice.dto.KeynoteResponseDTO;
+import ma.enset.keynoteservice.dto.OutboxEventDTO;
+import ma.enset.keynoteservice.dto.OutboxPageDTO;
+import ma.enset.keynoteservice.entities.OutboxCounter;
+import ma.enset.keynoteservice.entities.OutboxEvent;
+import ma.enset.keynoteservice.enums.OutboxEventType;
+import ma.enset.keynoteservice.repositories.OutboxCounterRepository;
+import ma.enset.keynoteservice.repositories.OutboxEventRepository;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outbox transactionnelle des keynotes : chaque écriture (unitaire, massive ou réactive) y
+ * ajoute ses événements dans sa propre transaction, si bien qu'un changement commité a toujours
+ * son événement et qu'un changement annulé n'en a jamais. Les consommateurs lisent le flux par
+ * GET /api/keynotes/outbox?after=n, dans l'ordre des numéros de séquence.
+ *
+ * La ligne du compteur est créée au démarrage, avant l'ouverture du port HTTP, avec une époque
+ * aléatoire : une base repartie de zéro a une autre époque, ce qui permet aux consommateurs de
+ * reconnaître un nouveau flux même quand ses numéros ont déjà dépassé leur offset.
+ */
+@Component
+@RequiredArgsConstructor
+public class KeynoteOutbox implements SmartInitializingSingleton {
+
+    private final OutboxEventRepository eventRepository;
+    private final OutboxCounterRepository counterRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${keynote.outbox.max-page-size:1000}")
+    private int maxPageSize;
+
+    // Appelé une fois les beans créés, avant le démarrage du serveur web : aucune écriture concurrente
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (counterRepository.existsById(OutboxCounter.ID)) return;
+                counterRepository.saveAndFlush(OutboxCounter.builder()
+                        .id(OutboxCounter.ID)
+                        .lastSequence(0L)
+                        .epoch(UUID.randomUUID().toString())
+                        .build());
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Une autre instance sur la même base a créé la ligne entre-temps
+        }
+    }
+
+    public void upserted(KeynoteResponseDTO keynote) {
+        append(List.of(event(OutboxEventType.UPSERTED, keynote)));
+    }
+
+    public void deleted(Long keynoteId) {
+        append(List.of(OutboxEvent.builder()
+                .eventType(OutboxEventType.DELETED)
+                .keynoteId(keynoteId)
+                .createdAt(Instant.now())
+                .build()));
+    }
+
+    // Un seul incrément du compteur pour tout un lot d'événements
+    public void append(List<OutboxEvent> events) {
+        if (events.isEmpty()) return;
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Outbox events must be written in the transaction of the change");
+        }
+        long sequence = reserve(events.size()) - events.size() + 1;
+        for (OutboxEvent event : events) {
+            event.setSequenceNumber(sequence++);
+            entityManager.persist(event);
+        }
+    }
+
+    public static OutboxEvent event(OutboxEventType type, KeynoteResponseDTO keynote) {
+        return OutboxEvent.builder()
+                .eventType(type)
+                .keynoteId(keynote.getId())
+                .nom(keynote.getNom())
+                .prenom(keynote.getPrenom())
+                .email(keynote.getEmail())
+                .fonction(keynote.getFonction())
+                .keynoteVersion(keynote.getVersion())
+                .createdAt(Instant.now())
+                .build();
+    }
+
+    // Événements de numéro > after, au plus limit, dernier numéro attribué et époque du flux
+    public OutboxPageDTO read(long after, Integer limit) {
+        int size = limit == null ? maxPageSize : Math.max(1, Math.min(limit, maxPageSize));
+        OutboxCounter counter = counterRepository.findById(OutboxCounter.ID).orElseThrow(KeynoteOutbox::missingCounter);
+        long head = counter.getLastSequence();
+        List<OutboxEventDTO> events = eventRepository
+                .findBySequenceNumberGreaterThanOrderBySequenceNumber(after, PageRequest.of(0, size))
+                .stream()
+                .map(KeynoteOutbox::toDTO)
+                .toList();
+        // Des événements ont pu être commités entre les deux lectures
+        if (!events.isEmpty()) head = Math.max(head, events.get(events.size() - 1).getSequence());
+        return OutboxPageDTO.builder().events(events).headSequence(head).epoch(counter.getEpoch()).build();
+    }
+
+    // ==================== Helper Methods ====================
+
+    private long reserve(int count) {
+        if (counterRepository.reserve(count) == 0) throw missingCounter();
+        return counterRepository.lastSequence().orElseThrow(KeynoteOutbox::missingCounter);
+    }
+
+    // La ligne est créée au démarrage : son absence est une erreur de schéma, pas un premier appel
+    public static IllegalStateException missingCounter() {
+        return new IllegalStateException("Outbox counter row " + OutboxCounter.ID + " is missing");
+    }
+
+    private static OutboxEventDTO toDTO(OutboxEvent event) {
+        return OutboxEventDTO.builder()
+                .sequence(event.getSequenceNumber())
+                .type(event.getEventType())
+                .keynoteId(event.getKeynoteId())
+                .nom(event.getNom())
+                .prenom(event.getPrenom())
+                .email(event.getEmail())
+                .fonction(event.getFonction())
+                .keynoteVersion(event.getKeynoteVersion())
+                .createdAt(event.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,30 @@
+package ma.enset.keynoteservice.reactive;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+
+/**
+ * Ligne de la table keynotes (schéma de l'entité JPA Keynote) lue et écrite par R2DBC
+ * en mode réactif.
+ */
+@Table("keynotes")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KeynoteRow {
+    @Id
+    private Long id;
+    private String nom;
+    private String prenom;
+    private String email;
+    private String fonction;
+    @Version
+    private Long version;
+    private Instant lastModified;
+}
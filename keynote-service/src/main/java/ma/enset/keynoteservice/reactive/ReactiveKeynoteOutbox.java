@@ -0,0 +1,82 @@
+package ma.enset.keynoteservice.reactive;
+
+import lombok.RequiredArgsConstructor;
+import ma.enset.keynoteservice.entities.OutboxCounter;
+import ma.enset.keynoteservice.entities.OutboxEvent;
+import ma.enset.keynoteservice.enums.OutboxEventType;
+import ma.enset.keynoteservice.outbox.KeynoteOutbox;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+/**
+ * Équivalent R2DBC de KeynoteOutbox pour le mode réactif : mêmes tables, même compteur, donc un
+ * seul flux d'événements quel que soit le mode. À appeler dans la transaction R2DBC du changement.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveKeynoteOutbox {
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Void> upserted(KeynoteRow row) {
+        return append(OutboxEvent.builder()
+                .eventType(OutboxEventType.UPSERTED)
+                .keynoteId(row.getId())
+                .nom(row.getNom())
+                .prenom(row.getPrenom())
+                .email(row.getEmail())
+                .fonction(row.getFonction())
+                .keynoteVersion(row.getVersion())
+                .createdAt(Instant.now())
+                .build());
+    }
+
+    public Mono<Void> deleted(Long keynoteId) {
+        return append(OutboxEvent.builder()
+                .eventType(OutboxEventType.DELETED)
+                .keynoteId(keynoteId)
+                .createdAt(Instant.now())
+                .build());
+    }
+
+    private Mono<Void> append(OutboxEvent event) {
+        return reserve()
+                .flatMap(sequence -> {
+                    DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("insert into keynote_outbox "
+                                    + "(sequence_number, event_type, keynote_id, nom, prenom, email, fonction, keynote_version, created_at) "
+                                    + "values (:sequence, :type, :keynoteId, :nom, :prenom, :email, :fonction, :version, :createdAt)")
+                            .bind("sequence", sequence)
+                            .bind("type", event.getEventType().name())
+                            .bind("keynoteId", event.getKeynoteId())
+                            .bind("createdAt", event.getCreatedAt());
+                    spec = bind(spec, "nom", event.getNom(), String.class);
+                    spec = bind(spec, "prenom", event.getPrenom(), String.class);
+                    spec = bind(spec, "email", event.getEmail(), String.class);
+                    spec = bind(spec, "fonction", event.getFonction(), String.class);
+                    spec = bind(spec, "version", event.getKeynoteVersion(), Long.class);
+                    return spec.then();
+                });
+    }
+
+    // Incrément sous verrou de ligne (gardé jusqu'au commit), puis lecture du numéro attribué ;
+    // la ligne est créée au démarrage par KeynoteOutbox
+    private Mono<Long> reserve() {
+        return databaseClient.sql("update keynote_outbox_counter set last_sequence = last_sequence + 1 where id = " + OutboxCounter.ID)
+                .fetch()
+                .rowsUpdated()
+                .flatMap(updated -> updated > 0 ? Mono.empty() : Mono.error(KeynoteOutbox.missingCounter()))
+                .then(databaseClient.sql("select last_sequence from keynote_outbox_counter where id = " + OutboxCounter.ID)
+                        .map(row -> row.get(0, Long.class))
+                        .one());
+    }
+
+    private static <T> DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec, String name,
+                                                              T value, Class<T> type) {
+        return value != null ? spec.bind(name, value) : spec.bindNull(name, type);
+    }
+}
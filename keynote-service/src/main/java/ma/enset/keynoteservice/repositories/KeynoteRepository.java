@@ -1,11 +1,52 @@
 package ma.enset.keynoteservice.repositories;
 
+import jakarta.persistence.QueryHint;
 import ma.enset.keynoteservice.entities.Keynote;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+// Non exporté par Data REST : toute écriture passe par KeynoteService (outbox, index d'autocomplétion)
+@RepositoryRestResource(exported = false)
 public interface KeynoteRepository extends JpaRepository<Keynote, Long> {
     Optional<Keynote> findByEmail(String email);
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+    // Upsert massif : résolution des emails d'un lot en une requête
+    List<Keynote> findByEmailIn(Collection<String> emails);
+
+    // Version seule, pour répondre 304 sans charger le keynote
+    interface VersionView {
+        Long getVersion();
+        Instant getLastModified();
+    }
+
+    Optional<VersionView> findVersionById(Long id);
+
+    // Reconstruction de l'index d'autocomplétion : colonnes seules, aucune entité gérée
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select k.id, k.nom, k.prenom, k.email, k.fonction, k.version from Keynote k")
+    Stream<Object[]> streamIndexRows();
+
+    // Minuscules sans accents côté base, comme KeynoteSearchIndex.normalize (lettres latines courantes)
+    String FOLD_FROM = "àáâãäåçèéêëìíîïñòóôõöùúûüýÿ";
+    String FOLD_TO = "aaaaaaceeeeiiiinooooouuuuyy";
+
+    // Préfixe déjà normalisé de nom, prénom ou email ; SQL natif partagé avec le mode réactif
+    String PREFIX_MATCH = "translate(lower(nom), '" + FOLD_FROM + "', '" + FOLD_TO + "') like concat(:prefix, '%') "
+            + "or translate(lower(prenom), '" + FOLD_FROM + "', '" + FOLD_TO + "') like concat(:prefix, '%') "
+            + "or translate(lower(email), '" + FOLD_FROM + "', '" + FOLD_TO + "') like concat(:prefix, '%')";
+
+    // Autocomplétion tant que l'index n'est pas prêt : mêmes correspondances que l'index
+    @Query(nativeQuery = true, value = "select * from keynotes where " + PREFIX_MATCH + " order by nom, prenom")
+    List<Keynote> findByPrefix(@Param("prefix") String prefix, Pageable pageable);
+}
@@ -0,0 +1,23 @@
+package ma.enset.keynoteservice.repositories;
+
+import ma.enset.keynoteservice.entities.OutboxCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+
+import java.util.Optional;
+
+// Non exporté par Data REST : les numéros de séquence ne se modifient que via KeynoteOutbox
+@RepositoryRestResource(exported = false)
+public interface OutboxCounterRepository extends JpaRepository<OutboxCounter, Integer> {
+
+    // Réserve count numéros ; verrou de ligne jusqu'au commit
+    @Modifying(flushAutomatically = true)
+    @Query("update OutboxCounter c set c.lastSequence = c.lastSequence + :count where c.id = " + OutboxCounter.ID)
+    int reserve(@Param("count") long count);
+
+    @Query("select c.lastSequence from OutboxCounter c where c.id = " + OutboxCounter.ID)
+    Optional<Long> lastSequence();
+}
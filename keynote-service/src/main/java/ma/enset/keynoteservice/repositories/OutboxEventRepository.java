@@ -0,0 +1,14 @@
+package ma.enset.keynoteservice.repositories;
+
+import ma.enset.keynoteservice.entities.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+
+import java.util.List;
+
+// Non exporté par Data REST : lecture seule via GET /api/keynotes/outbox
+@RepositoryRestResource(exported = false)
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    List<OutboxEvent> findBySequenceNumberGreaterThanOrderBySequenceNumber(Long after, Pageable pageable);
+}
@@ -0,0 +1,214 @@
+package ma.enset.keynoteservice.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import ma.enset.keynoteservice.dto.KeynoteResponseDTO;
+import ma.enset.keynoteservice.repositories.KeynoteRepository;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Index de préfixes des keynotes tenu en mémoire pour l'autocomplétion : un ensemble trié de
+ * clés normalisées (minuscules, sans accents) -> id. Les clés d'un keynote sont son nom, son
+ * prénom, son email, "prénom nom" et "nom prénom". Une recherche se positionne sur le premier
+ * terme >= préfixe (O(log n)) et lit les termes suivants tant qu'ils commencent par le préfixe,
+ * jusqu'à K keynotes distincts : le coût ne dépend pas du nombre de keynotes.
+ *
+ * Comme pour les écritures, les mises à jour sont appliquées après commit. L'index est
+ * reconstruit depuis la base au démarrage, en arrière-plan (par JPA, ou par R2DBC en mode
+ * réactif) : tant qu'il n'est pas prêt, {@link #isReady()} est faux et l'autocomplétion passe
+ * par la base.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class KeynoteSearchIndex {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    private final KeynoteRepository repository;
+    private final TransactionTemplate transactionTemplate;
+
+    // Keynote courant par id ; null = supprimé (tombstone gardée pendant la reconstruction)
+    private final Map<Long, Slot> entries = new ConcurrentHashMap<>();
+    private final NavigableSet<Term> terms = new ConcurrentSkipListSet<>(Term.ORDER);
+
+    private volatile boolean ready;
+
+    private record Slot(KeynoteResponseDTO keynote, List<Term> terms) {
+    }
+
+    private record Term(String key, long id) {
+        static final Comparator<Term> ORDER = Comparator.comparing(Term::key).thenComparingLong(Term::id);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Au plus limit keynotes dont une clé commence par query, dans l'ordre alphabétique des clés
+    public List<KeynoteResponseDTO> suggest(String query, int limit) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty()) return List.of();
+        Set<Long> ids = new LinkedHashSet<>();
+        for (Term term : terms.tailSet(new Term(prefix, Long.MIN_VALUE), true)) {
+            if (!term.key().startsWith(prefix) || ids.size() >= limit) break;
+            ids.add(term.id());
+        }
+        List<KeynoteResponseDTO> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Slot slot = entries.get(id);
+            if (slot != null && slot.keynote() != null) result.add(slot.keynote());
+        }
+        return result;
+    }
+
+    public void update(KeynoteResponseDTO keynote) {
+        afterCommit(() -> put(keynote.getId(), keynote));
+    }
+
+    public void remove(Long id) {
+        afterCommit(() -> put(id, null));
+    }
+
+    // Minuscules, sans accents, espaces réduits : "  Élodie   MARTIN" -> "elodie martin"
+    public static String normalize(String text) {
+        if (text == null) return "";
+        String stripped = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return SPACES.matcher(stripped.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    // ==================== Reconstruction ====================
+
+    // ApplicationReadyEvent est publié avant le passage à ACCEPTING_TRAFFIC : ne pas le bloquer.
+    // En mode réactif, ReactiveKeynoteServiceImpl reconstruit l'index par R2DBC.
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup(ApplicationReadyEvent event) {
+        if (event.getSpringApplication().getWebApplicationType() == WebApplicationType.REACTIVE) return;
+        Thread.ofVirtual().name("keynote-index-rebuild").start(() -> {
+            try {
+                rebuild();
+            } catch (Exception e) {
+                log.error("Keynote index rebuild failed, autocomplete stays on the database", e);
+            }
+        });
+    }
+
+    /**
+     * Charge tous les keynotes sans écraser les entrées déjà mises à jour (ou supprimées) par des
+     * commits survenus pendant la lecture.
+     */
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        clear();
+        long[] loaded = {0};
+        transactionTemplate.execute(status -> {
+            try (Stream<Object[]> rows = repository.streamIndexRows()) {
+                rows.forEach(row -> {
+                    load(KeynoteResponseDTO.builder()
+                            .id((Long) row[0]).nom((String) row[1]).prenom((String) row[2])
+                            .email((String) row[3]).fonction((String) row[4]).version((Long) row[5])
+                            .build());
+                    loaded[0]++;
+                });
+            }
+            return null;
+        });
+        complete(loaded[0], start);
+    }
+
+    // Même reconstruction à partir d'un flux non bloquant (R2DBC en mode réactif)
+    public Mono<Void> rebuild(Flux<KeynoteResponseDTO> keynotes) {
+        return Mono.defer(() -> {
+            long start = System.currentTimeMillis();
+            clear();
+            return keynotes.doOnNext(this::load)
+                    .count()
+                    .doOnNext(loaded -> complete(loaded, start))
+                    .then();
+        });
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void clear() {
+        ready = false;
+        entries.clear();
+        terms.clear();
+    }
+
+    private void load(KeynoteResponseDTO keynote) {
+        entries.computeIfAbsent(keynote.getId(), id -> index(keynote));
+    }
+
+    private void complete(long loaded, long start) {
+        entries.values().removeIf(slot -> slot.keynote() == null);
+        ready = true;
+        log.info("Keynote index rebuilt with {} keynote(s) in {} ms", loaded, System.currentTimeMillis() - start);
+    }
+
+    private void put(Long id, KeynoteResponseDTO keynote) {
+        entries.compute(id, (key, previous) -> {
+            // Les callbacks après commit de deux transactions peuvent s'exécuter dans le désordre
+            if (keynote != null && previous != null && previous.keynote() != null
+                    && previous.keynote().getVersion() != null && keynote.getVersion() != null
+                    && previous.keynote().getVersion() > keynote.getVersion()) {
+                return previous;
+            }
+            if (previous != null) previous.terms().forEach(terms::remove);
+            if (keynote != null) return index(keynote);
+            // Hors reconstruction, une suppression libère la clé
+            return ready ? null : new Slot(null, List.of());
+        });
+    }
+
+    private Slot index(KeynoteResponseDTO keynote) {
+        String nom = normalize(keynote.getNom());
+        String prenom = normalize(keynote.getPrenom());
+        Set<String> keys = new LinkedHashSet<>(List.of(nom, prenom, normalize(keynote.getEmail()),
+                prenom + " " + nom, nom + " " + prenom));
+        List<Term> added = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            if (key.isBlank()) continue;
+            Term term = new Term(key, keynote.getId());
+            terms.add(term);
+            added.add(term);
+        }
+        return new Slot(keynote, added);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
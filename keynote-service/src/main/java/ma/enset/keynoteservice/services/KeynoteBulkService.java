@@ -0,0 +1,10 @@
+package ma.enset.keynoteservice.services;
+
+import ma.enset.keynoteservice.dto.KeynoteRequestDTO;
+import ma.enset.keynoteservice.dto.KeynoteUpsertReportDTO;
+
+import java.util.List;
+
+public interface KeynoteBulkService {
+    KeynoteUpsertReportDTO upsertAll(List<KeynoteRequestDTO> rows);
+}
@@ -0,0 +1,217 @@
+package ma.enset.keynoteservice.services;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import ma.enset.keynoteservice.dto.KeynoteRequestDTO;
+import ma.enset.keynoteservice.dto.KeynoteResponseDTO;
+import ma.enset.keynoteservice.dto.KeynoteUpsertReportDTO;
+import ma.enset.keynoteservice.dto.KeynoteUpsertResultDTO;
+import ma.enset.keynoteservice.entities.Keynote;
+import ma.enset.keynoteservice.entities.OutboxEvent;
+import ma.enset.keynoteservice.enums.OutboxEventType;
+import ma.enset.keynoteservice.enums.UpsertStatus;
+import ma.enset.keynoteservice.mappers.KeynoteMapper;
+import ma.enset.keynoteservice.outbox.KeynoteOutbox;
+import ma.enset.keynoteservice.repositories.KeynoteRepository;
+import ma.enset.keynoteservice.search.KeynoteSearchIndex;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Upsert massif de keynotes identifiés par leur email (synchronisation depuis le CRM) : par lot,
+ * une requête "where email in (...)" résout les keynotes existants, puis les INSERT (ids par
+ * séquence) et les UPDATE partent en batch JDBC au flush, dans une transaction par lot.
+ *
+ * Si un lot échoue (typiquement un email inséré entre-temps par une autre requête), il est
+ * rejoué ligne par ligne : chaque ligne est alors résolue à nouveau, et seule la ligne fautive
+ * est marquée FAILED.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class KeynoteBulkServiceImpl implements KeynoteBulkService {
+
+    private final KeynoteRepository repository;
+    private final KeynoteMapper mapper;
+    private final KeynoteSearchIndex searchIndex;
+    private final KeynoteOutbox outbox;
+    private final TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${keynote.bulk.batch-size:500}")
+    private int batchSize;
+
+    private record Row(int index, KeynoteRequestDTO dto) {
+    }
+
+    @Override
+    public KeynoteUpsertReportDTO upsertAll(List<KeynoteRequestDTO> rows) {
+        long start = System.nanoTime();
+        KeynoteUpsertResultDTO[] results = new KeynoteUpsertResultDTO[rows.size()];
+        Set<String> emails = new HashSet<>();
+        List<Row> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < rows.size(); i++) {
+            KeynoteRequestDTO dto = rows.get(i);
+            String error = validate(dto);
+            if (error == null && !emails.add(dto.getEmail())) {
+                error = "Email en double dans la requête";
+            }
+            if (error != null) {
+                results[i] = failed(i, dto, error);
+                continue;
+            }
+            batch.add(new Row(i, dto));
+            if (batch.size() >= batchSize) {
+                writeBatch(batch, results);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            writeBatch(batch, results);
+        }
+        return report(results, start);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void writeBatch(List<Row> batch, KeynoteUpsertResultDTO[] results) {
+        try {
+            transactionTemplate.execute(status -> upsert(batch))
+                    .forEach(result -> results[result.getIndex()] = result);
+        } catch (RuntimeException batchFailure) {
+            log.warn("Keynote upsert batch of {} rows failed, retrying row by row: {}", batch.size(), batchFailure.getMessage());
+            for (Row row : batch) {
+                try {
+                    results[row.index()] = transactionTemplate.execute(status -> upsert(List.of(row))).get(0);
+                } catch (RuntimeException e) {
+                    log.warn("Keynote upsert of row {} failed: {}", row.index(), e.getMessage());
+                    results[row.index()] = failed(row.index(), row.dto(), failureMessage(e));
+                }
+            }
+        }
+    }
+
+    // Une requête pour les emails du lot, puis un flush batché ; aucune écriture si rien ne change
+    private List<KeynoteUpsertResultDTO> upsert(List<Row> batch) {
+        Map<String, Keynote> existing = repository.findByEmailIn(batch.stream().map(row -> row.dto().getEmail()).toList())
+                .stream()
+                .collect(Collectors.toMap(Keynote::getEmail, Function.identity()));
+        List<Keynote> keynotes = new ArrayList<>(batch.size());
+        List<UpsertStatus> statuses = new ArrayList<>(batch.size());
+        for (Row row : batch) {
+            Keynote k = existing.get(row.dto().getEmail());
+            if (k == null) {
+                k = mapper.toEntity(row.dto());
+                entityManager.persist(k);
+                statuses.add(UpsertStatus.CREATED);
+            } else if (sameAs(k, row.dto())) {
+                statuses.add(UpsertStatus.UNCHANGED);
+            } else {
+                mapper.update(k, row.dto());
+                statuses.add(UpsertStatus.UPDATED);
+            }
+            keynotes.add(k);
+        }
+        // INSERT et UPDATE (versionnés) envoyés par lots JDBC ; les versions sont à jour après le flush
+        entityManager.flush();
+
+        List<KeynoteUpsertResultDTO> results = new ArrayList<>(batch.size());
+        List<OutboxEvent> events = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            Keynote k = keynotes.get(i);
+            UpsertStatus status = statuses.get(i);
+            if (status != UpsertStatus.UNCHANGED) {
+                KeynoteResponseDTO dto = mapper.toDTO(k);
+                events.add(KeynoteOutbox.event(OutboxEventType.UPSERTED, dto));
+                searchIndex.update(dto);
+            }
+            results.add(KeynoteUpsertResultDTO.builder()
+                    .index(batch.get(i).index())
+                    .email(k.getEmail())
+                    .status(status)
+                    .id(k.getId())
+                    .version(k.getVersion())
+                    .build());
+        }
+        // Événements du lot dans la même transaction, numéros réservés en une fois
+        outbox.append(events);
+        entityManager.flush();
+        entityManager.clear();
+        return results;
+    }
+
+    /**
+     * Message renvoyé au client pour une ligne en échec. Le flush est appelé directement sur
+     * l'EntityManager : les erreurs arrivent non traduites (PersistenceException de Hibernate),
+     * d'où le parcours des causes. Le message SQL brut reste dans les logs.
+     */
+    private static String failureMessage(RuntimeException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DataIntegrityViolationException || cause instanceof ConstraintViolationException) {
+                return "Email déjà utilisé";
+            }
+            if (cause instanceof OptimisticLockException || cause instanceof OptimisticLockingFailureException) {
+                return "Keynote modifié entre-temps, réessayer";
+            }
+        }
+        return "Ligne rejetée par la base de données";
+    }
+
+    private static boolean sameAs(Keynote k, KeynoteRequestDTO dto) {
+        return Objects.equals(k.getNom(), dto.getNom())
+                && Objects.equals(k.getPrenom(), dto.getPrenom())
+                && Objects.equals(k.getFonction(), dto.getFonction());
+    }
+
+    // Mêmes règles que la création unitaire ; l'email est la clé, espaces retirés
+    private static String validate(KeynoteRequestDTO dto) {
+        if (dto == null) return "Ligne vide";
+        if (dto.getNom() == null || dto.getNom().isEmpty()) return "Nom obligatoire";
+        if (dto.getPrenom() == null || dto.getPrenom().isEmpty()) return "Prenom obligatoire";
+        if (dto.getEmail() == null || dto.getEmail().isBlank()) return "Email obligatoire";
+        dto.setEmail(dto.getEmail().trim());
+        return null;
+    }
+
+    private static KeynoteUpsertResultDTO failed(int index, KeynoteRequestDTO dto, String message) {
+        return KeynoteUpsertResultDTO.builder()
+                .index(index)
+                .email(dto != null ? dto.getEmail() : null)
+                .status(UpsertStatus.FAILED)
+                .message(message)
+                .build();
+    }
+
+    private KeynoteUpsertReportDTO report(KeynoteUpsertResultDTO[] results, long start) {
+        Map<UpsertStatus, Long> counts = Arrays.stream(results)
+                .collect(Collectors.groupingBy(KeynoteUpsertResultDTO::getStatus, () -> new EnumMap<>(UpsertStatus.class), Collectors.counting()));
+        long durationNanos = Math.max(1, System.nanoTime() - start);
+        KeynoteUpsertReportDTO report = KeynoteUpsertReportDTO.builder()
+                .totalRows(results.length)
+                .created(counts.getOrDefault(UpsertStatus.CREATED, 0L).intValue())
+                .updated(counts.getOrDefault(UpsertStatus.UPDATED, 0L).intValue())
+                .unchanged(counts.getOrDefault(UpsertStatus.UNCHANGED, 0L).intValue())
+                .failed(counts.getOrDefault(UpsertStatus.FAILED, 0L).intValue())
+                .durationMillis(durationNanos / 1_000_000)
+                .rowsPerSecond(results.length * 1_000_000_000.0 / durationNanos)
+                .results(Arrays.asList(results))
+                .build();
+        log.info("Keynote upsert finished: {} rows, {} created, {} updated, {} unchanged, {} failed in {} ms",
+                report.getTotalRows(), report.getCreated(), report.getUpdated(), report.getUnchanged(),
+                report.getFailed(), report.getDurationMillis());
+        return report;
+    }
+}
@@ -2,13 +2,17 @@ package ma.enset.keynoteservice.services;
 
 import ma.enset.keynoteservice.dto.KeynoteRequestDTO;
 import ma.enset.keynoteservice.dto.KeynoteResponseDTO;
+import ma.enset.keynoteservice.repositories.KeynoteRepository;
 
 import java.util.List;
 
 public interface KeynoteService {
     List<KeynoteResponseDTO> findAll();
     KeynoteResponseDTO findById(Long id);
+    List<KeynoteResponseDTO> findAllByIds(List<Long> ids);
     KeynoteResponseDTO save(KeynoteRequestDTO dto);
-    KeynoteResponseDTO update(Long id, KeynoteRequestDTO dto);
-    void delete(Long id);
+    KeynoteResponseDTO update(Long id, KeynoteRequestDTO dto, Long expectedVersion);
+    void delete(Long id, Long expectedVersion);
+    KeynoteRepository.VersionView findVersion(Long id);
+    List<KeynoteResponseDTO> autocomplete(String query, Integer limit);
 }
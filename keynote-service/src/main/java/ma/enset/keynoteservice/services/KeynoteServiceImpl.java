@@ -5,10 +5,19 @@ import ma.enset.keynoteservice.dto.KeynoteRequestDTO;
 import ma.enset.keynoteservice.dto.KeynoteResponseDTO;
 import ma.enset.keynoteservice.entities.Keynote;
 import ma.enset.keynoteservice.mappers.KeynoteMapper;
+import ma.enset.keynoteservice.outbox.KeynoteOutbox;
 import ma.enset.keynoteservice.repositories.KeynoteRepository;
+import ma.enset.keynoteservice.search.KeynoteSearchIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -16,6 +25,12 @@ public class KeynoteServiceImpl implements KeynoteService {
 
     private final KeynoteRepository repository;
     private final KeynoteMapper mapper;
+    private final KeynoteSearchIndex searchIndex;
+    private final KeynoteOutbox outbox;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${keynote.autocomplete.max-results:20}")
+    private int maxAutocompleteResults;
 
     private void validate(KeynoteRequestDTO dto) {
         if (dto.getNom() == null || dto.getNom().isEmpty())
@@ -41,27 +56,96 @@ public class KeynoteServiceImpl implements KeynoteService {
         return mapper.toDTO(k);
     }
 
+    @Override
+    public List<KeynoteResponseDTO> findAllByIds(List<Long> ids) {
+        // Une seule requête "where id in (...)" quel que soit le nombre d'ids
+        return repository.findAllById(ids.stream().distinct().toList())
+                .stream()
+                .map(mapper::toDTO)
+                .toList();
+    }
+
     @Override
     public KeynoteResponseDTO save(KeynoteRequestDTO dto) {
         validate(dto);
         if (repository.existsByEmail(dto.getEmail()))
-            throw new RuntimeException("Email déjà utilisé");
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Email déjà utilisé");
 
-        return mapper.toDTO(repository.save(mapper.toEntity(dto)));
+        // Deux créations concurrentes du même email passent toutes deux le test ci-dessus :
+        // la contrainte unique tranche au flush, la perdante reçoit la même erreur 409
+        try {
+            return transactionTemplate.execute(status -> {
+                KeynoteResponseDTO saved = mapper.toDTO(repository.saveAndFlush(mapper.toEntity(dto)));
+                outbox.upserted(saved);
+                searchIndex.update(saved);
+                return saved;
+            });
+        } catch (DataIntegrityViolationException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Email déjà utilisé");
+        }
     }
 
     @Override
-    public KeynoteResponseDTO update(Long id, KeynoteRequestDTO dto) {
+    public KeynoteResponseDTO update(Long id, KeynoteRequestDTO dto, Long expectedVersion) {
         validate(dto);
-        Keynote k = repository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Keynote introuvable"));
+        return transactionTemplate.execute(status -> {
+            Keynote k = repository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("Keynote introuvable"));
+            checkVersion(k, expectedVersion);
 
-        mapper.update(k, dto);
-        return mapper.toDTO(repository.save(k));
+            mapper.update(k, dto);
+            // Flush immédiat : la version renvoyée (ETag) est celle qui vient d'être écrite
+            KeynoteResponseDTO updated = mapper.toDTO(repository.saveAndFlush(k));
+            outbox.upserted(updated);
+            searchIndex.update(updated);
+            return updated;
+        });
     }
 
     @Override
-    public void delete(Long id) {
-        repository.deleteById(id);
+    public void delete(Long id, Long expectedVersion) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Optional<Keynote> keynote = repository.findById(id);
+            if (expectedVersion != null) {
+                checkVersion(keynote.orElseThrow(() -> new RuntimeException("Keynote introuvable")), expectedVersion);
+            }
+            // Pas d'événement pour un keynote déjà absent
+            keynote.ifPresent(k -> {
+                repository.delete(k);
+                outbox.deleted(id);
+                searchIndex.remove(id);
+            });
+        });
+    }
+
+    @Override
+    public KeynoteRepository.VersionView findVersion(Long id) {
+        return repository.findVersionById(id)
+                .orElseThrow(() -> new RuntimeException("Keynote introuvable"));
+    }
+
+    /**
+     * Autocomplétion (nom, prénom, email) servie par l'index de préfixes en mémoire ; pendant sa
+     * reconstruction au démarrage, par une requête LIKE 'préfixe%' en base.
+     */
+    @Override
+    public List<KeynoteResponseDTO> autocomplete(String query, Integer limit) {
+        int k = limit == null ? 10 : Math.max(1, Math.min(limit, maxAutocompleteResults));
+        if (searchIndex.isReady()) {
+            return searchIndex.suggest(query, k);
+        }
+        String prefix = KeynoteSearchIndex.normalize(query);
+        if (prefix.isEmpty()) return List.of();
+        return repository.findByPrefix(prefix, PageRequest.of(0, k))
+                .stream()
+                .map(mapper::toDTO)
+                .toList();
+    }
+
+    // If-Match : la version lue par le client doit être la version courante
+    private void checkVersion(Keynote k, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(k.getVersion()))
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED,
+                    "Keynote modifié entre-temps (version courante : " + k.getVersion() + ")");
     }
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package ma.enset.keynoteservice.services;
+
+import ma.enset.keynoteservice.dto.KeynoteRequestDTO;
+import ma.enset.keynoteservice.dto.KeynoteResponseDTO;
+import ma.enset.keynoteservice.reactive.KeynoteRow;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface ReactiveKeynoteService {
+    Flux<KeynoteResponseDTO> findAll();
+    Mono<KeynoteRow> findById(Long id);
+    Flux<KeynoteResponseDTO> findAllByIds(List<Long> ids);
+    Mono<KeynoteResponseDTO> save(KeynoteRequestDTO dto);
+    Mono<KeynoteResponseDTO> update(Long id, KeynoteRequestDTO dto, Long expectedVersion);
+    Mono<Void> delete(Long id, Long expectedVersion);
+    Mono<List<KeynoteResponseDTO>> autocomplete(String query, Integer limit);
+    KeynoteResponseDTO toDTO(KeynoteRow row);
+}
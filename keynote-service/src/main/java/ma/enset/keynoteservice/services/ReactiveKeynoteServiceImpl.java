@@ -0,0 +1,201 @@
+package ma.enset.keynoteservice.services;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import ma.enset.keynoteservice.dto.KeynoteRequestDTO;
+import ma.enset.keynoteservice.dto.KeynoteResponseDTO;
+import ma.enset.keynoteservice.reactive.KeynoteRow;
+import ma.enset.keynoteservice.reactive.ReactiveKeynoteOutbox;
+import ma.enset.keynoteservice.repositories.KeynoteRepository;
+import ma.enset.keynoteservice.search.KeynoteSearchIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.springframework.data.relational.core.query.Criteria.where;
+import static org.springframework.data.relational.core.query.Query.query;
+
+/**
+ * Même logique que KeynoteServiceImpl, de bout en bout non bloquante (R2DBC) : actif seulement
+ * en mode réactif (spring.main.web-application-type=reactive, profil "reactive").
+ *
+ * Chaque écriture et son événement d'outbox partagent une transaction R2DBC.
+ * Les ids viennent de la séquence keynotes_seq utilisée par JPA : une valeur par insertion,
+ * dans la plage que l'optimiseur pooled de Hibernate réserve à cette valeur, donc sans
+ * collision avec les ids attribués par l'upsert massif.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveKeynoteServiceImpl implements ReactiveKeynoteService {
+
+    private final R2dbcEntityTemplate template;
+    private final KeynoteSearchIndex searchIndex;
+    private final ReactiveKeynoteOutbox outbox;
+    private final TransactionalOperator transactionalOperator;
+
+    @Value("${keynote.autocomplete.max-results:20}")
+    private int maxAutocompleteResults;
+
+    private void validate(KeynoteRequestDTO dto) {
+        if (dto.getNom() == null || dto.getNom().isEmpty())
+            throw new RuntimeException("Nom obligatoire");
+        if (dto.getPrenom() == null || dto.getPrenom().isEmpty())
+            throw new RuntimeException("Prenom obligatoire");
+        if (dto.getEmail() == null || dto.getEmail().isEmpty())
+            throw new RuntimeException("Email obligatoire");
+    }
+
+    // Index d'autocomplétion reconstruit par R2DBC, sans JPA ; r2dbc-h2 s'exécute sur le thread
+    // abonné : hors du thread qui publie ApplicationReadyEvent
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndexOnStartup() {
+        searchIndex.rebuild(findAll())
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(null, e -> log.error("Keynote index rebuild failed, autocomplete stays on the database", e));
+    }
+
+    @Override
+    public Flux<KeynoteResponseDTO> findAll() {
+        return template.select(KeynoteRow.class).all().map(this::toDTO);
+    }
+
+    @Override
+    public Mono<KeynoteRow> findById(Long id) {
+        return template.selectOne(query(where("id").is(id)), KeynoteRow.class)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Keynote introuvable")));
+    }
+
+    @Override
+    public Flux<KeynoteResponseDTO> findAllByIds(List<Long> ids) {
+        // Une seule requête "where id in (...)" quel que soit le nombre d'ids
+        return template.select(query(where("id").in(ids.stream().distinct().toList())), KeynoteRow.class)
+                .map(this::toDTO);
+    }
+
+    @Override
+    public Mono<KeynoteResponseDTO> save(KeynoteRequestDTO dto) {
+        return Mono.fromRunnable(() -> validate(dto))
+                .then(template.exists(query(where("email").is(dto.getEmail())), KeynoteRow.class))
+                .flatMap(exists -> exists ? Mono.<Long>error(emailConflict()) : nextId())
+                .flatMap(id -> template.insert(KeynoteRow.builder()
+                        .id(id)
+                        .nom(dto.getNom())
+                        .prenom(dto.getPrenom())
+                        .email(dto.getEmail())
+                        .fonction(dto.getFonction())
+                        .lastModified(Instant.now())
+                        .build()))
+                // Événement d'outbox dans la même transaction que l'insertion
+                .flatMap(row -> outbox.upserted(row).thenReturn(row))
+                .as(transactionalOperator::transactional)
+                // Création concurrente du même email : la contrainte unique tranche
+                .onErrorMap(DataIntegrityViolationException.class, e -> emailConflict())
+                .map(this::toDTO)
+                .doOnNext(searchIndex::update);
+    }
+
+    @Override
+    public Mono<KeynoteResponseDTO> update(Long id, KeynoteRequestDTO dto, Long expectedVersion) {
+        return Mono.fromRunnable(() -> validate(dto))
+                .then(findById(id))
+                .flatMap(row -> {
+                    checkVersion(row, expectedVersion);
+                    row.setNom(dto.getNom());
+                    row.setPrenom(dto.getPrenom());
+                    row.setEmail(dto.getEmail());
+                    row.setFonction(dto.getFonction());
+                    row.setLastModified(Instant.now());
+                    // "where version = ?" : OptimisticLockingFailureException si modifié entre-temps
+                    return template.update(row);
+                })
+                .flatMap(row -> outbox.upserted(row).thenReturn(row))
+                .as(transactionalOperator::transactional)
+                // Même traduction que KeynoteExceptionHandler en mode MVC : 412 avec If-Match, 409 sinon
+                .onErrorMap(OptimisticLockingFailureException.class, e -> new ResponseStatusException(
+                        expectedVersion != null ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT,
+                        "Keynote modifié entre-temps, relire puis réessayer"))
+                .onErrorMap(DataIntegrityViolationException.class, e -> emailConflict())
+                .map(this::toDTO)
+                .doOnNext(searchIndex::update);
+    }
+
+    @Override
+    public Mono<Void> delete(Long id, Long expectedVersion) {
+        Mono<Void> check = expectedVersion == null ? Mono.empty()
+                : findById(id).doOnNext(row -> checkVersion(row, expectedVersion)).then();
+        return check
+                .then(template.delete(query(where("id").is(id)), KeynoteRow.class))
+                // Pas d'événement pour un keynote déjà absent
+                .flatMap(deleted -> deleted > 0 ? outbox.deleted(id).thenReturn(true) : Mono.just(false))
+                .as(transactionalOperator::transactional)
+                .doOnNext(deleted -> {
+                    if (deleted) searchIndex.remove(id);
+                })
+                .then();
+    }
+
+    // Index en mémoire : aucune E/S ; pendant sa reconstruction, LIKE 'préfixe%' par R2DBC
+    @Override
+    public Mono<List<KeynoteResponseDTO>> autocomplete(String query, Integer limit) {
+        int k = limit == null ? 10 : Math.max(1, Math.min(limit, maxAutocompleteResults));
+        if (searchIndex.isReady()) {
+            return Mono.just(searchIndex.suggest(query, k));
+        }
+        String prefix = KeynoteSearchIndex.normalize(query);
+        if (prefix.isEmpty()) return Mono.just(List.of());
+        return template.getDatabaseClient()
+                .sql("select * from keynotes where (" + KeynoteRepository.PREFIX_MATCH + ") order by nom, prenom limit :limit")
+                .bind("prefix", prefix)
+                .bind("limit", k)
+                .mapProperties(KeynoteRow.class)
+                .all()
+                .map(this::toDTO)
+                .collectList();
+    }
+
+    @Override
+    public KeynoteResponseDTO toDTO(KeynoteRow row) {
+        return KeynoteResponseDTO.builder()
+                .id(row.getId())
+                .nom(row.getNom())
+                .prenom(row.getPrenom())
+                .email(row.getEmail())
+                .fonction(row.getFonction())
+                .version(row.getVersion())
+                .build();
+    }
+
+    private Mono<Long> nextId() {
+        return template.getDatabaseClient()
+                .sql("select next value for keynotes_seq")
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    // If-Match : la version lue par le client doit être la version courante
+    private void checkVersion(KeynoteRow row, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(row.getVersion()))
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED,
+                    "Keynote modifié entre-temps (version courante : " + row.getVersion() + ")");
+    }
+
+    private static ResponseStatusException emailConflict() {
+        return new ResponseStatusException(HttpStatus.CONFLICT, "Email déjà utilisé");
+    }
+}
@@ -0,0 +1,40 @@
+package ma.enset.keynoteservice.web;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Instant;
+
+/**
+ * ETags forts dérivés de @Version ("v3"), partagés par les contrôleurs MVC et réactif.
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String of(Long version) {
+        return "\"v" + version + "\"";
+    }
+
+    // null si If-Match absent ou "*" ; -1 (jamais égal à une version) si la valeur n'est pas un de nos ETags
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) return null;
+        String tag = ifMatch.trim();
+        if (!tag.startsWith("\"v") || !tag.endsWith("\"") || tag.length() < 4) return -1L;
+        try {
+            return Long.parseLong(tag.substring(2, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    // Le client revalide à chaque lecture (If-None-Match), sans retélécharger
+    static <T> ResponseEntity<T> ok(T body, Long version, Instant lastModified) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(of(version));
+        if (lastModified != null) builder.lastModified(lastModified);
+        return builder.body(body);
+    }
+}
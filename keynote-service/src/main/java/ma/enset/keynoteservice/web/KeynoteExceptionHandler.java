@@ -0,0 +1,30 @@
+package ma.enset.keynoteservice.web;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Écriture concurrente détectée au flush par @Version, après le contrôle If-Match du service :
+ * 412 si le client avait envoyé If-Match (sa version n'est plus la courante), 409 sinon.
+ */
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class KeynoteExceptionHandler {
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ProblemDetail> handleOptimisticLockingFailure(OptimisticLockingFailureException ex,
+                                                                        WebRequest webRequest) {
+        HttpStatus status = ETags.expectedVersion(webRequest.getHeader(HttpHeaders.IF_MATCH)) != null
+                ? HttpStatus.PRECONDITION_FAILED
+                : HttpStatus.CONFLICT;
+        return ResponseEntity.status(status)
+                .body(ProblemDetail.forStatusAndDetail(status, "Keynote modifié entre-temps, relire puis réessayer"));
+    }
+}
@@ -3,27 +3,66 @@ package ma.enset.keynoteservice.web;
 import lombok.RequiredArgsConstructor;
 import ma.enset.keynoteservice.dto.KeynoteRequestDTO;
 import ma.enset.keynoteservice.dto.KeynoteResponseDTO;
+import ma.enset.keynoteservice.dto.KeynoteUpsertReportDTO;
+import ma.enset.keynoteservice.dto.OutboxPageDTO;
+import ma.enset.keynoteservice.outbox.KeynoteOutbox;
+import ma.enset.keynoteservice.repositories.KeynoteRepository;
+import ma.enset.keynoteservice.services.KeynoteBulkService;
 import ma.enset.keynoteservice.services.KeynoteService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
+// Mode MVC (par défaut) ; en mode réactif, ReactiveKeynoteRestController expose le même contrat
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/keynotes")
 @RequiredArgsConstructor
 @CrossOrigin("*")
 public class KeynoteRestController {
 
     private final KeynoteService service;
+    private final KeynoteBulkService bulkService;
+    private final KeynoteOutbox outbox;
 
     @GetMapping
     public List<KeynoteResponseDTO> all() {
         return service.findAll();
     }
 
+    @GetMapping(params = "ids")
+    public List<KeynoteResponseDTO> byIds(@RequestParam List<Long> ids) {
+        return service.findAllByIds(ids);
+    }
+
+    // Autocomplétion : préfixe de nom, prénom ou email, sans casse ni accents
+    @GetMapping("/autocomplete")
+    public List<KeynoteResponseDTO> autocomplete(@RequestParam(defaultValue = "") String q,
+                                                 @RequestParam(required = false) Integer limit) {
+        return service.autocomplete(q, limit);
+    }
+
+    // Flux de changements pour les copies locales (conference-service) : événements de numéro > after
+    @GetMapping("/outbox")
+    public OutboxPageDTO outbox(@RequestParam(defaultValue = "0") long after,
+                                @RequestParam(required = false) Integer limit) {
+        return outbox.read(after, limit);
+    }
+
+    // GET conditionnel : 304 décidé sur la seule version, sans charger le keynote
     @GetMapping("/{id}")
-    public KeynoteResponseDTO one(@PathVariable Long id) {
-        return service.findById(id);
+    public ResponseEntity<KeynoteResponseDTO> one(@PathVariable Long id, WebRequest webRequest) {
+        KeynoteRepository.VersionView version = service.findVersion(id);
+        long lastModified = version.getLastModified() != null ? version.getLastModified().toEpochMilli() : -1;
+        if (webRequest.checkNotModified(ETags.of(version.getVersion()), lastModified)) {
+            return null;
+        }
+        KeynoteResponseDTO keynote = service.findById(id);
+        return ETags.ok(keynote, keynote.getVersion(), version.getLastModified());
     }
 
     @PostMapping
@@ -31,14 +70,24 @@ public class KeynoteRestController {
         return service.save(dto);
     }
 
+    // Upsert massif par email (synchro CRM) : un résultat par ligne, les lignes en erreur n'arrêtent pas le lot
+    @PostMapping("/bulk")
+    public KeynoteUpsertReportDTO bulkUpsert(@RequestBody List<KeynoteRequestDTO> rows) {
+        return bulkService.upsertAll(rows);
+    }
+
+    // If-Match (optionnel) : 412 si le keynote a changé depuis la lecture du client
     @PutMapping("/{id}")
-    public KeynoteResponseDTO update(@PathVariable Long id,
-                                     @RequestBody KeynoteRequestDTO dto) {
-        return service.update(id, dto);
+    public ResponseEntity<KeynoteResponseDTO> update(@PathVariable Long id,
+                                                     @RequestBody KeynoteRequestDTO dto,
+                                                     @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        KeynoteResponseDTO keynote = service.update(id, dto, ETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(keynote.getVersion())).body(keynote);
     }
 
     @DeleteMapping("/{id}")
-    public void delete(@PathVariable Long id) {
-        service.delete(id);
+    public void delete(@PathVariable Long id,
+                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        service.delete(id, ETags.expectedVersion(ifMatch));
     }
 }
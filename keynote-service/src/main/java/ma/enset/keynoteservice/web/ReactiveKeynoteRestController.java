@@ -0,0 +1,91 @@
+package ma.enset.keynoteservice.web;
+
+import lombok.RequiredArgsConstructor;
+import ma.enset.keynoteservice.dto.KeynoteRequestDTO;
+import ma.enset.keynoteservice.dto.KeynoteResponseDTO;
+import ma.enset.keynoteservice.dto.KeynoteUpsertReportDTO;
+import ma.enset.keynoteservice.dto.OutboxPageDTO;
+import ma.enset.keynoteservice.outbox.KeynoteOutbox;
+import ma.enset.keynoteservice.services.KeynoteBulkService;
+import ma.enset.keynoteservice.services.ReactiveKeynoteService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+/**
+ * Contrat /api/keynotes du mode MVC servi par WebFlux (profil "reactive"). Le GET conditionnel
+ * est traité par WebFlux à partir de l'ETag et du Last-Modified de la réponse (304 sans corps).
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/keynotes")
+@RequiredArgsConstructor
+@CrossOrigin("*")
+public class ReactiveKeynoteRestController {
+
+    private final ReactiveKeynoteService service;
+    private final KeynoteBulkService bulkService;
+    private final KeynoteOutbox outbox;
+
+    @GetMapping
+    public Flux<KeynoteResponseDTO> all() {
+        return service.findAll();
+    }
+
+    @GetMapping(params = "ids")
+    public Flux<KeynoteResponseDTO> byIds(@RequestParam List<Long> ids) {
+        return service.findAllByIds(ids);
+    }
+
+    @GetMapping("/autocomplete")
+    public Mono<List<KeynoteResponseDTO>> autocomplete(@RequestParam(defaultValue = "") String q,
+                                                       @RequestParam(required = false) Integer limit) {
+        return service.autocomplete(q, limit);
+    }
+
+    // Lecture JPA de l'outbox, hors des threads d'E/S
+    @GetMapping("/outbox")
+    public Mono<OutboxPageDTO> outbox(@RequestParam(defaultValue = "0") long after,
+                                      @RequestParam(required = false) Integer limit) {
+        return Mono.fromCallable(() -> outbox.read(after, limit))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<KeynoteResponseDTO>> one(@PathVariable Long id) {
+        return service.findById(id)
+                .map(row -> ETags.ok(service.toDTO(row), row.getVersion(), row.getLastModified()));
+    }
+
+    @PostMapping
+    public Mono<KeynoteResponseDTO> create(@RequestBody KeynoteRequestDTO dto) {
+        return service.save(dto);
+    }
+
+    // Synchro CRM : traitement JPA par lots (batch JDBC), exécuté hors des threads d'E/S
+    @PostMapping("/bulk")
+    public Mono<KeynoteUpsertReportDTO> bulkUpsert(@RequestBody List<KeynoteRequestDTO> rows) {
+        return Mono.fromCallable(() -> bulkService.upsertAll(rows))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<KeynoteResponseDTO>> update(@PathVariable Long id,
+                                                           @RequestBody KeynoteRequestDTO dto,
+                                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return service.update(id, dto, ETags.expectedVersion(ifMatch))
+                .map(keynote -> ResponseEntity.ok().eTag(ETags.of(keynote.getVersion())).body(keynote));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<Void> delete(@PathVariable Long id,
+                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return service.delete(id, ETags.expectedVersion(ifMatch));
+    }
+}
@@ -0,0 +1,61 @@
+package ma.enset.keynoteservice;
+
+import ma.enset.keynoteservice.dto.KeynoteRequestDTO;
+import ma.enset.keynoteservice.dto.KeynoteUpsertReportDTO;
+import ma.enset.keynoteservice.dto.KeynoteUpsertResultDTO;
+import ma.enset.keynoteservice.enums.UpsertStatus;
+import ma.enset.keynoteservice.services.KeynoteBulkService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Upsert massif : un lot rejeté au flush est rejoué ligne par ligne, seule la ligne fautive
+ * échoue, et son message ne contient pas l'erreur SQL.
+ */
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.jpa.show-sql=false",
+        "spring.datasource.url=jdbc:h2:mem:keynote-bulk-db"
+})
+class KeynoteBulkUpsertTests {
+
+    @Autowired
+    private KeynoteBulkService bulkService;
+
+    @Test
+    void rejectedRowFailsAloneWithoutSqlDetails() {
+        KeynoteUpsertReportDTO report = bulkService.upsertAll(List.of(
+                keynote("Alaoui", "bulk.alaoui@enset.ma"),
+                // Trop long pour la colonne : refusé par la base au flush du lot
+                keynote("N".repeat(300), "bulk.long@enset.ma"),
+                keynote("Bennani", "bulk.bennani@enset.ma")));
+
+        assertEquals(2, report.getCreated());
+        assertEquals(1, report.getFailed());
+        KeynoteUpsertResultDTO rejected = report.getResults().get(1);
+        assertEquals(UpsertStatus.FAILED, rejected.getStatus());
+        assertEquals("Ligne rejetée par la base de données", rejected.getMessage());
+    }
+
+    @Test
+    void secondUpsertUpdatesOrLeavesUnchanged() {
+        bulkService.upsertAll(List.of(keynote("Chraibi", "bulk.chraibi@enset.ma"), keynote("Daoudi", "bulk.daoudi@enset.ma")));
+
+        KeynoteUpsertReportDTO report = bulkService.upsertAll(List.of(
+                keynote("Chraibi", "bulk.chraibi@enset.ma"),
+                keynote("Daoudi-Fassi", " bulk.daoudi@enset.ma ")));
+
+        assertEquals(UpsertStatus.UNCHANGED, report.getResults().get(0).getStatus());
+        assertEquals(UpsertStatus.UPDATED, report.getResults().get(1).getStatus());
+        assertEquals(Long.valueOf(1), report.getResults().get(1).getVersion());
+    }
+
+    private static KeynoteRequestDTO keynote(String nom, String email) {
+        return KeynoteRequestDTO.builder().nom(nom).prenom("Bulk").email(email).fonction("Speaker").build();
+    }
+}
@@ -0,0 +1,96 @@
+package ma.enset.keynoteservice;
+
+import ma.enset.keynoteservice.dto.KeynoteRequestDTO;
+import ma.enset.keynoteservice.services.KeynoteService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * ETags des keynotes (mode MVC) : 304 sur If-None-Match tant que la version n'a pas changé,
+ * 412 sur If-Match d'une version dépassée.
+ */
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.jpa.show-sql=false",
+        "spring.datasource.url=jdbc:h2:mem:keynote-etag-db"
+})
+class KeynoteETagTests {
+
+    private static final String UPDATE = """
+            {"nom":"Martin","prenom":"Claire","email":"claire.martin@example.org","fonction":"CTO"}""";
+
+    @Autowired
+    private WebApplicationContext context;
+    @Autowired
+    private KeynoteService keynoteService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    @Test
+    void unchangedKeynoteIsNotModifiedUntilUpdated() throws Exception {
+        Long id = createKeynote("etag.unchanged@example.org");
+        String before = etag(id);
+
+        mockMvc.perform(get("/api/keynotes/{id}", id).header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isNotModified());
+
+        String after = mockMvc.perform(put("/api/keynotes/{id}", id).header(HttpHeaders.IF_MATCH, before)
+                        .contentType(MediaType.APPLICATION_JSON).content(UPDATE))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(before, after);
+
+        mockMvc.perform(get("/api/keynotes/{id}", id).header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, after));
+    }
+
+    @Test
+    void staleIfMatchIsPreconditionFailed() throws Exception {
+        Long id = createKeynote("etag.stale@example.org");
+        String stale = etag(id);
+        keynoteService.update(id, KeynoteRequestDTO.builder()
+                .nom("Durand").prenom("Paul").email("etag.stale@example.org").fonction("Chercheur").build(), null);
+
+        mockMvc.perform(put("/api/keynotes/{id}", id).header(HttpHeaders.IF_MATCH, stale)
+                        .contentType(MediaType.APPLICATION_JSON).content(UPDATE))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete("/api/keynotes/{id}", id).header(HttpHeaders.IF_MATCH, stale))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(delete("/api/keynotes/{id}", id).header(HttpHeaders.IF_MATCH, etag(id)))
+                .andExpect(status().isOk());
+    }
+
+    private String etag(Long id) throws Exception {
+        String etag = mockMvc.perform(get("/api/keynotes/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        return etag;
+    }
+
+    private Long createKeynote(String email) {
+        return keynoteService.save(KeynoteRequestDTO.builder()
+                .nom("Durand").prenom("Paul").email(email).fonction("Chercheur").build()).getId();
+    }
+}
@@ -0,0 +1,100 @@
+package ma.enset.keynoteservice;
+
+import ma.enset.keynoteservice.dto.KeynoteRequestDTO;
+import ma.enset.keynoteservice.dto.OutboxEventDTO;
+import ma.enset.keynoteservice.dto.OutboxPageDTO;
+import ma.enset.keynoteservice.entities.OutboxCounter;
+import ma.enset.keynoteservice.outbox.KeynoteOutbox;
+import ma.enset.keynoteservice.repositories.OutboxCounterRepository;
+import ma.enset.keynoteservice.services.KeynoteService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Outbox des keynotes : ligne du compteur créée au démarrage, numéros sans trou ni doublon sous
+ * écritures concurrentes, et aucun numéro consommé par une écriture annulée.
+ */
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.jpa.show-sql=false",
+        "spring.datasource.url=jdbc:h2:mem:keynote-outbox-db"
+})
+class KeynoteOutboxTests {
+
+    private static final int WRITES = 200;
+    private static final int THREADS = 16;
+
+    @Autowired
+    private KeynoteOutbox outbox;
+    @Autowired
+    private OutboxCounterRepository counterRepository;
+    @Autowired
+    private KeynoteService keynoteService;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void counterRowIsSeededAtStartupWithAnEpoch() {
+        OutboxCounter counter = counterRepository.findById(OutboxCounter.ID).orElseThrow();
+        assertNotNull(counter.getEpoch());
+
+        OutboxPageDTO page = outbox.read(counter.getLastSequence(), null);
+        assertEquals(counter.getEpoch(), page.getEpoch());
+        assertTrue(page.getEvents().isEmpty());
+    }
+
+    @Test
+    void concurrentWritesGetContiguousSequences() throws Exception {
+        long before = outbox.read(0, 1).getHeadSequence();
+        List<Future<?>> futures = new ArrayList<>(WRITES);
+        try (ExecutorService pool = Executors.newFixedThreadPool(THREADS)) {
+            for (int i = 0; i < WRITES; i++) {
+                int n = i;
+                futures.add(pool.submit(() -> keynoteService.save(KeynoteRequestDTO.builder()
+                        .nom("Outbox").prenom("Writer " + n).email("writer" + n + "@enset.ma").fonction("Speaker")
+                        .build())));
+            }
+            for (Future<?> future : futures) {
+                future.get(); // propage la première erreur éventuelle
+            }
+        }
+
+        OutboxPageDTO page = outbox.read(before, WRITES);
+        assertEquals(before + WRITES, page.getHeadSequence());
+        List<Long> sequences = page.getEvents().stream().map(OutboxEventDTO::getSequence).toList();
+        assertEquals(WRITES, sequences.size());
+        for (int i = 0; i < WRITES; i++) {
+            assertEquals(Long.valueOf(before + 1 + i), sequences.get(i));
+        }
+    }
+
+    @Test
+    void rolledBackWriteConsumesNoSequence() {
+        long before = outbox.read(0, 1).getHeadSequence();
+
+        // L'incrément du compteur est annulé avec l'événement
+        transactionTemplate.executeWithoutResult(status -> {
+            outbox.deleted(999L);
+            status.setRollbackOnly();
+        });
+
+        OutboxPageDTO page = outbox.read(before, null);
+        assertEquals(before, page.getHeadSequence());
+        assertTrue(page.getEvents().isEmpty());
+    }
+
+    @Test
+    void appendOutsideTransactionIsRejected() {
+        assertThrows(IllegalStateException.class, () -> outbox.deleted(1L));
+    }
+}
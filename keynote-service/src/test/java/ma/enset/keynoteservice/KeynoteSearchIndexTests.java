@@ -0,0 +1,127 @@
+package ma.enset.keynoteservice;
+
+import ma.enset.keynoteservice.dto.KeynoteRequestDTO;
+import ma.enset.keynoteservice.dto.KeynoteResponseDTO;
+import ma.enset.keynoteservice.repositories.KeynoteRepository;
+import ma.enset.keynoteservice.search.KeynoteSearchIndex;
+import ma.enset.keynoteservice.services.KeynoteService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Autocomplétion : préfixes sans casse ni accents, plafond K, index tenu à jour après commit
+ * (création, modification, suppression) et inchangé après rollback, et repli SQL sur les mêmes
+ * correspondances que l'index.
+ */
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.jpa.show-sql=false",
+        "spring.datasource.url=jdbc:h2:mem:keynote-search-db"
+})
+class KeynoteSearchIndexTests {
+
+    @Autowired
+    private KeynoteSearchIndex searchIndex;
+    @Autowired
+    private KeynoteService keynoteService;
+    @Autowired
+    private KeynoteRepository repository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // Reconstruction de démarrage en arrière-plan : les tests lisent l'index en mémoire
+    @BeforeEach
+    void waitForIndex() throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!searchIndex.isReady() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(searchIndex.isReady());
+    }
+
+    @Test
+    void prefixMatchIgnoresCaseAndAccents() {
+        Long id = save("Lefèvre", "Élodie", "elodie.lefevre@example.org");
+
+        for (String query : List.of("elo", "ÉLO", "  Élodie ", "lefe", "LEFÈ", "elodie lef", "lefevre  elo", "elodie.l")) {
+            assertEquals(List.of(id), ids(searchIndex.suggest(query, 10)), query);
+        }
+        assertTrue(searchIndex.suggest("elodie x", 10).isEmpty());
+    }
+
+    @Test
+    void suggestionsAreCappedAtK() {
+        for (int i = 0; i < 6; i++) {
+            save("Quentel" + i, "Capucine", "capucine" + i + "@example.org");
+        }
+
+        assertEquals(6, searchIndex.suggest("capucine", 10).size());
+        assertEquals(3, searchIndex.suggest("capucine", 3).size());
+        assertEquals(2, keynoteService.autocomplete("capu", 2).size());
+    }
+
+    @Test
+    void indexFollowsCommittedSaveUpdateAndDelete() {
+        Long id = save("Zéphyr", "Anatole", "anatole.zephyr@example.org");
+        assertEquals(List.of(id), ids(searchIndex.suggest("zeph", 10)));
+
+        keynoteService.update(id, request("Yvonnet", "Anatole", "anatole.yvonnet@example.org"), null);
+        assertTrue(searchIndex.suggest("zeph", 10).isEmpty());
+        assertEquals(List.of(id), ids(searchIndex.suggest("yvonnet", 10)));
+
+        keynoteService.delete(id, null);
+        assertTrue(searchIndex.suggest("yvonnet", 10).isEmpty());
+        assertTrue(searchIndex.suggest("anatole", 10).isEmpty());
+    }
+
+    @Test
+    void rolledBackWritesLeaveTheIndexUnchanged() {
+        Long id = save("Ravel", "Bérénice", "berenice.ravel@example.org");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            keynoteService.save(request("Ombre", "Xavière", "xaviere.ombre@example.org"));
+            keynoteService.update(id, request("Autre", "Bérénice", "berenice.autre@example.org"), null);
+            status.setRollbackOnly();
+        });
+        assertTrue(searchIndex.suggest("xavi", 10).isEmpty());
+        assertEquals(List.of(id), ids(searchIndex.suggest("ravel", 10)));
+        assertTrue(searchIndex.suggest("autre", 10).isEmpty());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            keynoteService.delete(id, null);
+            status.setRollbackOnly();
+        });
+        assertEquals(List.of(id), ids(searchIndex.suggest("berenice", 10)));
+    }
+
+    @Test
+    void databaseFallbackMatchesLikeTheIndex() {
+        Long id = save("Noël", "Ophélie", "ophelie.noel@example.org");
+
+        for (String query : List.of("ophe", "OPHÉ", "noe", "NOËL")) {
+            List<Long> found = repository.findByPrefix(KeynoteSearchIndex.normalize(query), PageRequest.of(0, 10))
+                    .stream().map(k -> k.getId()).toList();
+            assertEquals(List.of(id), found, query);
+        }
+    }
+
+    private Long save(String nom, String prenom, String email) {
+        return keynoteService.save(request(nom, prenom, email)).getId();
+    }
+
+    private static KeynoteRequestDTO request(String nom, String prenom, String email) {
+        return KeynoteRequestDTO.builder().nom(nom).prenom(prenom).email(email).fonction("Chercheur").build();
+    }
+
+    private static List<Long> ids(List<KeynoteResponseDTO> keynotes) {
+        return keynotes.stream().map(KeynoteResponseDTO::getId).toList();
+    }
+}
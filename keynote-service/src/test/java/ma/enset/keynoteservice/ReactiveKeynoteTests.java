@@ -0,0 +1,179 @@
+package ma.enset.keynoteservice;
+
+import ma.enset.keynoteservice.dto.KeynoteRequestDTO;
+import ma.enset.keynoteservice.dto.KeynoteResponseDTO;
+import ma.enset.keynoteservice.search.KeynoteSearchIndex;
+import ma.enset.keynoteservice.services.ReactiveKeynoteService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Mode réactif (WebFlux + R2DBC) : même contrat /api/keynotes que le mode MVC (CRUD, 304 sur
+ * If-None-Match, 412 sur If-Match dépassé, autocomplétion), et index reconstruit par R2DBC.
+ */
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.jpa.show-sql=false",
+        "spring.main.web-application-type=reactive",
+        "spring.datasource.url=jdbc:h2:mem:keynote-reactive-db",
+        "spring.r2dbc.url=r2dbc:h2:mem:///keynote-reactive-db"
+})
+class ReactiveKeynoteTests {
+
+    @Autowired
+    private ApplicationContext context;
+    @Autowired
+    private ReactiveKeynoteService keynoteService;
+    @Autowired
+    private KeynoteSearchIndex searchIndex;
+
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        client = WebTestClient.bindToApplicationContext(context).build();
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!searchIndex.isReady() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(searchIndex.isReady());
+    }
+
+    @Test
+    void crudRoundTrip() {
+        KeynoteResponseDTO created = client.post().uri("/api/keynotes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request("Durand", "Paul", "reactive.crud@example.org"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(KeynoteResponseDTO.class).returnResult().getResponseBody();
+        assertNotNull(created);
+        assertNotNull(created.getId());
+
+        client.get().uri("/api/keynotes/{id}", created.getId()).exchange()
+                .expectStatus().isOk()
+                .expectBody(KeynoteResponseDTO.class)
+                .value(k -> assertEquals("reactive.crud@example.org", k.getEmail()));
+
+        client.put().uri("/api/keynotes/{id}", created.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request("Durand", "Paule", "reactive.crud@example.org"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(KeynoteResponseDTO.class)
+                .value(k -> assertEquals("Paule", k.getPrenom()));
+
+        client.post().uri("/api/keynotes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request("Autre", "Paul", "reactive.crud@example.org"))
+                .exchange()
+                .expectStatus().isEqualTo(409);
+
+        client.delete().uri("/api/keynotes/{id}", created.getId()).exchange()
+                .expectStatus().isOk();
+        client.get().uri(b -> b.path("/api/keynotes").queryParam("ids", created.getId()).build()).exchange()
+                .expectStatus().isOk()
+                .expectBodyList(KeynoteResponseDTO.class).hasSize(0);
+    }
+
+    @Test
+    void unchangedKeynoteIsNotModifiedUntilUpdated() {
+        Long id = create("Martin", "Claire", "reactive.etag@example.org");
+        String before = etag(id);
+
+        client.get().uri("/api/keynotes/{id}", id).header(HttpHeaders.IF_NONE_MATCH, before).exchange()
+                .expectStatus().isNotModified();
+
+        String after = client.put().uri("/api/keynotes/{id}", id).header(HttpHeaders.IF_MATCH, before)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request("Martin", "Claire", "reactive.etag@example.org"))
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(KeynoteResponseDTO.class).getResponseHeaders().getETag();
+        assertNotEquals(before, after);
+
+        client.get().uri("/api/keynotes/{id}", id).header(HttpHeaders.IF_NONE_MATCH, before).exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, after);
+    }
+
+    @Test
+    void staleIfMatchIsPreconditionFailed() {
+        Long id = create("Durand", "Paul", "reactive.stale@example.org");
+        String stale = etag(id);
+        keynoteService.update(id, request("Durand", "Pierre", "reactive.stale@example.org"), null).block();
+
+        client.put().uri("/api/keynotes/{id}", id).header(HttpHeaders.IF_MATCH, stale)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request("Durand", "Jacques", "reactive.stale@example.org"))
+                .exchange()
+                .expectStatus().isEqualTo(412);
+        client.delete().uri("/api/keynotes/{id}", id).header(HttpHeaders.IF_MATCH, stale).exchange()
+                .expectStatus().isEqualTo(412);
+
+        client.delete().uri("/api/keynotes/{id}", id).header(HttpHeaders.IF_MATCH, etag(id)).exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    void autocompleteFollowsWritesAndR2dbcRebuild() {
+        Long id = create("Lefèvre", "Élodie", "reactive.elodie@example.org");
+
+        assertEquals(List.of(id), autocomplete("elo"));
+
+        client.put().uri("/api/keynotes/{id}", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request("Lefèvre", "Noémie", "reactive.elodie@example.org"))
+                .exchange()
+                .expectStatus().isOk();
+        assertEquals(List.of(), autocomplete("elo"));
+        assertEquals(List.of(id), autocomplete("NOÉ"));
+
+        // Reconstruction complète par R2DBC : même contenu
+        searchIndex.rebuild(keynoteService.findAll()).block();
+        assertTrue(searchIndex.isReady());
+        assertEquals(List.of(id), autocomplete("noemie lef"));
+
+        client.delete().uri("/api/keynotes/{id}", id).exchange().expectStatus().isOk();
+        assertEquals(List.of(), autocomplete("noe"));
+    }
+
+    private List<Long> autocomplete(String q) {
+        List<KeynoteResponseDTO> found = client.get()
+                .uri(b -> b.path("/api/keynotes/autocomplete").queryParam("q", q).build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(KeynoteResponseDTO.class).returnResult().getResponseBody();
+        assertNotNull(found);
+        return found.stream().map(KeynoteResponseDTO::getId).toList();
+    }
+
+    private String etag(Long id) {
+        String etag = client.get().uri("/api/keynotes/{id}", id).exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.CACHE_CONTROL, "no-cache")
+                .returnResult(KeynoteResponseDTO.class).getResponseHeaders().getETag();
+        assertNotNull(etag);
+        return etag;
+    }
+
+    private Long create(String nom, String prenom, String email) {
+        KeynoteResponseDTO created = keynoteService.save(request(nom, prenom, email)).block();
+        assertNotNull(created);
+        return created.getId();
+    }
+
+    private static KeynoteRequestDTO request(String nom, String prenom, String email) {
+        return KeynoteRequestDTO.builder().nom(nom).prenom(prenom).email(email).fonction("Chercheur").build();
+    }
+}
@@ -0,0 +1,158 @@
+package ma.enset.loadbalancer;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.client.loadbalancer.TimedRequestContext;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * Choix d'instance « peak EWMA » + requêtes en cours, par tirage de deux instances au hasard
+ * (power of two choices) : on garde la moins coûteuse, coût = latence lissée × (en cours + 1).
+ * <ul>
+ *   <li>la latence lissée saute au pic dès qu'une réponse est plus lente, puis redescend
+ *       exponentiellement (constante {@code decay}), y compris sans trafic : une instance
+ *       écartée finit par être réessayée ;</li>
+ *   <li>un échec (exception, 5xx) compte comme une réponse de {@code failure-penalty} ;</li>
+ *   <li>la même instance sert de {@link LoadBalancerLifecycle} : la gateway comme Feign
+ *       l'appellent au départ et à la fin de chaque requête.</li>
+ * </ul>
+ * Partagé par conference-service et gateway-service ; horloge et tirage sont injectables pour
+ * les tests.
+ */
+public class LatencyAwareLoadBalancer implements ReactorServiceInstanceLoadBalancer,
+        LoadBalancerLifecycle<RequestDataContext, ResponseData, ServiceInstance> {
+
+    // Plancher : une instance neuve ou inactive reste départagée par ses requêtes en cours
+    private static final long MIN_LATENCY_NANOS = Duration.ofMillis(1).toNanos();
+
+    private final ObjectProvider<ServiceInstanceListSupplier> suppliers;
+    private final double decayNanos;
+    private final long failurePenaltyNanos;
+    // Requête sans fin signalée (annulation côté client) : compteur remis à zéro après ce délai
+    private final long staleAfterNanos;
+    private final LongSupplier nanoClock;
+    private final RandomGenerator random;
+    private final Map<String, InstanceStats> stats = new ConcurrentHashMap<>();
+
+    public LatencyAwareLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> suppliers,
+                                    Duration decay, Duration failurePenalty) {
+        // Tirage délégué au générateur du thread appelant
+        this(suppliers, decay, failurePenalty, System::nanoTime, () -> ThreadLocalRandom.current().nextLong());
+    }
+
+    public LatencyAwareLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> suppliers,
+                                    Duration decay, Duration failurePenalty,
+                                    LongSupplier nanoClock, RandomGenerator random) {
+        this.suppliers = suppliers;
+        this.nanoClock = nanoClock;
+        this.random = random;
+        this.decayNanos = decay.toNanos();
+        this.failurePenaltyNanos = failurePenalty.toNanos();
+        this.staleAfterNanos = decay.multipliedBy(6).toNanos();
+    }
+
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = suppliers.getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request).next().map(this::select);
+    }
+
+    private Response<ServiceInstance> select(List<ServiceInstance> instances) {
+        if (instances.isEmpty()) return new EmptyResponse();
+        if (instances.size() == 1) return new DefaultResponse(instances.get(0));
+
+        int first = random.nextInt(instances.size());
+        int second = random.nextInt(instances.size() - 1);
+        if (second >= first) second++;
+
+        long now = nanoClock.getAsLong();
+        ServiceInstance a = instances.get(first);
+        ServiceInstance b = instances.get(second);
+        return new DefaultResponse(statsOf(a).cost(now) <= statsOf(b).cost(now) ? a : b);
+    }
+
+    @Override
+    public void onStartRequest(Request<RequestDataContext> request, Response<ServiceInstance> lbResponse) {
+        if (!lbResponse.hasServer()) return;
+        if (request.getContext() instanceof TimedRequestContext timed) {
+            timed.setRequestStartTime(nanoClock.getAsLong());
+        }
+        statsOf(lbResponse.getServer()).started();
+    }
+
+    @Override
+    public void onComplete(CompletionContext<ResponseData, ServiceInstance, RequestDataContext> completion) {
+        Response<ServiceInstance> lbResponse = completion.getLoadBalancerResponse();
+        if (lbResponse == null || !lbResponse.hasServer()
+                || completion.status() == CompletionContext.Status.DISCARD) {
+            return;
+        }
+        long now = nanoClock.getAsLong();
+        long latency = failurePenaltyNanos;
+        boolean failed = completion.status() == CompletionContext.Status.FAILED
+                || (completion.getClientResponse() != null && completion.getClientResponse().getHttpStatus() != null
+                && completion.getClientResponse().getHttpStatus().is5xxServerError());
+        Object context = completion.getLoadBalancerRequest() == null ? null
+                : completion.getLoadBalancerRequest().getContext();
+        if (!failed && context instanceof TimedRequestContext timed && timed.getRequestStartTime() > 0) {
+            latency = now - timed.getRequestStartTime();
+        }
+        statsOf(lbResponse.getServer()).completed(latency, now);
+    }
+
+    private InstanceStats statsOf(ServiceInstance instance) {
+        String key = instance.getInstanceId() != null ? instance.getInstanceId()
+                : instance.getHost() + ":" + instance.getPort();
+        return stats.computeIfAbsent(key, k -> new InstanceStats());
+    }
+
+    private final class InstanceStats {
+
+        private double ewma;
+        private long stamp = nanoClock.getAsLong();
+        private int outstanding;
+        private long lastActivity = stamp;
+
+        synchronized double cost(long now) {
+            if (outstanding > 0 && now - lastActivity > staleAfterNanos) outstanding = 0;
+            double decayed = ewma * Math.exp(-(now - stamp) / decayNanos);
+            return (decayed + MIN_LATENCY_NANOS) * (outstanding + 1);
+        }
+
+        synchronized void started() {
+            outstanding++;
+            lastActivity = nanoClock.getAsLong();
+        }
+
+        synchronized void completed(long latency, long now) {
+            if (outstanding > 0) outstanding--;
+            if (latency > ewma) {
+                ewma = latency;
+            } else {
+                double weight = Math.exp(-(now - stamp) / decayNanos);
+                ewma = ewma * weight + latency * (1 - weight);
+            }
+            stamp = now;
+            lastActivity = now;
+        }
+    }
+}
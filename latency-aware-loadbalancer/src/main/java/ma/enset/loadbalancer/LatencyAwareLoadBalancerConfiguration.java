@@ -0,0 +1,25 @@
+package ma.enset.loadbalancer;
+
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * Configuration par service du LoadBalancer (référencée par @LoadBalancerClients) : volontairement
+ * sans @Configuration, elle ne doit pas être chargée dans le contexte principal.
+ * Type de retour concret : le même bean est trouvé comme ReactorLoadBalancer et comme LoadBalancerLifecycle.
+ */
+public class LatencyAwareLoadBalancerConfiguration {
+
+    @Bean
+    LatencyAwareLoadBalancer latencyAwareLoadBalancer(Environment environment, LoadBalancerClientFactory factory) {
+        String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        return new LatencyAwareLoadBalancer(
+                factory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class),
+                environment.getProperty("loadbalancer.latency-aware.decay", Duration.class, Duration.ofSeconds(10)),
+                environment.getProperty("loadbalancer.latency-aware.failure-penalty", Duration.class, Duration.ofSeconds(1)));
+    }
+}
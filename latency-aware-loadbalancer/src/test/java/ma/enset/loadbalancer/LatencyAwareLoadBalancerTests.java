@@ -0,0 +1,131 @@
+package ma.enset.loadbalancer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Choix d'instance piloté par une horloge simulée et des latences injectées : aucun appel réseau
+ * ni sleep, le résultat ne dépend pas de la charge de la machine de test.
+ */
+class LatencyAwareLoadBalancerTests {
+
+    private static final Duration DECAY = Duration.ofSeconds(10);
+    private static final Duration FAILURE_PENALTY = Duration.ofSeconds(1);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final Map<String, Integer> hits = new HashMap<>();
+
+    @Test
+    void slowInstanceIsAvoided() {
+        LatencyAwareLoadBalancer balancer = balancer("fast-1", "fast-2", "slow");
+        Map<String, Long> latencies = Map.of("fast-1", 5L, "fast-2", 5L, "slow", 120L);
+
+        calls(balancer, 600, latencies);
+
+        assertEquals(600, hits.values().stream().mapToInt(Integer::intValue).sum());
+        assertTrue(hits.getOrDefault("slow", 0) <= 6, "slow instance received " + hits.get("slow") + " calls");
+    }
+
+    @Test
+    void recoveredInstanceIsRetriedOnceItsPeakHasDecayed() {
+        LatencyAwareLoadBalancer balancer = balancer("fast-1", "fast-2", "slow");
+        calls(balancer, 300, Map.of("fast-1", 5L, "fast-2", 5L, "slow", 120L));
+
+        // Sans trafic, la latence lissée redescend ; l'instance, rétablie, est réessayée
+        clock.addAndGet(DECAY.multipliedBy(6).toNanos());
+        hits.clear();
+        calls(balancer, 300, Map.of("fast-1", 5L, "fast-2", 5L, "slow", 5L));
+
+        assertTrue(hits.getOrDefault("slow", 0) >= 60, "recovered instance received " + hits.get("slow") + " calls");
+    }
+
+    @Test
+    void outstandingRequestsSpreadLoadBetweenEqualInstances() {
+        LatencyAwareLoadBalancer balancer = balancer("a", "b");
+
+        // Requêtes démarrées sans fin : le coût de chaque instance croît avec ses requêtes en cours
+        for (int i = 0; i < 10; i++) {
+            start(balancer);
+        }
+
+        assertEquals(Map.of("a", 5, "b", 5), hits);
+    }
+
+    @Test
+    void failedInstanceIsAvoided() {
+        LatencyAwareLoadBalancer balancer = balancer("a", "b");
+        calls(balancer, 20, Map.of("a", 5L, "b", 5L));
+
+        // Un échec compte comme une réponse de failure-penalty
+        DefaultRequest<RequestDataContext> request = new DefaultRequest<>(new RequestDataContext());
+        Response<ServiceInstance> a = new DefaultResponse(instance("a"));
+        balancer.onStartRequest(request, a);
+        balancer.onComplete(new CompletionContext<>(CompletionContext.Status.FAILED, request, a));
+
+        hits.clear();
+        calls(balancer, 100, Map.of("a", 5L, "b", 5L));
+
+        assertEquals(Map.of("b", 100), hits);
+    }
+
+    private void calls(LatencyAwareLoadBalancer balancer, int count, Map<String, Long> latenciesMs) {
+        for (int i = 0; i < count; i++) {
+            DefaultRequest<RequestDataContext> request = new DefaultRequest<>(new RequestDataContext());
+            Response<ServiceInstance> response = balancer.choose(request).block();
+            String id = response.getServer().getInstanceId();
+            hits.merge(id, 1, Integer::sum);
+            balancer.onStartRequest(request, response);
+            clock.addAndGet(Duration.ofMillis(latenciesMs.get(id)).toNanos());
+            balancer.onComplete(new CompletionContext<>(CompletionContext.Status.SUCCESS, request, response));
+        }
+    }
+
+    private void start(LatencyAwareLoadBalancer balancer) {
+        DefaultRequest<RequestDataContext> request = new DefaultRequest<>(new RequestDataContext());
+        Response<ServiceInstance> response = balancer.choose(request).block();
+        hits.merge(response.getServer().getInstanceId(), 1, Integer::sum);
+        balancer.onStartRequest(request, response);
+    }
+
+    private LatencyAwareLoadBalancer balancer(String... instanceIds) {
+        List<ServiceInstance> instances = Arrays.stream(instanceIds).map(LatencyAwareLoadBalancerTests::instance).toList();
+        ServiceInstanceListSupplier supplier = new ServiceInstanceListSupplier() {
+            @Override
+            public String getServiceId() {
+                return "keynote-service";
+            }
+
+            @Override
+            public Flux<List<ServiceInstance>> get() {
+                return Flux.just(instances);
+            }
+        };
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("instances", supplier));
+        return new LatencyAwareLoadBalancer(beanFactory.getBeanProvider(ServiceInstanceListSupplier.class),
+                DECAY, FAILURE_PENALTY, clock::get, new SplittableRandom(42));
+    }
+
+    private static ServiceInstance instance(String id) {
+        return new DefaultServiceInstance(id, "keynote-service", id + ".local", 8081, false);
+    }
+}
@@ -10,6 +10,7 @@ function ConferenceDetail() {
   const [reviews, setReviews] = useState([]);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState(null);
+  const [partialErrors, setPartialErrors] = useState({});
   const [showReviewForm, setShowReviewForm] = useState(false);
   const [newReview, setNewReview] = useState({
     date: new Date().toISOString().split('T')[0],
@@ -18,15 +19,17 @@ function ConferenceDetail() {
   });
 
   useEffect(() => {
-    fetchConference();
-    fetchReviews();
+    fetchDetail();
   }, [id]);
 
-  const fetchConference = async () => {
+  // Conference, keynote and reviews in one gateway call; a failed part comes back null
+  const fetchDetail = async () => {
     try {
       setLoading(true);
-      const response = await conferenceService.getByIdWithKeynote(id);
-      setConference(response.data);
+      const { data } = await conferenceService.getDetail(id);
+      setConference(data.conference ? { ...data.conference, keynote: data.keynote } : null);
+      setReviews(data.reviews || []);
+      setPartialErrors(data.errors || {});
     } catch (err) {
       console.error('Error fetching conference:', err);
       setError('Impossible de charger la conférence.');
@@ -35,23 +38,13 @@ function ConferenceDetail() {
     }
   };
 
-  const fetchReviews = async () => {
-    try {
-      const response = await conferenceService.getReviews(id);
-      setReviews(response.data);
-    } catch (err) {
-      console.error('Error fetching reviews:', err);
-    }
-  };
-
   const handleAddReview = async (e) => {
     e.preventDefault();
     try {
       await conferenceService.addReview(id, newReview);
       setNewReview({ date: new Date().toISOString().split('T')[0], texte: '', note: 5 });
       setShowReviewForm(false);
-      fetchReviews();
-      fetchConference();
+      fetchDetail();
     } catch (err) {
       console.error('Error adding review:', err);
       setError('Erreur lors de l\'ajout de la review.');
@@ -62,8 +55,7 @@ function ConferenceDetail() {
     if (window.confirm('Supprimer cette review ?')) {
       try {
         await conferenceService.deleteReview(reviewId);
-        fetchReviews();
-        fetchConference();
+        fetchDetail();
       } catch (err) {
         console.error('Error deleting review:', err);
       }
@@ -96,7 +88,11 @@ function ConferenceDetail() {
   }
 
   if (!conference) {
-    return <Alert variant="danger">Conférence non trouvée.</Alert>;
+    return (
+      <Alert variant="danger">
+        {partialErrors.conference ? 'Conférence indisponible (service indisponible).' : 'Conférence non trouvée.'}
+      </Alert>
+    );
   }
 
   return (
@@ -224,7 +220,9 @@ function ConferenceDetail() {
           )}
 
           {/* Reviews List */}
-          {reviews.length === 0 ? (
+          {partialErrors.reviews ? (
+            <Alert variant="warning">Reviews indisponibles pour le moment.</Alert>
+          ) : reviews.length === 0 ? (
             <Alert variant="info">Aucune review pour cette conférence.</Alert>
           ) : (
             <ListGroup>
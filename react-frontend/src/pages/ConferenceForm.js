@@ -1,6 +1,6 @@
 import React, { useState, useEffect } from 'react';
 import { useParams, useNavigate } from 'react-router-dom';
-import { Card, Button, Form, Row, Col, Alert, Spinner } from 'react-bootstrap';
+import { Card, Button, Form, Row, Col, Alert, Spinner, ListGroup } from 'react-bootstrap';
 import { conferenceService, keynoteService } from '../services/api';
 
 function ConferenceForm() {
@@ -11,7 +11,9 @@ function ConferenceForm() {
   const [loading, setLoading] = useState(false);
   const [saving, setSaving] = useState(false);
   const [error, setError] = useState(null);
-  const [keynotes, setKeynotes] = useState([]);
+  const [keynoteQuery, setKeynoteQuery] = useState('');
+  const [suggestions, setSuggestions] = useState([]);
+  const [etag, setEtag] = useState(null);
   const [conference, setConference] = useState({
     titre: '',
     type: 'ACADEMIQUE',
@@ -23,26 +25,62 @@ function ConferenceForm() {
   });
 
   useEffect(() => {
-    fetchKeynotes();
     if (isEdit) {
       fetchConference();
     }
   }, [id]);
 
-  const fetchKeynotes = async () => {
+  // Autocomplétion : une requête par frappe (après 200 ms sans saisie), jamais la liste complète
+  useEffect(() => {
+    const query = keynoteQuery.trim();
+    if (query.length < 2 || keynoteQuery === keynoteLabel(conference.keynote)) {
+      setSuggestions([]);
+      return undefined;
+    }
+    const timer = setTimeout(async () => {
+      try {
+        const response = await keynoteService.autocomplete(query, 8);
+        setSuggestions(response.data);
+      } catch (err) {
+        console.error('Error fetching keynote suggestions:', err);
+      }
+    }, 200);
+    return () => clearTimeout(timer);
+  }, [keynoteQuery]);
+
+  const keynoteLabel = (keynote) => (keynote ? `${keynote.prenom} ${keynote.nom}` : '');
+
+  const fetchSelectedKeynote = async (keynoteId) => {
     try {
-      const response = await keynoteService.getAll();
-      setKeynotes(response.data);
+      const response = await keynoteService.getById(keynoteId);
+      setConference((current) => ({ ...current, keynote: response.data }));
+      setKeynoteQuery(keynoteLabel(response.data));
     } catch (err) {
-      console.error('Error fetching keynotes:', err);
+      console.error('Error fetching keynote:', err);
     }
   };
 
+  const selectKeynote = (keynote) => {
+    setConference((current) => ({ ...current, keynoteId: keynote.id, keynote }));
+    setKeynoteQuery(keynoteLabel(keynote));
+    setSuggestions([]);
+  };
+
+  const handleKeynoteQueryChange = (e) => {
+    setKeynoteQuery(e.target.value);
+    // Le texte ne correspond plus au keynote choisi
+    setConference((current) => ({ ...current, keynoteId: '', keynote: null }));
+  };
+
   const fetchConference = async () => {
     try {
       setLoading(true);
       const response = await conferenceService.getById(id);
       setConference(response.data);
+      setEtag(response.headers.etag);
+      if (response.data.keynoteId) {
+        fetchSelectedKeynote(response.data.keynoteId);
+      }
     } catch (err) {
       console.error('Error fetching conference:', err);
       setError('Impossible de charger la conférence.');
@@ -69,20 +107,23 @@ function ConferenceForm() {
       setSaving(true);
       setError(null);
 
+      const { keynote, ...fields } = conference;
       const conferenceData = {
-        ...conference,
+        ...fields,
         keynoteId: conference.keynoteId || null,
       };
 
       if (isEdit) {
-        await conferenceService.update(id, conferenceData);
+        await conferenceService.update(id, conferenceData, etag);
       } else {
         await conferenceService.create(conferenceData);
       }
       navigate('/conferences');
     } catch (err) {
       console.error('Error saving conference:', err);
-      setError('Erreur lors de la sauvegarde de la conférence.');
+      setError(err.response?.status === 412
+        ? 'La conférence a été modifiée entre-temps. Rechargez la page avant de sauvegarder.'
+        : 'Erreur lors de la sauvegarde de la conférence.');
     } finally {
       setSaving(false);
     }
@@ -182,16 +223,25 @@ function ConferenceForm() {
 
             <Row>
               <Col md={6}>
-                <Form.Group className="mb-3">
+                <Form.Group className="mb-3 position-relative">
                   <Form.Label>Keynote</Form.Label>
-                  <Form.Select name="keynoteId" value={conference.keynoteId || ''} onChange={handleChange}>
-                    <option value="">-- Sélectionner un keynote --</option>
-                    {keynotes.map((keynote) => (
-                      <option key={keynote.id} value={keynote.id}>
-                        {keynote.prenom} {keynote.nom} ({keynote.fonction})
-                      </option>
-                    ))}
-                  </Form.Select>
+                  <Form.Control
+                    type="text"
+                    value={keynoteQuery}
+                    onChange={handleKeynoteQueryChange}
+                    placeholder="Rechercher par nom, prénom ou email"
+                    autoComplete="off"
+                  />
+                  {suggestions.length > 0 && (
+                    <ListGroup className="position-absolute shadow-sm" style={{ zIndex: 10 }}>
+                      {suggestions.map((keynote) => (
+                        <ListGroup.Item key={keynote.id} action onClick={() => selectKeynote(keynote)}>
+                          {keynote.prenom} {keynote.nom}
+                          <small className="text-muted ms-2">{keynote.email}</small>
+                        </ListGroup.Item>
+                      ))}
+                    </ListGroup>
+                  )}
                 </Form.Group>
               </Col>
               <Col md={6}>
@@ -5,30 +5,28 @@ import { conferenceService } from '../services/api';
 
 function ConferenceList() {
   const [conferences, setConferences] = useState([]);
-  const [filteredConferences, setFilteredConferences] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
   const [loading, setLoading] = useState(true);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [error, setError] = useState(null);
   const [filterType, setFilterType] = useState('ALL');
 
   useEffect(() => {
     fetchConferences();
-  }, []);
+    // eslint-disable-next-line react-hooks/exhaustive-deps
+  }, [filterType]);
 
-  useEffect(() => {
-    if (filterType === 'ALL') {
-      setFilteredConferences(conferences);
-    } else {
-      setFilteredConferences(conferences.filter(c => c.type === filterType));
-    }
-  }, [filterType, conferences]);
+  const fetchPage = (cursor) => (filterType === 'ALL'
+    ? conferenceService.getAll({ cursor })
+    : conferenceService.getByType(filterType, { cursor }));
 
   const fetchConferences = async () => {
     try {
       setLoading(true);
       setError(null);
-      const response = await conferenceService.getAll();
-      setConferences(response.data);
-      setFilteredConferences(response.data);
+      const response = await fetchPage(null);
+      setConferences(response.data.items);
+      setNextCursor(response.data.nextCursor);
     } catch (err) {
       console.error('Error fetching conferences:', err);
       setError('Impossible de charger les conférences. Vérifiez que le service est démarré.');
@@ -37,6 +35,20 @@ function ConferenceList() {
     }
   };
 
+  const fetchMore = async () => {
+    try {
+      setLoadingMore(true);
+      const response = await fetchPage(nextCursor);
+      setConferences((previous) => [...previous, ...response.data.items]);
+      setNextCursor(response.data.nextCursor);
+    } catch (err) {
+      console.error('Error fetching conferences:', err);
+      setError('Impossible de charger la suite des conférences.');
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const handleDelete = async (id) => {
     if (window.confirm('Êtes-vous sûr de vouloir supprimer cette conférence ?')) {
       try {
@@ -90,7 +102,7 @@ function ConferenceList() {
             </Col>
             <Col sm={6}>
               <Badge bg="secondary" className="me-2">
-                Total : {filteredConferences.length} conférence(s)
+                Affichées : {conferences.length} conférence(s)
               </Badge>
             </Col>
           </Form.Group>
@@ -98,14 +110,14 @@ function ConferenceList() {
       </Card>
 
       {/* Conference Cards */}
-      {filteredConferences.length === 0 ? (
+      {conferences.length === 0 ? (
         <Alert variant="info">
           Aucune conférence trouvée.
           <Link to="/conferences/new" className="ms-2">Créer une nouvelle conférence</Link>
         </Alert>
       ) : (
         <Row>
-          {filteredConferences.map((conference) => (
+          {conferences.map((conference) => (
             <Col md={6} lg={4} key={conference.id}>
               <Card className={`conference-card ${conference.type?.toLowerCase()}`}>
                 <Card.Body>
@@ -153,6 +165,14 @@ function ConferenceList() {
           ))}
         </Row>
       )}
+
+      {nextCursor && (
+        <div className="text-center mb-4">
+          <Button variant="outline-primary" onClick={fetchMore} disabled={loadingMore}>
+            {loadingMore ? 'Chargement...' : 'Charger plus'}
+          </Button>
+        </div>
+      )}
     </div>
   );
 }
@@ -10,6 +10,7 @@ function Home() {
     reviews: 0,
   });
   const [recentConferences, setRecentConferences] = useState([]);
+  const [topConferences, setTopConferences] = useState([]);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState(null);
 
@@ -22,30 +23,34 @@ function Home() {
       setLoading(true);
       setError(null);
 
-      const [conferencesRes, keynotesRes] = await Promise.all([
-        conferenceService.getAll(),
+      const [conferencesRes, keynotesRes, statisticsRes, leaderboardRes] = await Promise.all([
+        conferenceService.getAll({ size: 3, reviews: 'NONE' }),
         keynoteService.getAll(),
+        conferenceService.getStatisticsByType(),
+        conferenceService.getLeaderboard({ limit: 5 }),
       ]);
 
-      const conferences = conferencesRes.data;
+      const conferences = conferencesRes.data.items;
       const keynotes = keynotesRes.data;
 
-      // Calculate total reviews
-      let totalReviews = 0;
-      conferences.forEach(conf => {
-        if (conf.reviews) {
-          totalReviews += conf.reviews.length;
-        }
-      });
+      // Totals maintained server-side: sum of the per-type statistics
+      const totals = statisticsRes.data.reduce(
+        (acc, s) => ({
+          conferences: acc.conferences + s.conferenceCount,
+          reviews: acc.reviews + s.reviewCount,
+        }),
+        { conferences: 0, reviews: 0 }
+      );
 
       setStats({
-        conferences: conferences.length,
+        conferences: totals.conferences,
         keynotes: keynotes.length,
-        reviews: totalReviews,
+        reviews: totals.reviews,
       });
 
       // Get last 3 conferences
       setRecentConferences(conferences.slice(0, 3));
+      setTopConferences(leaderboardRes.data);
 
     } catch (err) {
       console.error('Error fetching data:', err);
@@ -130,6 +135,33 @@ function Home() {
         </Col>
       </Row>
 
+      {/* Top Conferences */}
+      <Row className="mb-4">
+        <Col>
+          <Card>
+            <Card.Header>
+              <h5 className="mb-0">🏆 Meilleures Conférences</h5>
+            </Card.Header>
+            <Card.Body>
+              {topConferences.length === 0 ? (
+                <p className="text-muted text-center">Aucune conférence notée</p>
+              ) : (
+                <ol className="mb-0">
+                  {topConferences.map((entry) => (
+                    <li key={entry.conferenceId}>
+                      <Link to={`/conferences/${entry.conferenceId}`}>{entry.titre}</Link>{' '}
+                      <small className="text-muted">
+                        ⭐ {entry.score} | 👥 {entry.nombreInscrits} inscrits
+                      </small>
+                    </li>
+                  ))}
+                </ol>
+              )}
+            </Card.Body>
+          </Card>
+        </Col>
+      </Row>
+
       {/* Recent Conferences */}
       <Row>
         <Col>
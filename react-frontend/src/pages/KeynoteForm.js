@@ -11,6 +11,7 @@ function KeynoteForm() {
   const [loading, setLoading] = useState(false);
   const [saving, setSaving] = useState(false);
   const [error, setError] = useState(null);
+  const [etag, setEtag] = useState(null);
   const [keynote, setKeynote] = useState({
     nom: '',
     prenom: '',
@@ -29,6 +30,7 @@ function KeynoteForm() {
       setLoading(true);
       const response = await keynoteService.getById(id);
       setKeynote(response.data);
+      setEtag(response.headers.etag);
     } catch (err) {
       console.error('Error fetching keynote:', err);
       setError('Impossible de charger le keynote.');
@@ -52,14 +54,16 @@ function KeynoteForm() {
       setError(null);
 
       if (isEdit) {
-        await keynoteService.update(id, keynote);
+        await keynoteService.update(id, keynote, etag);
       } else {
         await keynoteService.create(keynote);
       }
       navigate('/keynotes');
     } catch (err) {
       console.error('Error saving keynote:', err);
-      setError('Erreur lors de la sauvegarde du keynote.');
+      setError(err.response?.status === 412
+        ? 'Le keynote a été modifié entre-temps. Rechargez la page avant de sauvegarder.'
+        : 'Erreur lors de la sauvegarde du keynote.');
     } finally {
       setSaving(false);
     }
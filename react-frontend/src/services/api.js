@@ -25,11 +25,22 @@ const keynoteApi = axios.create({
   },
 });
 
+// Endpoints propres à la gateway (agrégation de plusieurs services)
+const gatewayApi = axios.create({
+  baseURL: `${GATEWAY_URL}/api`,
+  headers: {
+    'Content-Type': 'application/json',
+  },
+});
+
 // ==================== Conference Service ====================
 
 export const conferenceService = {
-  // Get all conferences
-  getAll: () => conferenceApi.get('/conferences'),
+  // Get a page of conferences ({ sort, cursor, size }) -> { items, size, nextCursor }
+  getAll: (params) => conferenceApi.get('/conferences', { params }),
+
+  // Get a page of conferences with their keynote details (one keynote lookup per page)
+  getAllWithKeynotes: (params) => conferenceApi.get('/conferences/full', { params }),
 
   // Get conference by ID
   getById: (id) => conferenceApi.get(`/conferences/${id}`),
@@ -37,17 +48,22 @@ export const conferenceService = {
   // Get conference with keynote details
   getByIdWithKeynote: (id) => conferenceApi.get(`/conferences/${id}/full`),
 
-  // Get conferences by type
-  getByType: (type) => conferenceApi.get(`/conferences/type/${type}`),
+  // Detail page in one gateway call -> { conference, keynote, reviews, errors, partial }
+  // (a failed part is null and explained in errors; 404 if the conference does not exist)
+  getDetail: (id) => gatewayApi.get(`/conference-details/${id}`),
 
-  // Get conferences by keynote
-  getByKeynoteId: (keynoteId) => conferenceApi.get(`/conferences/keynote/${keynoteId}`),
+  // Get a page of conferences by type
+  getByType: (type, params) => conferenceApi.get(`/conferences/type/${type}`, { params }),
+
+  // Get a page of conferences by keynote
+  getByKeynoteId: (keynoteId, params) => conferenceApi.get(`/conferences/keynote/${keynoteId}`, { params }),
 
   // Create conference
   create: (conference) => conferenceApi.post('/conferences', conference),
 
-  // Update conference
-  update: (id, conference) => conferenceApi.put(`/conferences/${id}`, conference),
+  // Update conference (etag: ETag read with the conference, sent as If-Match -> 412 if it changed meanwhile)
+  update: (id, conference, etag) =>
+    conferenceApi.put(`/conferences/${id}`, conference, { headers: etag ? { 'If-Match': etag } : {} }),
 
   // Delete conference
   delete: (id) => conferenceApi.delete(`/conferences/${id}`),
@@ -60,6 +76,15 @@ export const conferenceService = {
 
   // Delete review
   deleteReview: (reviewId) => conferenceApi.delete(`/conferences/reviews/${reviewId}`),
+
+  // Best-rated conferences ({ type, limit }) -> [{ rank, conferenceId, titre, type, score, nombreInscrits }]
+  getLeaderboard: (params) => conferenceApi.get('/conferences/leaderboard', { params }),
+
+  // Statistics per type -> [{ key, conferenceCount, averageScore, totalInscrits, reviewCount }]
+  getStatisticsByType: () => conferenceApi.get('/conferences/statistics/types'),
+
+  // Statistics for one keynote
+  getStatisticsByKeynoteId: (keynoteId) => conferenceApi.get(`/conferences/statistics/keynotes/${keynoteId}`),
 };
 
 // ==================== Keynote Service ====================
@@ -71,11 +96,18 @@ export const keynoteService = {
   // Get keynote by ID
   getById: (id) => keynoteApi.get(`/keynotes/${id}`),
 
+  // Typeahead: keynotes whose nom, prenom or email starts with the query (at most limit)
+  autocomplete: (q, limit = 10) => keynoteApi.get('/keynotes/autocomplete', { params: { q, limit } }),
+
+  // Get several keynotes in one request
+  getByIds: (ids) => keynoteApi.get('/keynotes', { params: { ids: ids.join(',') } }),
+
   // Create keynote
   create: (keynote) => keynoteApi.post('/keynotes', keynote),
 
-  // Update keynote
-  update: (id, keynote) => keynoteApi.put(`/keynotes/${id}`, keynote),
+  // Update keynote (etag sent as If-Match -> 412 if it changed meanwhile)
+  update: (id, keynote, etag) =>
+    keynoteApi.put(`/keynotes/${id}`, keynote, { headers: etag ? { 'If-Match': etag } : {} }),
 
   // Delete keynote
   delete: (id) => keynoteApi.delete(`/keynotes/${id}`),
@@ -8,6 +8,12 @@ Write-Host ""
 
 $baseDir = "C:\Users\PC\Desktop\conference-management"
 
+# 0. Bibliothèque partagée (LoadBalancer de conference-service et gateway-service)
+Write-Host "0️⃣  Installation de latency-aware-loadbalancer..." -ForegroundColor Yellow
+Push-Location "$baseDir\latency-aware-loadbalancer"
+mvn -q install
+Pop-Location
+
 # 1. Discovery Service (Eureka)
 Write-Host "1️⃣  Démarrage Discovery Service (Eureka - Port 8761)..." -ForegroundColor Yellow
 Start-Process powershell -ArgumentList "-NoExit", "-Command", "cd '$baseDir\discovery-service-d'; .\mvnw.cmd spring-boot:run"